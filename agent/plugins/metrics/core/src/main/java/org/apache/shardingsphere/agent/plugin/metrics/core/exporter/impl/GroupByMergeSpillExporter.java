@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillCounter;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Group by merge spill exporter.
+ */
+public final class GroupByMergeSpillExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("group_by_merge_spill",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Group by merged rows spilled to disk. spilled_query_count, spilled_row_count and spilled_bytes are counted since startup",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("spilled_query_count"), GroupBySpillCounter.getSpilledQueryCount());
+        result.addMetric(Collections.singletonList("spilled_row_count"), GroupBySpillCounter.getSpilledRowCount());
+        result.addMetric(Collections.singletonList("spilled_bytes"), GroupBySpillCounter.getSpilledBytes());
+        return Optional.of(result);
+    }
+}
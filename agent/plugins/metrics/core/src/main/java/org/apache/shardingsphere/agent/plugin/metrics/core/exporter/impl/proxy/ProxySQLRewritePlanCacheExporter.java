@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCache;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCacheRuleAttribute;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy SQL rewrite plan cache exporter.
+ */
+public final class ProxySQLRewritePlanCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sql_rewrite_plan_cache",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "SQL rewrite plan cache of ShardingSphere-Proxy. hit_count, miss_count and eviction_count are summed up of all databases",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        long hitCount = 0L;
+        long missCount = 0L;
+        long evictionCount = 0L;
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getAllDatabases()) {
+            for (SQLRewritePlanCacheRuleAttribute attribute : each.getRuleMetaData().getAttributes(SQLRewritePlanCacheRuleAttribute.class)) {
+                SQLRewritePlanCache rewritePlanCache = attribute.getRewritePlanCache();
+                if (null == rewritePlanCache) {
+                    continue;
+                }
+                hitCount += rewritePlanCache.getHitCount();
+                missCount += rewritePlanCache.getMissCount();
+                evictionCount += rewritePlanCache.getEvictionCount();
+            }
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("hit_count"), hitCount);
+        result.addMetric(Collections.singletonList("miss_count"), missCount);
+        result.addMetric(Collections.singletonList("eviction_count"), evictionCount);
+        return Optional.of(result);
+    }
+}
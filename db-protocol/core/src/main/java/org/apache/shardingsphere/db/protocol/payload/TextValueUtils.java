@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Text value utility class, which writes text of values into byte buffers without creating intermediate strings.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextValueUtils {
+    
+    /**
+     * Judge whether value can be written as decimal text directly.
+     *
+     * @param value value
+     * @return can be written as decimal text directly or not
+     */
+    public static boolean isDecimalWritable(final Object value) {
+        return (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) && Long.MIN_VALUE != ((Number) value).longValue();
+    }
+    
+    /**
+     * Get length of decimal text.
+     *
+     * @param value value which is not {@link Long#MIN_VALUE}
+     * @return length of decimal text
+     */
+    public static int getDecimalLength(final long value) {
+        int result = value < 0L ? 2 : 1;
+        for (long remaining = Math.abs(value); remaining >= 10L; remaining /= 10L) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text of value.
+     *
+     * @param byteBuf byte buffer
+     * @param value value which is not {@link Long#MIN_VALUE}
+     * @param length length of decimal text
+     */
+    public static void writeDecimal(final ByteBuf byteBuf, final long value, final int length) {
+        byteBuf.ensureWritable(length);
+        int endIndex = byteBuf.writerIndex() + length;
+        int index = endIndex;
+        long remaining = Math.abs(value);
+        do {
+            byteBuf.setByte(--index, '0' + (int) (remaining % 10L));
+            remaining /= 10L;
+        } while (remaining > 0L);
+        if (value < 0L) {
+            byteBuf.setByte(--index, '-');
+        }
+        byteBuf.writerIndex(endIndex);
+    }
+}
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
@@ -29,14 +29,31 @@ import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
  * 
  * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_binary_resultset.html#sect_protocol_binary_resultset_row">Binary Protocol Resultset Row</a>
  */
-@RequiredArgsConstructor
 public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     
     private static final int PACKET_HEADER = 0x00;
     
     private static final int NULL_BITMAP_OFFSET = 2;
     
-    private final BinaryRow row;
+    private final BinaryColumnType[] columnTypes;
+    
+    private final Object[] values;
+    
+    public MySQLBinaryResultSetRowPacket(final BinaryRow row) {
+        columnTypes = new BinaryColumnType[row.getCells().size()];
+        values = new Object[row.getCells().size()];
+        int index = 0;
+        for (BinaryCell each : row.getCells()) {
+            columnTypes[index] = each.getColumnType();
+            values[index] = each.getData();
+            index++;
+        }
+    }
+    
+    public MySQLBinaryResultSetRowPacket(final BinaryColumnType[] columnTypes, final Object[] values) {
+        this.columnTypes = columnTypes;
+        this.values = values;
+    }
     
     @Override
     protected void write(final MySQLPacketPayload payload) {
@@ -46,28 +63,23 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     }
     
     private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
-        for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
-                result.setNullBit(index);
+        int length = (values.length + NULL_BITMAP_OFFSET + 7) / 8;
+        for (int byteIndex = 0; byteIndex < length; byteIndex++) {
+            int bits = 0;
+            for (int bitIndex = 0; bitIndex < 8; bitIndex++) {
+                int columnIndex = byteIndex * 8 + bitIndex - NULL_BITMAP_OFFSET;
+                if (columnIndex >= 0 && columnIndex < values.length && null == values[columnIndex]) {
+                    bits |= 1 << bitIndex;
+                }
             }
-            index++;
+            payload.writeInt1(bits);
         }
-        return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
-            if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
+        for (int i = 0; i < values.length; i++) {
+            if (null != values[i]) {
+                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes[i]).write(payload, values[i]);
             }
         }
     }
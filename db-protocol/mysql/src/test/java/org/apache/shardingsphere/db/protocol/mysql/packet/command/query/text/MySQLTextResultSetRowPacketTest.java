@@ -84,4 +84,15 @@ class MySQLTextResultSetRowPacketTest {
         actual.write(payload);
         verify(payload).writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
     }
+    
+    @Test
+    void assertWriteWithIntegralNumbers() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(1, -2L, (short) 3, (byte) 4, Long.MIN_VALUE));
+        actual.write(payload);
+        verify(payload).writeDecimalStringLenenc(1L);
+        verify(payload).writeDecimalStringLenenc(-2L);
+        verify(payload).writeDecimalStringLenenc(3L);
+        verify(payload).writeDecimalStringLenenc(4L);
+        verify(payload).writeStringLenenc(String.valueOf(Long.MIN_VALUE));
+    }
 }
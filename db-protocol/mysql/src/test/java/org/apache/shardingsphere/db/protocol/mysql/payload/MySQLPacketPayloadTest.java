@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -209,11 +210,31 @@ class MySQLPacketPayloadTest {
     
     @Test
     void assertWriteStringLenenc() {
-        new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).writeStringLenenc("value");
+        new MySQLPacketPayload(byteBuf, StandardCharsets.US_ASCII).writeStringLenenc("value");
         verify(byteBuf).writeByte(5);
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    void assertWriteStringLenencWithUTF8() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc("valué");
+        assertThat(actual.readUnsignedByte(), is((short) 6));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("valué"));
+    }
+    
+    @Test
+    void assertWriteDecimalStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(actual, StandardCharsets.UTF_8);
+        payload.writeDecimalStringLenenc(0L);
+        payload.writeDecimalStringLenenc(-1024L);
+        payload.writeDecimalStringLenenc(Long.MAX_VALUE);
+        assertThat(payload.readStringLenenc(), is("0"));
+        assertThat(payload.readStringLenenc(), is("-1024"));
+        assertThat(payload.readStringLenenc(), is(String.valueOf(Long.MAX_VALUE)));
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
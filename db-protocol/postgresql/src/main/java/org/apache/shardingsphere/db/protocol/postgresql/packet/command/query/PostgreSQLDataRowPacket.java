@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.payload.TextValueUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -27,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.util.Collection;
@@ -71,13 +74,31 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
             payload.writeBytes((byte[]) each);
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
+        } else if (TextValueUtils.isDecimalWritable(each)) {
+            writeDecimalValue(payload, ((Number) each).longValue());
         } else {
-            byte[] columnData = each.toString().getBytes(payload.getCharset());
-            payload.writeInt4(columnData.length);
-            payload.writeBytes(columnData);
+            writeStringValue(payload, each.toString());
         }
     }
     
+    private void writeDecimalValue(final PostgreSQLPacketPayload payload, final long value) {
+        int length = TextValueUtils.getDecimalLength(value);
+        payload.writeInt4(length);
+        TextValueUtils.writeDecimal(payload.getByteBuf(), value, length);
+    }
+    
+    private void writeStringValue(final PostgreSQLPacketPayload payload, final String value) {
+        if (StandardCharsets.UTF_8.equals(payload.getCharset())) {
+            int length = ByteBufUtil.utf8Bytes(value);
+            payload.writeInt4(length);
+            ByteBufUtil.reserveAndWriteUtf8(payload.getByteBuf(), value, length);
+            return;
+        }
+        byte[] columnData = value.getBytes(payload.getCharset());
+        payload.writeInt4(columnData.length);
+        payload.writeBytes(columnData);
+    }
+    
     private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
             byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
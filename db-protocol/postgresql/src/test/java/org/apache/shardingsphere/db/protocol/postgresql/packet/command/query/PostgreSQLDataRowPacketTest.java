@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -32,6 +34,7 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -86,12 +89,35 @@ class PostgreSQLDataRowPacketTest {
     void assertWriteWithString() {
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("value"));
         assertThat(actual.getData(), is(Collections.singleton("value")));
+        ByteBuf byteBuf = Unpooled.buffer();
+        actual.write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(5));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("value"));
+    }
+    
+    @Test
+    void assertWriteWithStringAndNotUTF8Charset() {
+        when(payload.getCharset()).thenReturn(StandardCharsets.US_ASCII);
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("value"));
         actual.write(payload);
-        byte[] valueBytes = "value".getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = "value".getBytes(StandardCharsets.US_ASCII);
         verify(payload).writeInt4(valueBytes.length);
         verify(payload).writeBytes(valueBytes);
     }
     
+    @Test
+    void assertWriteWithIntegralNumbers() {
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Arrays.asList(-12, 345L));
+        ByteBuf byteBuf = Unpooled.buffer();
+        actual.write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(byteBuf.readShort(), is((short) 2));
+        assertThat(byteBuf.readInt(), is(3));
+        assertThat(byteBuf.readCharSequence(3, StandardCharsets.UTF_8).toString(), is("-12"));
+        assertThat(byteBuf.readInt(), is(3));
+        assertThat(byteBuf.readCharSequence(3, StandardCharsets.UTF_8).toString(), is("345"));
+    }
+    
     @Test
     void assertWriteWithSQLXML4Error() throws SQLException {
         when(sqlxml.getString()).thenThrow(new SQLException("mock"));
@@ -64,6 +64,11 @@ public final class BroadcastDataNodeRuleAttribute implements DataNodeRuleAttribu
         return tables.isEmpty() || !this.tables.containsAll(tables);
     }
     
+    @Override
+    public boolean isGlobalUniqueKey(final String logicTable, final Collection<String> keyColumnNames) {
+        return true;
+    }
+    
     @Override
     public Optional<String> findLogicTableByActualTable(final String actualTable) {
         return tableDataNodes.containsKey(actualTable.toLowerCase()) ? Optional.of(actualTable) : Optional.empty();
@@ -70,6 +70,11 @@ class BroadcastDataNodeRuleAttributeTest {
         assertFalse(new BroadcastDataNodeRuleAttribute(Arrays.asList("foo_ds", "bar_ds"), Arrays.asList("foo_tbl", "bar_tbl")).isNeedAccumulate(Arrays.asList("foo_tbl", "bar_tbl")));
     }
     
+    @Test
+    void assertIsGlobalUniqueKey() {
+        assertTrue(new BroadcastDataNodeRuleAttribute(Arrays.asList("foo_ds", "bar_ds"), Arrays.asList("foo_tbl", "bar_tbl")).isGlobalUniqueKey("foo_tbl", Collections.singleton("id")));
+    }
+    
     @Test
     void assertFindLogicTableByActualTable() {
         Optional<String> actual = new BroadcastDataNodeRuleAttribute(Arrays.asList("foo_ds", "bar_ds"), Arrays.asList("foo_tbl", "bar_tbl")).findLogicTableByActualTable("foo_tbl");
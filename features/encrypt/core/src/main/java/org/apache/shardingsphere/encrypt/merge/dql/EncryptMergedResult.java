@@ -20,7 +20,8 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -38,16 +39,41 @@ import java.util.Optional;
 /**
  * Merged result for encrypt.
  */
-@RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
-    private final ShardingSphereDatabase database;
+    private final MergedResult mergedResult;
     
-    private final ShardingSphereMetaData metaData;
+    private final ColumnDecryptor[] columnDecryptors;
     
-    private final SelectStatementContext selectStatementContext;
+    public EncryptMergedResult(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
+        this.mergedResult = mergedResult;
+        columnDecryptors = createColumnDecryptors(database, metaData, selectStatementContext);
+    }
     
-    private final MergedResult mergedResult;
+    private ColumnDecryptor[] createColumnDecryptors(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext) {
+        ColumnDecryptor[] result = new ColumnDecryptor[selectStatementContext.getProjectionsContext().getExpandProjections().size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = selectStatementContext.findColumnProjection(i + 1).map(optional -> findColumnDecryptor(database, metaData, selectStatementContext, optional).orElse(null)).orElse(null);
+        }
+        return result;
+    }
+    
+    private Optional<ColumnDecryptor> findColumnDecryptor(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData,
+                                                          final SelectStatementContext selectStatementContext, final ColumnProjection columnProjection) {
+        String originalTableName = columnProjection.getOriginalTable().getValue();
+        String originalColumnName = columnProjection.getOriginalColumn().getValue();
+        ShardingSphereDatabase originalDatabase = metaData.containsDatabase(columnProjection.getColumnBoundInfo().getOriginalDatabase().getValue())
+                ? metaData.getDatabase(columnProjection.getColumnBoundInfo().getOriginalDatabase().getValue())
+                : database;
+        Optional<EncryptRule> rule = originalDatabase.getRuleMetaData().findSingleRule(EncryptRule.class);
+        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
+            return Optional.empty();
+        }
+        EncryptAlgorithm encryptor = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName).getCipher().getEncryptor();
+        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(originalDatabase.getName()));
+        return Optional.of(new ColumnDecryptor(encryptor, new AlgorithmSQLContext(originalDatabase.getName(), schemaName, originalTableName, originalColumnName)));
+    }
     
     @Override
     public boolean next() throws SQLException {
@@ -56,30 +82,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        ShardingSphereDatabase database = metaData.containsDatabase(columnProjection.get().getColumnBoundInfo().getOriginalDatabase().getValue())
-                ? metaData.getDatabase(columnProjection.get().getColumnBoundInfo().getOriginalDatabase().getValue())
-                : this.database;
-        Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
-        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
-                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        ColumnDecryptor columnDecryptor = columnIndex > columnDecryptors.length ? null : columnDecryptors[columnIndex - 1];
+        return null == columnDecryptor ? mergedResult.getValue(columnIndex, type) : columnDecryptor.decrypt(mergedResult.getValue(columnIndex, Object.class));
     }
     
     @Override
@@ -101,4 +105,31 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnDecryptor {
+        
+        private final EncryptAlgorithm encryptor;
+        
+        private final AlgorithmSQLContext algorithmSQLContext;
+        
+        Object decrypt(final Object cipherValue) {
+            if (null == cipherValue) {
+                return null;
+            }
+            try {
+                return encryptor.decrypt(cipherValue, algorithmSQLContext);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                throw new DecryptFailedException(String.valueOf(cipherValue),
+                        new SQLExceptionIdentifier(algorithmSQLContext.getDatabaseName(), algorithmSQLContext.getTableName(), algorithmSQLContext.getColumnName()), ex);
+            }
+        }
+    }
 }
@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.TableSegmentBoundInfo;
 import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -56,6 +57,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -73,6 +75,12 @@ class EncryptMergedResultTest {
     @Mock
     private MergedResult mergedResult;
     
+    @BeforeEach
+    void setUp() {
+        when(selectStatementContext.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
+        when(selectStatementContext.findColumnProjection(anyInt())).thenReturn(Optional.empty());
+    }
+    
     @Test
     void assertNext() throws SQLException {
         assertFalse(new EncryptMergedResult(mock(), mock(), selectStatementContext, mergedResult).next());
@@ -86,6 +94,12 @@ class EncryptMergedResultTest {
         assertThat(new EncryptMergedResult(database, mock(), selectStatementContext, mergedResult).getValue(1, String.class), is("foo_value"));
     }
     
+    @Test
+    void assertGetValueWithColumnIndexOutOfProjections() throws SQLException {
+        when(mergedResult.getValue(2, String.class)).thenReturn("foo_value");
+        assertThat(new EncryptMergedResult(mock(), mock(), selectStatementContext, mergedResult).getValue(2, String.class), is("foo_value"));
+    }
+    
     @Test
     void assertGetValueWithoutEncryptTable() throws SQLException {
         ColumnProjection columnProjection = new ColumnProjection(new IdentifierValue("bar_tbl"), new IdentifierValue("foo_col"), new IdentifierValue("foo_alias"), databaseType,
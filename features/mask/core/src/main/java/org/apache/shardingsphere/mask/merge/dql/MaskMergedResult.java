@@ -17,31 +17,45 @@
 
 package org.apache.shardingsphere.mask.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.mask.rule.MaskRule;
-import org.apache.shardingsphere.mask.rule.MaskTable;
 import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
 
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
-import java.util.Optional;
 
 /**
  * Merged result for mask.
  */
-@RequiredArgsConstructor
 public final class MaskMergedResult implements MergedResult {
     
-    private final MaskRule maskRule;
+    private final MergedResult mergedResult;
     
-    private final SelectStatementContext selectStatementContext;
+    @SuppressWarnings("rawtypes")
+    private final MaskAlgorithm[] maskAlgorithms;
     
-    private final MergedResult mergedResult;
+    public MaskMergedResult(final MaskRule maskRule, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
+        this.mergedResult = mergedResult;
+        maskAlgorithms = createMaskAlgorithms(maskRule, selectStatementContext);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private MaskAlgorithm[] createMaskAlgorithms(final MaskRule maskRule, final SelectStatementContext selectStatementContext) {
+        MaskAlgorithm[] result = new MaskAlgorithm[selectStatementContext.getProjectionsContext().getExpandProjections().size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = selectStatementContext.getProjectionsContext().findColumnProjection(i + 1).map(optional -> findMaskAlgorithm(maskRule, optional)).orElse(null);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private MaskAlgorithm findMaskAlgorithm(final MaskRule maskRule, final ColumnProjection columnProjection) {
+        return maskRule.findMaskTable(columnProjection.getOriginalTable().getValue()).flatMap(optional -> optional.findAlgorithm(columnProjection.getName().getValue())).orElse(null);
+    }
     
     @Override
     public boolean next() throws SQLException {
@@ -51,20 +65,12 @@ public final class MaskMergedResult implements MergedResult {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.getProjectionsContext().findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<MaskTable> maskTable = maskRule.findMaskTable(columnProjection.get().getOriginalTable().getValue());
-        if (!maskTable.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<MaskAlgorithm> maskAlgorithm = maskTable.get().findAlgorithm(columnProjection.get().getName().getValue());
-        if (!maskAlgorithm.isPresent()) {
+        MaskAlgorithm maskAlgorithm = columnIndex > maskAlgorithms.length ? null : maskAlgorithms[columnIndex - 1];
+        if (null == maskAlgorithm) {
             return mergedResult.getValue(columnIndex, type);
         }
         Object originalValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == originalValue ? null : maskAlgorithm.get().mask(originalValue);
+        return null == originalValue ? null : maskAlgorithm.mask(originalValue);
     }
     
     @Override
@@ -86,4 +92,9 @@ public final class MaskMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
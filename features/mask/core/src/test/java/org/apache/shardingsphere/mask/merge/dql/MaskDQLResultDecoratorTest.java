@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -35,7 +36,7 @@ class MaskDQLResultDecoratorTest {
     void assertDecorate() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
         when(mergedResult.next()).thenReturn(true);
-        MaskDQLResultDecorator decorator = new MaskDQLResultDecorator(mock(SelectStatementContext.class));
+        MaskDQLResultDecorator decorator = new MaskDQLResultDecorator(mock(SelectStatementContext.class, RETURNS_DEEP_STUBS));
         MergedResult actual = decorator.decorate(mergedResult, mock(SQLStatementContext.class), mock(MaskRule.class));
         assertTrue(actual.next());
     }
@@ -56,7 +56,7 @@ class MaskMergedResultTest {
     
     @Test
     void assertNext() throws SQLException {
-        assertFalse(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class), mergedResult).next());
+        assertFalse(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), mergedResult).next());
     }
     
     @Test
@@ -112,12 +112,14 @@ class MaskMergedResultTest {
         when(columnProjection.getOriginalTable().getValue()).thenReturn("tbl");
         when(columnProjection.getName().getValue()).thenReturn("col");
         SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
         when(result.getProjectionsContext().findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
         return result;
     }
     
     private SelectStatementContext mockSelectStatementContextWithoutColumnProjection() {
         SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
         when(result.getProjectionsContext().findColumnProjection(anyInt())).thenReturn(Optional.empty());
         return result;
     }
@@ -141,6 +143,7 @@ class MaskMergedResultTest {
         ColumnProjection columnProjection = mock(ColumnProjection.class, RETURNS_DEEP_STUBS);
         when(columnProjection.getOriginalTable().getValue()).thenReturn("tbl");
         SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
         when(result.getProjectionsContext().findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
         return result;
     }
@@ -149,25 +152,25 @@ class MaskMergedResultTest {
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
         when(mergedResult.getCalendarValue(1, Date.class, calendar)).thenReturn(new Date(0L));
-        assertThat(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class), mergedResult).getCalendarValue(1, Date.class, calendar), is(new Date(0L)));
+        assertThat(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), mergedResult).getCalendarValue(1, Date.class, calendar), is(new Date(0L)));
     }
     
     @Test
     void assertGetInputStream() throws SQLException {
         InputStream inputStream = mock(InputStream.class);
         when(mergedResult.getInputStream(1, "asc")).thenReturn(inputStream);
-        assertThat(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class), mergedResult).getInputStream(1, "asc"), is(inputStream));
+        assertThat(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), mergedResult).getInputStream(1, "asc"), is(inputStream));
     }
     
     @Test
     void assertGetCharacterStream() throws SQLException {
         Reader reader = mock(Reader.class);
         when(mergedResult.getCharacterStream(1)).thenReturn(reader);
-        assertThat(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class), mergedResult).getCharacterStream(1), is(reader));
+        assertThat(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), mergedResult).getCharacterStream(1), is(reader));
     }
     
     @Test
     void assertWasNull() throws SQLException {
-        assertFalse(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class), mergedResult).wasNull());
+        assertFalse(new MaskMergedResult(mock(MaskRule.class), mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), mergedResult).wasNull());
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.delay;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Replication delay detector.
+ */
+@Slf4j
+public final class ReplicationDelayDetector {
+    
+    private static final long PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private static final long DEFAULT_PROBE_TIMEOUT_MILLISECONDS = 3000L;
+    
+    private static final long FAILURE_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1L);
+    
+    private static final long NOT_PROBING = Long.MIN_VALUE;
+    
+    private static final int MAX_PROBE_THREADS = 8;
+    
+    private static final ExecutorService PROBE_EXECUTOR = createProbeExecutor();
+    
+    private final long maxDelayMilliseconds;
+    
+    private final long probeTimeoutNanos;
+    
+    private final Collection<ReadDataSourceProbe> readDataSourceProbes;
+    
+    private volatile Collection<String> delayExceededDataSourceNames = Collections.emptySet();
+    
+    public ReplicationDelayDetector(final Map<String, StorageUnit> readStorageUnits, final long maxDelayMilliseconds) {
+        this(readStorageUnits, maxDelayMilliseconds, DEFAULT_PROBE_TIMEOUT_MILLISECONDS);
+    }
+    
+    ReplicationDelayDetector(final Map<String, StorageUnit> readStorageUnits, final long maxDelayMilliseconds, final long probeTimeoutMilliseconds) {
+        this.maxDelayMilliseconds = maxDelayMilliseconds;
+        probeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(probeTimeoutMilliseconds);
+        readDataSourceProbes = readStorageUnits.entrySet().stream().map(each -> new ReadDataSourceProbe(each.getKey(), each.getValue())).collect(Collectors.toList());
+    }
+    
+    private static ExecutorService createProbeExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(MAX_PROBE_THREADS, MAX_PROBE_THREADS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("readwrite-splitting-replication-delay-probe-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    /**
+     * Get names of read data sources whose replication delay exceeds max delay.
+     *
+     * @return delay exceeded data source names
+     */
+    public Collection<String> getDelayExceededDataSourceNames() {
+        if (maxDelayMilliseconds <= 0L || readDataSourceProbes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        long currentNanos = System.nanoTime();
+        for (ReadDataSourceProbe each : readDataSourceProbes) {
+            each.submitIfRequired(currentNanos);
+        }
+        return delayExceededDataSourceNames;
+    }
+    
+    /**
+     * Probe replication delays of read data sources.
+     */
+    public void probe() {
+        readDataSourceProbes.forEach(ReadDataSourceProbe::probe);
+    }
+    
+    private synchronized void refreshDelayExceededDataSourceNames() {
+        delayExceededDataSourceNames = readDataSourceProbes.stream().filter(ReadDataSourceProbe::isDelayExceeded).map(ReadDataSourceProbe::getDataSourceName).collect(Collectors.toSet());
+    }
+    
+    @RequiredArgsConstructor
+    private final class ReadDataSourceProbe {
+        
+        @Getter
+        private final String dataSourceName;
+        
+        private final StorageUnit storageUnit;
+        
+        private final AtomicLong probeStartNanos = new AtomicLong(NOT_PROBING);
+        
+        private volatile long lastProbeNanos = System.nanoTime() - PROBE_INTERVAL_NANOS;
+        
+        private volatile long nextFailureLogNanos = System.nanoTime();
+        
+        @Getter
+        private volatile boolean delayExceeded;
+        
+        void submitIfRequired(final long currentNanos) {
+            long startNanos = probeStartNanos.get();
+            if (NOT_PROBING != startNanos) {
+                if (!delayExceeded && currentNanos - startNanos >= probeTimeoutNanos) {
+                    logFailure(currentNanos, "Probe replication delay of data source `{}` is not finished in {} milliseconds, it is excluded from read until next successful probe.",
+                            dataSourceName, TimeUnit.NANOSECONDS.toMillis(probeTimeoutNanos));
+                    updateDelayExceeded(true);
+                }
+                return;
+            }
+            if (currentNanos - lastProbeNanos >= PROBE_INTERVAL_NANOS && probeStartNanos.compareAndSet(NOT_PROBING, currentNanos)) {
+                try {
+                    PROBE_EXECUTOR.execute(this::probe);
+                } catch (final RejectedExecutionException ex) {
+                    probeStartNanos.set(NOT_PROBING);
+                }
+            }
+        }
+        
+        void probe() {
+            try {
+                updateDelayExceeded(probeDelayExceeded());
+            } finally {
+                lastProbeNanos = System.nanoTime();
+                probeStartNanos.set(NOT_PROBING);
+            }
+        }
+        
+        private boolean probeDelayExceeded() {
+            Optional<ReplicationDelayProbe> probe = DatabaseTypedSPILoader.findService(ReplicationDelayProbe.class, storageUnit.getStorageType());
+            if (!probe.isPresent()) {
+                return false;
+            }
+            try (Connection connection = storageUnit.getDataSource().getConnection()) {
+                Optional<Long> delayMilliseconds = probe.get().probe(connection);
+                nextFailureLogNanos = System.nanoTime();
+                return !delayMilliseconds.isPresent() || delayMilliseconds.get() > maxDelayMilliseconds;
+            } catch (final SQLTransientException | SQLRecoverableException ex) {
+                logFailure(System.nanoTime(), "Probe replication delay of data source `{}` failed, it is excluded from read until next successful probe.", dataSourceName, ex);
+                return true;
+            } catch (final SQLException ex) {
+                logFailure(System.nanoTime(), "Probe replication delay of data source `{}` failed, its replication delay is unknown and it is still used for read.", dataSourceName, ex);
+                return false;
+            }
+        }
+        
+        private void updateDelayExceeded(final boolean delayExceeded) {
+            if (this.delayExceeded != delayExceeded) {
+                this.delayExceeded = delayExceeded;
+                refreshDelayExceededDataSourceNames();
+            }
+        }
+        
+        private void logFailure(final long currentNanos, final String message, final Object... args) {
+            if (currentNanos - nextFailureLogNanos >= 0L) {
+                nextFailureLogNanos = currentNanos + FAILURE_LOG_INTERVAL_NANOS;
+                log.warn(message, args);
+            }
+        }
+    }
+}
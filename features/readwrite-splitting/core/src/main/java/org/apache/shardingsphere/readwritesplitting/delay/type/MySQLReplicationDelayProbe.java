@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.delay.type;
+
+import org.apache.shardingsphere.readwritesplitting.delay.ReplicationDelayProbe;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication delay probe for MySQL.
+ */
+public final class MySQLReplicationDelayProbe implements ReplicationDelayProbe {
+    
+    private static final String SHOW_REPLICA_STATUS = "SHOW REPLICA STATUS";
+    
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    
+    private static final int QUERY_TIMEOUT_SECONDS = 1;
+    
+    @Override
+    public Optional<Long> probe(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = executeShowReplicaStatus(statement)) {
+                if (!resultSet.next()) {
+                    return Optional.of(0L);
+                }
+                long result = resultSet.getLong(findSecondsBehindSourceColumnIndex(resultSet.getMetaData()));
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(result * 1000L);
+            }
+        }
+    }
+    
+    private ResultSet executeShowReplicaStatus(final Statement statement) throws SQLException {
+        try {
+            return statement.executeQuery(SHOW_REPLICA_STATUS);
+        } catch (final SQLException ignored) {
+            return statement.executeQuery(SHOW_SLAVE_STATUS);
+        }
+    }
+    
+    private int findSecondsBehindSourceColumnIndex(final ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String columnLabel = metaData.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(columnLabel) || "Seconds_Behind_Master".equalsIgnoreCase(columnLabel)) {
+                return i;
+            }
+        }
+        throw new SQLException("Can not find column `Seconds_Behind_Source` or `Seconds_Behind_Master` of replica status.");
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
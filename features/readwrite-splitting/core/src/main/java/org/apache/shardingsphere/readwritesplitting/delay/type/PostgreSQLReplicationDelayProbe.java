@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.delay.type;
+
+import org.apache.shardingsphere.readwritesplitting.delay.ReplicationDelayProbe;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication delay probe for PostgreSQL.
+ *
+ * <p>Delay is zero when all received WAL has been replayed, because replay timestamp does not move while primary has no writes.</p>
+ */
+public final class PostgreSQLReplicationDelayProbe implements ReplicationDelayProbe {
+    
+    private static final String QUERY_REPLICATION_DELAY = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) END";
+    
+    private static final int QUERY_TIMEOUT_SECONDS = 1;
+    
+    @Override
+    public Optional<Long> probe(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(QUERY_REPLICATION_DELAY)) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                long result = resultSet.getLong(1);
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(result);
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -25,6 +25,8 @@ import java.util.List;
 
 /**
  * Standard data source router for readwrite-splitting.
+ *
+ * <p>Route to write data source if all read data sources are filtered out.</p>
  */
 public final class StandardReadwriteSplittingDataSourceRouter {
     
@@ -35,7 +37,8 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
+        List<String> filteredReadDataSources = getFilteredReadDataSources(rule);
+        return filteredReadDataSources.isEmpty() ? rule.getWriteDataSource() : rule.getLoadBalancer().getTargetName(rule.getDatabaseName(), rule.getName(), filteredReadDataSources);
     }
     
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
@@ -19,13 +19,18 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.delay.ReplicationDelayDetector;
 import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Readwrite-splitting data source group rule.
@@ -33,6 +38,8 @@ import java.util.HashSet;
 @Getter
 public final class ReadwriteSplittingDataSourceGroupRule {
     
+    private final String databaseName;
+    
     private final String name;
     
     private final TransactionalReadQueryStrategy transactionalReadQueryStrategy;
@@ -41,20 +48,34 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     
     private final ReadwriteSplittingGroup readwriteSplittingGroup;
     
+    private final ReplicationDelayDetector replicationDelayDetector;
+    
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
     public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
                                                  final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer) {
+        this(null, config, transactionalReadQueryStrategy, loadBalancer, Collections.emptyMap());
+    }
+    
+    public ReadwriteSplittingDataSourceGroupRule(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
+                                                 final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer,
+                                                 final Map<String, StorageUnit> storageUnits) {
+        this.databaseName = databaseName;
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        replicationDelayDetector = new ReplicationDelayDetector(getReadStorageUnits(config, storageUnits), config.getMaxReplicationDelayMilliseconds());
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceGroupRuleConfiguration config) {
         return new StaticReadwriteSplittingGroup(config.getWriteDataSourceName(), config.getReadDataSourceNames());
     }
     
+    private Map<String, StorageUnit> getReadStorageUnits(final ReadwriteSplittingDataSourceGroupRuleConfiguration config, final Map<String, StorageUnit> storageUnits) {
+        return config.getReadDataSourceNames().stream().filter(storageUnits::containsKey).collect(Collectors.toMap(each -> each, storageUnits::get, (oldValue, currentValue) -> oldValue));
+    }
+    
     /**
      * Get write data source name.
      *
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAl
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSpli
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStorageConnectorReusableRuleAttribute;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +48,7 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -60,9 +62,14 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     private final RuleAttributes attributes;
     
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this(databaseName, ruleConfig, Collections.emptyMap(), computeNodeInstanceContext);
+    }
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, StorageUnit> storageUnits,
+                                  final ComputeNodeInstanceContext computeNodeInstanceContext) {
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
-        dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig);
+        dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig, storageUnits);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRuleGroups.values()),
                 new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRuleGroups, computeNodeInstanceContext),
@@ -81,21 +88,23 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig,
+                                                                                          final Map<String, StorageUnit> storageUnits) {
         Map<String, ReadwriteSplittingDataSourceGroupRule> result = new HashMap<>(ruleConfig.getDataSourceGroups().size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : ruleConfig.getDataSourceGroups()) {
-            result.putAll(createDataSourceGroupRules(databaseName, each));
+            result.putAll(createDataSourceGroupRules(databaseName, each, storageUnits));
         }
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config) {
+    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
+                                                                                          final Map<String, StorageUnit> storageUnits) {
         LoadBalanceAlgorithm loadBalanceAlgorithm = loadBalancers.getOrDefault(config.getName() + "." + config.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, null));
-        return createStaticDataSourceGroupRules(databaseName, config, loadBalanceAlgorithm);
+        return createStaticDataSourceGroupRules(databaseName, config, loadBalanceAlgorithm, storageUnits);
     }
     
     private Map<String, ReadwriteSplittingDataSourceGroupRule> createStaticDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
-                                                                                                final LoadBalanceAlgorithm loadBalanceAlgorithm) {
+                                                                                                final LoadBalanceAlgorithm loadBalanceAlgorithm, final Map<String, StorageUnit> storageUnits) {
         List<String> inlineLogicDataSourceNames = InlineExpressionParserFactory.newInstance(config.getName()).splitAndEvaluate();
         List<String> inlineWriteDataSourceNames = InlineExpressionParserFactory.newInstance(config.getWriteDataSourceName()).splitAndEvaluate();
         List<List<String>> inlineReadDataSourceNames = config.getReadDataSourceNames().stream()
@@ -110,7 +119,8 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         for (int i = 0; i < inlineLogicDataSourceNames.size(); i++) {
             ReadwriteSplittingDataSourceGroupRuleConfiguration staticConfig = createStaticDataSourceGroupRuleConfiguration(
                     config, i, inlineLogicDataSourceNames, inlineWriteDataSourceNames, inlineReadDataSourceNames);
-            result.put(inlineLogicDataSourceNames.get(i), new ReadwriteSplittingDataSourceGroupRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm));
+            result.put(inlineLogicDataSourceNames.get(i),
+                    new ReadwriteSplittingDataSourceGroupRule(databaseName, staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm, storageUnits));
         }
         return result;
     }
@@ -119,7 +129,8 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                                                                                                             final List<String> logicDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                             final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                config.getTransactionalReadQueryStrategy(), config.getLoadBalancerName(), config.getMaxReplicationDelayMilliseconds());
     }
     
     /**
@@ -141,6 +152,15 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return Optional.ofNullable(dataSourceRuleGroups.get(dataSourceName));
     }
     
+    @Override
+    public void close() throws Exception {
+        for (LoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
+    
     @Override
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
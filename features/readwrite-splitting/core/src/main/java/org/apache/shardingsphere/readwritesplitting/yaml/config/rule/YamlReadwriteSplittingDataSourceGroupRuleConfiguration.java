@@ -37,4 +37,6 @@ public final class YamlReadwriteSplittingDataSourceGroupRuleConfiguration implem
     private String transactionalReadQueryStrategy;
     
     private String loadBalancerName;
+    
+    private Long maxReplicationDelayMilliseconds;
 }
@@ -61,6 +61,9 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
         }
         result.setTransactionalReadQueryStrategy(dataSourceGroupRuleConfig.getTransactionalReadQueryStrategy().name());
         result.setLoadBalancerName(dataSourceGroupRuleConfig.getLoadBalancerName());
+        if (dataSourceGroupRuleConfig.getMaxReplicationDelayMilliseconds() > 0L) {
+            result.setMaxReplicationDelayMilliseconds(dataSourceGroupRuleConfig.getMaxReplicationDelayMilliseconds());
+        }
         return result;
     }
     
@@ -76,7 +79,8 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
     
     private ReadwriteSplittingDataSourceGroupRuleConfiguration swapToObject(final String name, final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
         return new ReadwriteSplittingDataSourceGroupRuleConfiguration(name, yamlDataSourceGroupRuleConfig.getWriteDataSourceName(), yamlDataSourceGroupRuleConfig.getReadDataSourceNames(),
-                getTransactionalReadQueryStrategy(yamlDataSourceGroupRuleConfig), yamlDataSourceGroupRuleConfig.getLoadBalancerName());
+                getTransactionalReadQueryStrategy(yamlDataSourceGroupRuleConfig), yamlDataSourceGroupRuleConfig.getLoadBalancerName(),
+                null == yamlDataSourceGroupRuleConfig.getMaxReplicationDelayMilliseconds() ? 0L : yamlDataSourceGroupRuleConfig.getMaxReplicationDelayMilliseconds());
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
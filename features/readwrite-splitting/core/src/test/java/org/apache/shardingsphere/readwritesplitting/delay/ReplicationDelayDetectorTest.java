@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.delay;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationDelayDetectorTest {
+    
+    @Test
+    void assertGetDelayExceededDataSourceNamesWithoutMaxDelay() {
+        assertTrue(new ReplicationDelayDetector(Collections.singletonMap("read_ds", mock(StorageUnit.class)), 0L).getDelayExceededDataSourceNames().isEmpty());
+    }
+    
+    @Test
+    void assertProbe() throws SQLException {
+        Map<String, StorageUnit> storageUnits = new HashMap<>(4, 1F);
+        storageUnits.put("delayed_read_ds", mockStorageUnit("MySQL", 10L));
+        storageUnits.put("read_ds", mockStorageUnit("MySQL", 0L));
+        storageUnits.put("broken_read_ds", mockStorageUnit("MySQL", null));
+        storageUnits.put("unsupported_read_ds", mockStorageUnit("FIXTURE", 10L));
+        ReplicationDelayDetector detector = new ReplicationDelayDetector(storageUnits, 5000L);
+        detector.probe();
+        assertThat(detector.getDelayExceededDataSourceNames().size(), is(2));
+        assertTrue(detector.getDelayExceededDataSourceNames().contains("delayed_read_ds"));
+        assertTrue(detector.getDelayExceededDataSourceNames().contains("broken_read_ds"));
+    }
+    
+    @Test
+    void assertProbeWithTransientFailure() throws SQLException {
+        ReplicationDelayDetector detector = new ReplicationDelayDetector(Collections.singletonMap("read_ds", mockFailedStorageUnit(new SQLTransientConnectionException())), 5000L);
+        detector.probe();
+        assertThat(detector.getDelayExceededDataSourceNames(), is(Collections.singleton("read_ds")));
+    }
+    
+    @Test
+    void assertProbeWithNonTransientFailure() throws SQLException {
+        ReplicationDelayDetector detector = new ReplicationDelayDetector(Collections.singletonMap("read_ds", mockFailedStorageUnit(new SQLNonTransientConnectionException())), 5000L);
+        detector.probe();
+        assertTrue(detector.getDelayExceededDataSourceNames().isEmpty());
+    }
+    
+    @Test
+    void assertGetDelayExceededDataSourceNamesWithProbeTimeout() throws SQLException {
+        CountDownLatch latch = new CountDownLatch(1);
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        when(storageUnit.getDataSource().getConnection()).thenAnswer(invocation -> {
+            latch.await();
+            throw new SQLTransientConnectionException();
+        });
+        ReplicationDelayDetector detector = new ReplicationDelayDetector(Collections.singletonMap("read_ds", storageUnit), 5000L, 0L);
+        try {
+            assertTrue(detector.getDelayExceededDataSourceNames().isEmpty());
+            assertThat(detector.getDelayExceededDataSourceNames(), is(Collections.singleton("read_ds")));
+        } finally {
+            latch.countDown();
+        }
+    }
+    
+    private StorageUnit mockFailedStorageUnit(final SQLException exception) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        when(result.getDataSource().getConnection()).thenThrow(exception);
+        return result;
+    }
+    
+    private StorageUnit mockStorageUnit(final String databaseType, final Long secondsBehindSource) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, databaseType));
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW REPLICA STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(1);
+        when(resultSet.getMetaData().getColumnLabel(1)).thenReturn("Seconds_Behind_Source");
+        when(resultSet.getLong(1)).thenReturn(null == secondsBehindSource ? 0L : secondsBehindSource);
+        when(resultSet.wasNull()).thenReturn(null == secondsBehindSource);
+        when(result.getDataSource().getConnection()).thenReturn(connection);
+        return result;
+    }
+}
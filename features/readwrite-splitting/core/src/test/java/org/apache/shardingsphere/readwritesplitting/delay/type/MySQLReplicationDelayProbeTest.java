@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.delay.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MySQLReplicationDelayProbeTest {
+    
+    @Test
+    void assertProbeWithoutReplicaStatus() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS").next()).thenReturn(false);
+        assertThat(new MySQLReplicationDelayProbe().probe(connection), is(Optional.of(0L)));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatus() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenThrow(SQLException.class);
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW SLAVE STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(2);
+        when(resultSet.getMetaData().getColumnLabel(2)).thenReturn("Seconds_Behind_Master");
+        when(resultSet.getLong(2)).thenReturn(3L);
+        assertThat(new MySQLReplicationDelayProbe().probe(connection), is(Optional.of(3000L)));
+    }
+    
+    @Test
+    void assertProbeWithStoppedReplication() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW REPLICA STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(1);
+        when(resultSet.getMetaData().getColumnLabel(1)).thenReturn("Seconds_Behind_Source");
+        when(resultSet.wasNull()).thenReturn(true);
+        assertFalse(new MySQLReplicationDelayProbe().probe(connection).isPresent());
+    }
+}
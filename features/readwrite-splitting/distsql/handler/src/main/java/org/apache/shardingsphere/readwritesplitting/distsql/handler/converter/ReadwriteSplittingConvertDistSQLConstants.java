@@ -34,9 +34,11 @@ public final class ReadwriteSplittingConvertDistSQLConstants {
             + System.lineSeparator()
             + "READ_STORAGE_UNITS(%s),"
             + System.lineSeparator()
-            + "TRANSACTIONAL_READ_QUERY_STRATEGY='%s'%s"
+            + "TRANSACTIONAL_READ_QUERY_STRATEGY='%s'%s%s"
             + System.lineSeparator()
             + ")";
     
+    public static final String MAX_REPLICATION_DELAY_MILLISECONDS = "MAX_REPLICATION_DELAY_MILLISECONDS=%d";
+    
     public static final String READ_DATA_SOURCE = "%s";
 }
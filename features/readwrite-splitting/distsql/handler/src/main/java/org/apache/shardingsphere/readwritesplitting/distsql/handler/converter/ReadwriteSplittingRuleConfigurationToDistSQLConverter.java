@@ -48,15 +48,23 @@ public final class ReadwriteSplittingRuleConfigurationToDistSQLConverter impleme
     private String convertReadWriteSplittingRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration dataSourceGroupRuleConfig, final Map<String, AlgorithmConfiguration> loadBalancers) {
         String readDataSourceNames = convertReadDataSourceNames(dataSourceGroupRuleConfig.getReadDataSourceNames());
         String transactionalReadQueryStrategy = dataSourceGroupRuleConfig.getTransactionalReadQueryStrategy().name();
+        String maxReplicationDelayMilliseconds = convertMaxReplicationDelayMilliseconds(dataSourceGroupRuleConfig.getMaxReplicationDelayMilliseconds());
         String loadBalancerType = convertLoadBalancerType(loadBalancers.get(dataSourceGroupRuleConfig.getLoadBalancerName()));
         return String.format(ReadwriteSplittingConvertDistSQLConstants.READWRITE_SPLITTING_RULE,
-                dataSourceGroupRuleConfig.getName(), dataSourceGroupRuleConfig.getWriteDataSourceName(), readDataSourceNames, transactionalReadQueryStrategy, loadBalancerType);
+                dataSourceGroupRuleConfig.getName(), dataSourceGroupRuleConfig.getWriteDataSourceName(), readDataSourceNames, transactionalReadQueryStrategy,
+                maxReplicationDelayMilliseconds, loadBalancerType);
     }
     
     private String convertReadDataSourceNames(final Collection<String> readDataSourceNames) {
         return readDataSourceNames.stream().map(each -> String.format(ReadwriteSplittingConvertDistSQLConstants.READ_DATA_SOURCE, each)).collect(Collectors.joining(DistSQLConstants.COMMA));
     }
     
+    private String convertMaxReplicationDelayMilliseconds(final long maxReplicationDelayMilliseconds) {
+        return maxReplicationDelayMilliseconds > 0L
+                ? DistSQLConstants.COMMA + System.lineSeparator() + String.format(ReadwriteSplittingConvertDistSQLConstants.MAX_REPLICATION_DELAY_MILLISECONDS, maxReplicationDelayMilliseconds)
+                : "";
+    }
+    
     private String convertLoadBalancerType(final AlgorithmConfiguration algorithmConfig) {
         String loadBalancerType = AlgorithmDistSQLConverter.getAlgorithmType(algorithmConfig);
         return Strings.isNullOrEmpty(loadBalancerType) ? "" : DistSQLConstants.COMMA + System.lineSeparator() + loadBalancerType;
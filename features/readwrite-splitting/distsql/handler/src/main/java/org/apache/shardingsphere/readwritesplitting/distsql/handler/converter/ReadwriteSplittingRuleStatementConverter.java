@@ -58,10 +58,12 @@ public final class ReadwriteSplittingRuleStatementConverter {
     }
     
     private static ReadwriteSplittingDataSourceGroupRuleConfiguration createDataSourceGroupRuleConfiguration(final ReadwriteSplittingRuleSegment segment, final String loadBalancerName) {
-        return null == segment.getTransactionalReadQueryStrategy()
-                ? new ReadwriteSplittingDataSourceGroupRuleConfiguration(segment.getName(), segment.getWriteDataSource(), new LinkedList<>(segment.getReadDataSources()), loadBalancerName)
-                : new ReadwriteSplittingDataSourceGroupRuleConfiguration(segment.getName(), segment.getWriteDataSource(), new LinkedList<>(segment.getReadDataSources()),
-                        TransactionalReadQueryStrategy.valueOf(segment.getTransactionalReadQueryStrategy().toUpperCase()), loadBalancerName);
+        TransactionalReadQueryStrategy transactionalReadQueryStrategy = null == segment.getTransactionalReadQueryStrategy()
+                ? TransactionalReadQueryStrategy.DYNAMIC
+                : TransactionalReadQueryStrategy.valueOf(segment.getTransactionalReadQueryStrategy().toUpperCase());
+        long maxReplicationDelayMilliseconds = null == segment.getMaxReplicationDelayMilliseconds() ? 0L : segment.getMaxReplicationDelayMilliseconds();
+        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(segment.getName(), segment.getWriteDataSource(), new LinkedList<>(segment.getReadDataSources()),
+                transactionalReadQueryStrategy, loadBalancerName, maxReplicationDelayMilliseconds);
     }
     
     private static AlgorithmConfiguration createLoadBalancer(final ReadwriteSplittingRuleSegment ruleSegment) {
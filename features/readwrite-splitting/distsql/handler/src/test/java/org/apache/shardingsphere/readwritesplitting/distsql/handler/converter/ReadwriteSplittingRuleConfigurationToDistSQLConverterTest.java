@@ -17,17 +17,27 @@
 
 package org.apache.shardingsphere.readwritesplitting.distsql.handler.converter;
 
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.distsql.handler.engine.query.ral.convert.RuleConfigurationToDistSQLConverter;
+import org.apache.shardingsphere.distsql.statement.DistSQLStatement;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.readwritesplitting.config.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.distsql.parser.facade.ReadwriteSplittingDistSQLParserFacade;
+import org.apache.shardingsphere.readwritesplitting.distsql.statement.CreateReadwriteSplittingRuleStatement;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.sql.parser.api.visitor.SQLVisitor;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Properties;
 
+import static org.apache.shardingsphere.test.matcher.ShardingSphereAssertionMatchers.deepEqual;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -68,6 +78,42 @@ class ReadwriteSplittingRuleConfigurationToDistSQLConverterTest {
                         + ");"));
     }
     
+    @Test
+    void assertConvertWithMaxReplicationDelayMilliseconds() {
+        assertThat(converter.convert(createRuleConfigurationWithMaxReplicationDelayMilliseconds()),
+                is("CREATE READWRITE_SPLITTING RULE foo_ds ("
+                        + System.lineSeparator()
+                        + "WRITE_STORAGE_UNIT=ds_primary,"
+                        + System.lineSeparator()
+                        + "READ_STORAGE_UNITS(ds_slave_0,ds_slave_1),"
+                        + System.lineSeparator()
+                        + "TRANSACTIONAL_READ_QUERY_STRATEGY='FIXED',"
+                        + System.lineSeparator()
+                        + "MAX_REPLICATION_DELAY_MILLISECONDS=3000,"
+                        + System.lineSeparator()
+                        + "TYPE(NAME='random')"
+                        + System.lineSeparator()
+                        + ");"));
+    }
+    
+    @Test
+    void assertConvertRoundTrip() {
+        ReadwriteSplittingRuleConfiguration expected = createRuleConfigurationWithMaxReplicationDelayMilliseconds();
+        CreateReadwriteSplittingRuleStatement sqlStatement = (CreateReadwriteSplittingRuleStatement) getDistSQLStatement(converter.convert(expected));
+        ReadwriteSplittingRuleConfiguration actual = ReadwriteSplittingRuleStatementConverter.convert(sqlStatement.getRules());
+        assertThat(actual.getDataSourceGroups(), deepEqual(expected.getDataSourceGroups()));
+        assertThat(actual.getLoadBalancers(), deepEqual(expected.getLoadBalancers()));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @SuppressWarnings("rawtypes")
+    private DistSQLStatement getDistSQLStatement(final String sql) {
+        ReadwriteSplittingDistSQLParserFacade facade = new ReadwriteSplittingDistSQLParserFacade();
+        ParseASTNode parseASTNode = (ParseASTNode) SQLParserFactory.newInstance(sql, facade.getLexerClass(), facade.getParserClass()).parse();
+        SQLVisitor visitor = facade.getVisitorClass().getDeclaredConstructor().newInstance();
+        return (DistSQLStatement) visitor.visit(parseASTNode.getRootNode());
+    }
+    
     private ReadwriteSplittingRuleConfiguration createRuleConfiguration() {
         ReadwriteSplittingDataSourceGroupRuleConfiguration dataSourceGroupConfig0 = new ReadwriteSplittingDataSourceGroupRuleConfiguration(
                 "foo_ds", "ds_primary", Arrays.asList("ds_slave_0", "ds_slave_1"), "test");
@@ -76,4 +122,11 @@ class ReadwriteSplittingRuleConfigurationToDistSQLConverterTest {
         return new ReadwriteSplittingRuleConfiguration(Arrays.asList(dataSourceGroupConfig0, dataSourceGroupConfig1),
                 Collections.singletonMap("test", new AlgorithmConfiguration("random", PropertiesBuilder.build(new PropertiesBuilder.Property("read_weight", "2:1")))));
     }
+    
+    private ReadwriteSplittingRuleConfiguration createRuleConfigurationWithMaxReplicationDelayMilliseconds() {
+        ReadwriteSplittingDataSourceGroupRuleConfiguration dataSourceGroupConfig = new ReadwriteSplittingDataSourceGroupRuleConfiguration(
+                "foo_ds", "ds_primary", Arrays.asList("ds_slave_0", "ds_slave_1"), TransactionalReadQueryStrategy.FIXED, "foo_ds_random", 3000L);
+        return new ReadwriteSplittingRuleConfiguration(
+                Collections.singletonList(dataSourceGroupConfig), Collections.singletonMap("foo_ds_random", new AlgorithmConfiguration("random", new Properties())));
+    }
 }
@@ -54,4 +54,12 @@ class ReadwriteSplittingRuleStatementConverterTest {
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("foo_name", "write_ds", Arrays.asList("read_ds0", "read_ds1"), null))));
         assertTrue(actual.getLoadBalancers().isEmpty());
     }
+    
+    @Test
+    void assertConvertWithMaxReplicationDelayMilliseconds() {
+        ReadwriteSplittingRuleConfiguration actual = ReadwriteSplittingRuleStatementConverter.convert(
+                Collections.singleton(new ReadwriteSplittingRuleSegment("foo_name", "write_ds", Arrays.asList("read_ds0", "read_ds1"), null, 3000L, null)));
+        assertThat(actual.getDataSourceGroups(), deepEqual(Collections.singletonList(new ReadwriteSplittingDataSourceGroupRuleConfiguration(
+                "foo_name", "write_ds", Arrays.asList("read_ds0", "read_ds1"), TransactionalReadQueryStrategy.DYNAMIC, null, 3000L))));
+    }
 }
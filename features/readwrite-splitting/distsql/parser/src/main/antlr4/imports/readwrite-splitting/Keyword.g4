@@ -71,6 +71,10 @@ TRANSACTIONAL_READ_QUERY_STRATEGY
     : T R A N S A C T I O N A L UL_ R E A D UL_ Q U E R Y UL_ S T R A T E G Y
     ;
 
+MAX_REPLICATION_DELAY_MILLISECONDS
+    : M A X UL_ R E P L I C A T I O N UL_ D E L A Y UL_ M I L L I S E C O N D S
+    ;
+
 TYPE
     : T Y P E
     ;
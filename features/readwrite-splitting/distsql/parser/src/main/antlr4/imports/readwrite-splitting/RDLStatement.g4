@@ -32,7 +32,7 @@ dropReadwriteSplittingRule
     ;
 
 readwriteSplittingRuleDefinition
-    : ruleName LP_ dataSourceDefinition (COMMA_ transactionalReadQueryStrategy)? (COMMA_ algorithmDefinition)? RP_
+    : ruleName LP_ dataSourceDefinition (COMMA_ transactionalReadQueryStrategy)? (COMMA_ maxReplicationDelayMilliseconds)? (COMMA_ algorithmDefinition)? RP_
     ;
 
 dataSourceDefinition
@@ -51,6 +51,10 @@ transactionalReadQueryStrategy
     : TRANSACTIONAL_READ_QUERY_STRATEGY EQ_ transactionalReadQueryStrategyName
     ;
 
+maxReplicationDelayMilliseconds
+    : MAX_REPLICATION_DELAY_MILLISECONDS EQ_ INT_
+    ;
+
 writeStorageUnitName
     : storageUnitName
     ;
@@ -39,9 +39,16 @@ public final class ReadwriteSplittingRuleSegment implements DistSQLSegment {
     
     private final String transactionalReadQueryStrategy;
     
+    private final Long maxReplicationDelayMilliseconds;
+    
     private final AlgorithmSegment loadBalancer;
     
+    public ReadwriteSplittingRuleSegment(final String name, final String writeDataSource, final Collection<String> readDataSources,
+                                         final String transactionalReadQueryStrategy, final AlgorithmSegment loadBalancer) {
+        this(name, writeDataSource, readDataSources, transactionalReadQueryStrategy, null, loadBalancer);
+    }
+    
     public ReadwriteSplittingRuleSegment(final String name, final String writeDataSource, final Collection<String> readDataSources, final AlgorithmSegment loadBalancer) {
-        this(name, writeDataSource, readDataSources, null, loadBalancer);
+        this(name, writeDataSource, readDataSources, null, null, loadBalancer);
     }
 }
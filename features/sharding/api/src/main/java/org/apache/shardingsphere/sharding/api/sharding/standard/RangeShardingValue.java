@@ -41,4 +41,10 @@ public final class RangeShardingValue<T extends Comparable<?>> implements Shardi
     private final DataNodeInfo dataNodeInfo;
     
     private final Range<T> valueRange;
+    
+    private final boolean integralColumn;
+    
+    public RangeShardingValue(final String logicTableName, final String columnName, final DataNodeInfo dataNodeInfo, final Range<T> valueRange) {
+        this(logicTableName, columnName, dataNodeInfo, valueRange, false);
+    }
 }
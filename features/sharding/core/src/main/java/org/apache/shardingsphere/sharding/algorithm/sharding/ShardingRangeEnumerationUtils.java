@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Sharding range enumeration utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRangeEnumerationUtils {
+    
+    /**
+     * Key of max range enumeration count property.
+     */
+    public static final String MAX_RANGE_ENUMERATION_COUNT_KEY = "max-range-enumeration-count";
+    
+    private static final int DEFAULT_MAX_RANGE_ENUMERATION_COUNT = 0;
+    
+    /**
+     * Get max range enumeration count.
+     *
+     * @param props properties
+     * @return max range enumeration count, range enumeration is disabled if it is not positive
+     */
+    public static int getMaxRangeEnumerationCount(final Properties props) {
+        return Integer.parseInt(props.getOrDefault(MAX_RANGE_ENUMERATION_COUNT_KEY, DEFAULT_MAX_RANGE_ENUMERATION_COUNT).toString());
+    }
+    
+    /**
+     * Enumerate discrete values of range sharding value.
+     * 
+     * <p>Only ranges on columns of integral data type, bounded by non-negative integer or long endpoints of the same type are enumerated,
+     * and enumerated values keep the type of endpoints. Integer and long values below zero have different hash codes,
+     * so their precise routing depends on the type of value.</p>
+     *
+     * @param shardingValue range sharding value
+     * @param maxCount max count of enumerated values
+     * @return enumerated values, empty if range can not be enumerated or contains no value or more values than max count
+     */
+    public static Optional<Collection<Comparable<?>>> enumerate(final RangeShardingValue<Comparable<?>> shardingValue, final int maxCount) {
+        Range<Comparable<?>> range = shardingValue.getValueRange();
+        if (maxCount <= 0 || !shardingValue.isIntegralColumn() || !range.hasLowerBound() || !range.hasUpperBound() || !isEnumerable(range.lowerEndpoint(), range.upperEndpoint())) {
+            return Optional.empty();
+        }
+        boolean integerValue = range.lowerEndpoint() instanceof Integer;
+        long lower = ((Number) range.lowerEndpoint()).longValue();
+        long upper = ((Number) range.upperEndpoint()).longValue();
+        if (BoundType.OPEN == range.lowerBoundType()) {
+            if (Long.MAX_VALUE == lower) {
+                return Optional.empty();
+            }
+            lower++;
+        }
+        if (BoundType.OPEN == range.upperBoundType()) {
+            if (Long.MIN_VALUE == upper) {
+                return Optional.empty();
+            }
+            upper--;
+        }
+        long countMinusOne = upper - lower;
+        if (lower < 0L || lower > upper || countMinusOne < 0L || countMinusOne >= maxCount) {
+            return Optional.empty();
+        }
+        Collection<Comparable<?>> result = new ArrayList<>((int) countMinusOne + 1);
+        for (long i = 0L; i <= countMinusOne; i++) {
+            long each = lower + i;
+            result.add(integerValue ? (Comparable<?>) (int) each : (Comparable<?>) each);
+        }
+        return Optional.of(result);
+    }
+    
+    private static boolean isEnumerable(final Comparable<?> lowerEndpoint, final Comparable<?> upperEndpoint) {
+        return (lowerEndpoint instanceof Integer || lowerEndpoint instanceof Long) && lowerEndpoint.getClass() == upperEndpoint.getClass();
+    }
+}
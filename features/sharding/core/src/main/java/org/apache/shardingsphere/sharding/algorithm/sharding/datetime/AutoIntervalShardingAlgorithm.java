@@ -50,6 +50,8 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     
     private static final String SHARDING_SECONDS_KEY = "sharding-seconds";
     
+    private static final ThreadLocal<DecimalFormat> POSITION_FORMAT = ThreadLocal.withInitial(() -> new DecimalFormat("0.00"));
+    
     private LocalDateTime dateTimeLower;
     
     private long shardingSeconds;
@@ -99,7 +101,7 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     }
     
     private int doSharding(final long shardingValue) {
-        String position = new DecimalFormat("0.00").format((double) shardingValue / shardingSeconds);
+        String position = POSITION_FORMAT.get().format((double) shardingValue / shardingSeconds);
         return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
     }
     
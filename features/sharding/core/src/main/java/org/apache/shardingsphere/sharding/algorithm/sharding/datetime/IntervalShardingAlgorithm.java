@@ -30,6 +30,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 import org.apache.shardingsphere.sharding.exception.data.InvalidDatetimeFormatException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -37,8 +38,10 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -59,6 +62,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private static final String INTERVAL_UNIT_KEY = "datetime-interval-unit";
     
+    private static final int MAX_INDEXED_INTERVAL_COUNT = 1 << 17;
+    
     private String dateTimePatternString;
     
     private DateTimeFormatter dateTimeFormatter;
@@ -75,6 +80,14 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private TemporalHandler<?> temporalHandler;
+    
+    private Comparable<Object>[] intervalLowers;
+    
+    private Comparable<Object>[] intervalUppers;
+    
+    private String[] intervalSuffixes;
+    
     @Override
     public void init(final Properties props) {
         dateTimePatternString = getDateTimePattern(props);
@@ -85,6 +98,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern(props);
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        temporalHandler = TemporalHandlerFactory.newInstance(dateTimeLower);
+        initIntervals();
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -124,6 +139,36 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         throw new UnsupportedSQLOperationException(String.format("Cannot find step unit for specified %s property: `%s`", INTERVAL_UNIT_KEY, stepUnit));
     }
     
+    /*
+     * Intervals are indexed only if they are contiguous and strictly ascending, otherwise every interval is still calculated and checked while sharding.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends TemporalAccessor & Comparable<?>> void initIntervals() {
+        TemporalHandler<T> temporalHandler = (TemporalHandler<T>) this.temporalHandler;
+        List<Comparable<Object>> lowers = new ArrayList<>();
+        List<Comparable<Object>> uppers = new ArrayList<>();
+        List<String> suffixes = new ArrayList<>();
+        try {
+            T dateTimeUpper = temporalHandler.convertTo(this.dateTimeUpper);
+            T calculateTimeAsView = temporalHandler.convertTo(dateTimeLower);
+            while (!temporalHandler.isAfter(calculateTimeAsView, dateTimeUpper, stepAmount)) {
+                T nextTimeAsView = temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit);
+                if (lowers.size() >= MAX_INDEXED_INTERVAL_COUNT || ((Comparable<Object>) nextTimeAsView).compareTo(calculateTimeAsView) <= 0) {
+                    return;
+                }
+                lowers.add((Comparable<Object>) calculateTimeAsView);
+                uppers.add((Comparable<Object>) nextTimeAsView);
+                suffixes.add(tableSuffixPattern.format(temporalHandler.convertTo(calculateTimeAsView)));
+                calculateTimeAsView = nextTimeAsView;
+            }
+        } catch (final DateTimeException ignored) {
+            return;
+        }
+        intervalLowers = lowers.toArray(new Comparable[0]);
+        intervalUppers = uppers.toArray(new Comparable[0]);
+        intervalSuffixes = suffixes.toArray(new String[0]);
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
@@ -136,34 +181,85 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return getMatchedTables(availableTargetNames, shardingValue.getValueRange());
     }
     
+    private Collection<String> getMatchedTables(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        Collection<String> matchedSuffixes = null == intervalLowers ? getMatchedSuffixesByCalculation(range) : getMatchedSuffixesByIndex(range);
+        return matchedSuffixes.isEmpty() ? new HashSet<>() : getMatchedTables(availableTargetNames, matchedSuffixes);
+    }
+    
+    private Collection<String> getMatchedTables(final Collection<String> availableTargetNames, final Collection<String> matchedSuffixes) {
+        Collection<String> result = new HashSet<>();
+        Collection<Integer> suffixLengths = matchedSuffixes.stream().map(String::length).collect(Collectors.toSet());
+        for (String each : availableTargetNames) {
+            for (int suffixLength : suffixLengths) {
+                if (each.length() >= suffixLength && matchedSuffixes.contains(each.substring(each.length() - suffixLength))) {
+                    result.add(each);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
-    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedTables(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedSuffixesByIndex(final Range<Comparable<?>> range) {
         Collection<String> result = new HashSet<>();
-        TemporalHandler<T> temporalHandler = TemporalHandlerFactory.newInstance(dateTimeLower);
+        if (0 == intervalLowers.length) {
+            return result;
+        }
+        TemporalHandler<T> temporalHandler = (TemporalHandler<T>) this.temporalHandler;
+        Range<T> dateTimeRange = createDateTimeRange(range, temporalHandler.convertTo(dateTimeLower), temporalHandler.convertTo(dateTimeUpper), temporalHandler);
+        for (int i = findFirstIntervalIndex(dateTimeRange.lowerEndpoint()); i < intervalLowers.length && intervalLowers[i].compareTo(dateTimeRange.upperEndpoint()) <= 0; i++) {
+            if (hasIntersection(Range.closedOpen((T) intervalLowers[i], (T) intervalUppers[i]), dateTimeRange)) {
+                result.add(intervalSuffixes[i]);
+            }
+        }
+        return result;
+    }
+    
+    private int findFirstIntervalIndex(final Object dateTimeLower) {
+        int low = 0;
+        int high = intervalUppers.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (intervalUppers[middle].compareTo(dateTimeLower) > 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedSuffixesByCalculation(final Range<Comparable<?>> range) {
+        Collection<String> result = new HashSet<>();
+        TemporalHandler<T> temporalHandler = (TemporalHandler<T>) this.temporalHandler;
         T dateTimeUpper = temporalHandler.convertTo(this.dateTimeUpper);
         T dateTimeLower = temporalHandler.convertTo(this.dateTimeLower);
         T calculateTimeAsView = temporalHandler.convertTo(this.dateTimeLower);
+        Range<T> dateTimeRange = null;
         while (!temporalHandler.isAfter(calculateTimeAsView, dateTimeUpper, stepAmount)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit)), range, dateTimeLower, dateTimeUpper, temporalHandler)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames, temporalHandler));
+            if (null == dateTimeRange) {
+                dateTimeRange = createDateTimeRange(range, dateTimeLower, dateTimeUpper, temporalHandler);
+            }
+            if (hasIntersection(Range.closedOpen(calculateTimeAsView, temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit)), dateTimeRange)) {
+                result.add(tableSuffixPattern.format(temporalHandler.convertTo(calculateTimeAsView)));
             }
             calculateTimeAsView = temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit);
         }
         return result;
     }
     
-    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedTables(final TemporalAccessor calculateTimeAsView,
-                                                                                             final Collection<String> availableTargetNames, final TemporalHandler<T> temporalHandler) {
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffixPattern.format(temporalHandler.convertTo(calculateTimeAsView)))).collect(Collectors.toSet());
-    }
-    
-    private <T extends TemporalAccessor & Comparable<?>> boolean hasIntersection(final Range<T> calculateRange, final Range<Comparable<?>> range,
-                                                                                 final T temporalLower, final T temporalUpper, final TemporalHandler<T> temporalHandler) {
+    private <T extends TemporalAccessor & Comparable<?>> Range<T> createDateTimeRange(final Range<Comparable<?>> range, final T temporalLower, final T temporalUpper,
+                                                                                      final TemporalHandler<T> temporalHandler) {
         T lower = range.hasLowerBound() ? parseTemporal(range.lowerEndpoint(), temporalHandler) : temporalLower;
         T upper = range.hasUpperBound() ? parseTemporal(range.upperEndpoint(), temporalHandler) : temporalUpper;
         BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
         BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<T> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
+    }
+    
+    private <T extends TemporalAccessor & Comparable<?>> boolean hasIntersection(final Range<T> calculateRange, final Range<T> dateTimeRange) {
         return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
     }
     
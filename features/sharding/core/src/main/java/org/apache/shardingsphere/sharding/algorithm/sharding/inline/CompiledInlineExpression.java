@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>Inline expressions which only interpolate integer arithmetic ({@code + - * %}), {@code hashCode()}, {@code abs()} and {@code Math.abs()} of one sharding column,
+ * such as {@code t_order_${order_id % 16}} and {@code ds_${Math.abs(user_id.hashCode()) % 4}}, are compiled into an evaluator with the same semantics as Groovy.
+ * Other expressions can not be compiled, and evaluation is not supported for sharding values other than integer and string.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final String PLACEHOLDER_BEGIN = "${";
+    
+    private static final char PLACEHOLDER_END = '}';
+    
+    private final String columnName;
+    
+    private final List<String> literals;
+    
+    private final List<ExpressionNode> expressions;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if inline expression can not be compiled
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<ExpressionNode> expressions = new ArrayList<>();
+        ExpressionParser parser = new ExpressionParser();
+        int index = 0;
+        while (true) {
+            int beginIndex = inlineExpression.indexOf(PLACEHOLDER_BEGIN, index);
+            String literal = inlineExpression.substring(index, -1 == beginIndex ? inlineExpression.length() : beginIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            if (-1 == beginIndex) {
+                break;
+            }
+            int endIndex = inlineExpression.indexOf(PLACEHOLDER_END, beginIndex);
+            if (-1 == endIndex) {
+                return Optional.empty();
+            }
+            Optional<ExpressionNode> expression = parser.parse(inlineExpression.substring(beginIndex + PLACEHOLDER_BEGIN.length(), endIndex));
+            if (!expression.isPresent()) {
+                return Optional.empty();
+            }
+            expressions.add(expression.get());
+            index = endIndex + 1;
+        }
+        return null == parser.columnName ? Optional.empty() : Optional.of(new CompiledInlineExpression(parser.columnName, literals, expressions));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return literal.indexOf('$') < 0 && literal.indexOf('"') < 0 && literal.indexOf('\\') < 0 && literal.indexOf(PLACEHOLDER_END) < 0;
+    }
+    
+    /**
+     * Evaluate inline expression with sharding value.
+     *
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return evaluated result, empty if column name is not the one of inline expression or sharding value is not supported
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!this.columnName.equals(columnName)) {
+            return Optional.empty();
+        }
+        Object normalizedValue = normalize(value);
+        if (null == normalizedValue) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder(literals.get(0));
+        for (int i = 0; i < expressions.size(); i++) {
+            Object each = expressions.get(i).evaluate(normalizedValue);
+            if (null == each) {
+                return Optional.empty();
+            }
+            result.append(each).append(literals.get(i + 1));
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private Object normalize(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof String) {
+            return value;
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        return null;
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        if (null == left || null == right) {
+            return null;
+        }
+        if ('+' == operator && (left instanceof String || right instanceof String)) {
+            return String.valueOf(left) + right;
+        }
+        if (left instanceof Integer && right instanceof Integer) {
+            return calculate(operator, (int) left, (int) right);
+        }
+        if (left instanceof Number && right instanceof Number) {
+            return calculate(operator, ((Number) left).longValue(), ((Number) right).longValue());
+        }
+        return null;
+    }
+    
+    private static Object calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static Object calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(int) value;
+        }
+        return value instanceof Long ? (Object) (-(long) value) : null;
+    }
+    
+    private static Object abs(final Object value) {
+        if (value instanceof Integer) {
+            return Math.abs((int) value);
+        }
+        return value instanceof Long ? (Object) Math.abs((long) value) : null;
+    }
+    
+    private interface ExpressionNode {
+        
+        /**
+         * Evaluate expression node.
+         *
+         * @param value normalized sharding value
+         * @return evaluated result, null if not supported
+         */
+        Object evaluate(Object value);
+    }
+    
+    private static final class ExpressionParser {
+        
+        private String columnName;
+        
+        private String expression;
+        
+        private int position;
+        
+        private Optional<ExpressionNode> parse(final String expression) {
+            this.expression = expression;
+            position = 0;
+            ExpressionNode result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private ExpressionNode parseAdditive() {
+            ExpressionNode result = parseMultiplicative();
+            while (null != result) {
+                if (accept('+')) {
+                    result = createBinaryNode('+', result, parseMultiplicative());
+                } else if (accept('-')) {
+                    result = createBinaryNode('-', result, parseMultiplicative());
+                } else {
+                    return result;
+                }
+            }
+            return null;
+        }
+        
+        private ExpressionNode parseMultiplicative() {
+            ExpressionNode result = parseUnary();
+            while (null != result) {
+                if (accept('*')) {
+                    result = createBinaryNode('*', result, parseUnary());
+                } else if (accept('%')) {
+                    result = createBinaryNode('%', result, parseUnary());
+                } else {
+                    return result;
+                }
+            }
+            return null;
+        }
+        
+        private ExpressionNode parseUnary() {
+            if (accept('-')) {
+                ExpressionNode operand = parseUnary();
+                return null == operand ? null : value -> negate(operand.evaluate(value));
+            }
+            return parsePostfix();
+        }
+        
+        private ExpressionNode parsePostfix() {
+            ExpressionNode result = parsePrimary();
+            while (null != result && accept('.')) {
+                String methodName = parseIdentifier();
+                if (!accept('(') || !accept(')')) {
+                    return null;
+                }
+                ExpressionNode operand = result;
+                if ("hashCode".equals(methodName)) {
+                    result = value -> {
+                        Object operandValue = operand.evaluate(value);
+                        return null == operandValue ? null : operandValue.hashCode();
+                    };
+                } else if ("abs".equals(methodName)) {
+                    result = value -> abs(operand.evaluate(value));
+                } else {
+                    return null;
+                }
+            }
+            return result;
+        }
+        
+        private ExpressionNode parsePrimary() {
+            skipWhitespace();
+            if (position >= expression.length()) {
+                return null;
+            }
+            char current = expression.charAt(position);
+            if (accept('(')) {
+                ExpressionNode result = parseAdditive();
+                return null != result && accept(')') ? result : null;
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            String identifier = parseIdentifier();
+            if (null == identifier) {
+                return null;
+            }
+            if ("Math".equals(identifier)) {
+                return parseMathAbs();
+            }
+            if ("it".equals(identifier) || null != columnName && !columnName.equals(identifier)) {
+                return null;
+            }
+            columnName = identifier;
+            return value -> value;
+        }
+        
+        private ExpressionNode parseMathAbs() {
+            if (!accept('.') || !"abs".equals(parseIdentifier()) || !accept('(')) {
+                return null;
+            }
+            ExpressionNode operand = parseAdditive();
+            return null != operand && accept(')') ? value -> abs(operand.evaluate(value)) : null;
+        }
+        
+        private ExpressionNode parseNumber() {
+            int beginIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String literal = expression.substring(beginIndex, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0) || literal.length() > 18 || position < expression.length() && Character.isLetter(expression.charAt(position))) {
+                return null;
+            }
+            long number = Long.parseLong(literal);
+            Object result = number <= Integer.MAX_VALUE ? (Object) (int) number : (Object) number;
+            return value -> result;
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespace();
+            int beginIndex = position;
+            while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position))) {
+                position++;
+            }
+            return beginIndex == position || Character.isDigit(expression.charAt(beginIndex)) ? null : expression.substring(beginIndex, position);
+        }
+        
+        private boolean accept(final char expected) {
+            skipWhitespace();
+            if (position < expression.length() && expected == expression.charAt(position)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+        
+        private ExpressionNode createBinaryNode(final char operator, final ExpressionNode left, final ExpressionNode right) {
+            return null == right ? null : value -> calculate(operator, left.evaluate(value), right.evaluate(value));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingRangeEnumerationUtils;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedComplexInlineShardingAlgorithmColumnAndValueSizeException;
@@ -53,11 +54,14 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private boolean allowRangeQuery;
     
+    private int maxRangeEnumerationCount;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
+        maxRangeEnumerationCount = ShardingRangeEnumerationUtils.getMaxRangeEnumerationCount(props);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -85,9 +89,23 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap = shardingValue.getColumnNameAndShardingValuesMap();
         ShardingSpherePreconditions.checkState(shardingColumns.isEmpty() || shardingColumns.size() == columnNameAndShardingValuesMap.size(),
                 () -> new MismatchedComplexInlineShardingAlgorithmColumnAndValueSizeException(shardingColumns.size(), columnNameAndShardingValuesMap.size()));
+        if (maxRangeEnumerationCount > 0 && getCombinationCount(columnNameAndShardingValuesMap.values()) > maxRangeEnumerationCount) {
+            return availableTargetNames;
+        }
         return flatten(columnNameAndShardingValuesMap).stream().map(this::doSharding).collect(Collectors.toList());
     }
     
+    private long getCombinationCount(final Collection<Collection<Comparable<?>>> shardingValues) {
+        long result = 1L;
+        for (Collection<Comparable<?>> each : shardingValues) {
+            result *= each.size();
+            if (result > maxRangeEnumerationCount) {
+                return result;
+            }
+        }
+        return result;
+    }
+    
     private String doSharding(final Map<String, Comparable<?>> columnNameAndShardingValueMap) {
         columnNameAndShardingValueMap.forEach((key, value) -> ShardingSpherePreconditions.checkNotNull(value, NullShardingValueException::new));
         return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(columnNameAndShardingValueMap);
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingRangeEnumerationUtils;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -30,6 +32,7 @@ import org.apache.shardingsphere.sharding.exception.data.NullShardingValueExcept
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -42,14 +45,25 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private static final String ALLOW_RANGE_QUERY_KEY = "allow-range-query-with-inline-sharding";
     
+    private static final String GROOVY_TYPE = "GROOVY";
+    
     private String algorithmExpression;
     
     private boolean allowRangeQuery;
     
+    private int maxRangeEnumerationCount;
+    
+    private InlineExpressionParser inlineExpressionParser;
+    
+    private CompiledInlineExpression compiledExpression;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         allowRangeQuery = isAllowRangeQuery(props);
+        maxRangeEnumerationCount = ShardingRangeEnumerationUtils.getMaxRangeEnumerationCount(props);
+        inlineExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
+        compiledExpression = GROOVY_TYPE.equals(inlineExpressionParser.getType()) ? CompiledInlineExpression.compile(algorithmExpression).orElse(null) : null;
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -67,8 +81,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(columnName, shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         try {
-            return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(Collections.singletonMap(columnName, shardingValue.getValue()));
+            return inlineExpressionParser.evaluateWithArgs(Collections.singletonMap(columnName, shardingValue.getValue()));
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
@@ -78,7 +98,21 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkState(allowRangeQuery,
                 () -> new UnsupportedSQLOperationException(String.format("Since the property of `%s` is false, inline sharding algorithm can not tackle with range query", ALLOW_RANGE_QUERY_KEY)));
-        return availableTargetNames;
+        Optional<Collection<Comparable<?>>> enumeratedValues = ShardingRangeEnumerationUtils.enumerate(shardingValue, maxRangeEnumerationCount);
+        if (!enumeratedValues.isPresent()) {
+            return availableTargetNames;
+        }
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1F);
+        for (Comparable<?> each : enumeratedValues.get()) {
+            String targetName = doSharding(availableTargetNames, new PreciseShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getDataNodeInfo(), each));
+            if (availableTargetNames.contains(targetName)) {
+                result.add(targetName);
+            }
+            if (result.size() == availableTargetNames.size()) {
+                break;
+            }
+        }
+        return result;
     }
     
     @Override
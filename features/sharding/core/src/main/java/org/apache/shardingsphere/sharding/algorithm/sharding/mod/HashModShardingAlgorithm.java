@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingRangeEnumerationUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -38,9 +41,12 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     private int shardingCount;
     
+    private int maxRangeEnumerationCount;
+    
     @Override
     public void init(final Properties props) {
         shardingCount = getShardingCount(props);
+        maxRangeEnumerationCount = ShardingRangeEnumerationUtils.getMaxRangeEnumerationCount(props);
     }
     
     private int getShardingCount(final Properties props) {
@@ -59,7 +65,19 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return availableTargetNames;
+        Optional<Collection<Comparable<?>>> enumeratedValues = ShardingRangeEnumerationUtils.enumerate(shardingValue, maxRangeEnumerationCount);
+        if (!enumeratedValues.isPresent()) {
+            return availableTargetNames;
+        }
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1F);
+        for (Comparable<?> each : enumeratedValues.get()) {
+            String suffix = String.valueOf(hashShardingValue(each) % shardingCount);
+            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+            if (result.size() == availableTargetNames.size()) {
+                break;
+            }
+        }
+        return result;
     }
     
     private long hashShardingValue(final Object shardingValue) {
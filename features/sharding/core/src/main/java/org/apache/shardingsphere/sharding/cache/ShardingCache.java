@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.cache;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCache;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
@@ -41,11 +42,15 @@ public final class ShardingCache {
     
     private final ShardingRouteCache routeCache;
     
+    private final SQLRewritePlanCache rewritePlanCache;
+    
     public ShardingCache(final ShardingCacheConfiguration config, final ShardingRule shardingRule) {
         configuration = config;
         this.shardingRule = shardingRule;
         timestampServiceRule = new TimestampServiceRule(new DefaultTimestampServiceConfigurationBuilder().build());
         routeCacheableChecker = new ShardingRouteCacheableChecker(this);
         routeCache = new ShardingRouteCache(config.getRouteCache());
+        rewritePlanCache = new SQLRewritePlanCache(config.getRouteCache().getInitialCapacity(), config.getRouteCache().getMaximumSize(), config.getRouteCache().isSoftValues(),
+                config.getAllowedMaxSqlLength());
     }
 }
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.Ord
 import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -35,8 +37,10 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.TopNOrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
@@ -55,6 +59,8 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final ConfigurationProperties props;
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -65,7 +71,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         selectStatementContext.setIndexes(columnLabelIndexMap);
         MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap, database);
-        return decorate(queryResults, selectStatementContext, mergedResult);
+        return mergedResult instanceof TopNOrderByStreamMergedResult ? mergedResult : decorate(queryResults, selectStatementContext, mergedResult);
     }
     
     private boolean isNeedAggregateRewrite(final SQLStatementContext sqlStatementContext) {
@@ -93,7 +99,10 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return isNeedProcessTopN(queryResults, selectStatementContext)
+                    ? new TopNOrderByStreamMergedResult(queryResults, selectStatementContext, schema, selectStatementContext.getPaginationContext().getActualOffset(),
+                            selectStatementContext.getPaginationContext().getActualRowCount().get())
+                    : new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -117,8 +126,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        long spillThreshold = props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD);
+        return spillThreshold > 0L
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, spillThreshold, props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_PARTITION_COUNT))
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
@@ -126,6 +139,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         return !selectStatementContext.getOrderByContext().getItems().isEmpty();
     }
     
+    private boolean isNeedProcessTopN(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) {
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (!paginationContext.isHasPagination() || 1 == queryResults.size() || !paginationContext.getActualRowCount().isPresent()) {
+            return false;
+        }
+        return DatabaseTypedSPILoader.findService(PaginationDecoratorMergedResultBuilder.class, protocolType).map(PaginationDecoratorMergedResultBuilder::isTopNSupported).orElse(false);
+    }
+    
     private MergedResult decorate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) throws SQLException {
         PaginationContext paginationContext = selectStatementContext.getPaginationContext();
         if (!paginationContext.isHasPagination() || 1 == queryResults.size()) {
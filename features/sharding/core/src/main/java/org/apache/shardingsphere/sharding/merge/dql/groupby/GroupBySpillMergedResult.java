@@ -0,0 +1,414 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillCounter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillFileReader;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillFileWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>Groups are aggregated in memory until the estimated heap size, including values kept by distinct aggregations, reaches the spill threshold.
+ * Rows of groups which are not in memory yet are hash partitioned into local temporary files afterward,
+ * then each partition is aggregated and sorted separately in the same way, and all sorted runs are merged on iterating.
+ * Spill files left unread are deleted when the merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final long ROW_OVERHEAD_BYTES = 128L;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 64L;
+    
+    private static final long DISTINCT_VALUE_OVERHEAD_BYTES = 48L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long spillThreshold;
+    
+    private final int partitionCount;
+    
+    private final int columnCount;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Queue<GroupBySpillFileReader> spillFileReaders;
+    
+    private final Collection<Path> spillFiles = new LinkedList<>();
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private GroupBySpillFileReader currentSpillFileReader;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    @Getter
+    private long spilledRowCount;
+    
+    @Getter
+    private long spilledBytes;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                    final long spillThreshold, final int partitionCount) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.spillThreshold = spillThreshold;
+        this.partitionCount = partitionCount;
+        columnCount = queryResults.isEmpty() ? 0 : queryResults.get(0).getMetaData().getColumnCount();
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : GroupByMergeUtils.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        spillFileReaders = new PriorityQueue<>(partitionCount + 1, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        boolean initialized = false;
+        try {
+            init(queryResults);
+            initialized = true;
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new GroupByMergeSpillException(ex);
+        } finally {
+            if (!initialized) {
+                close();
+            }
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException, IOException, ClassNotFoundException {
+        GroupBySpillFileWriter[] partitionWriters = new GroupBySpillFileWriter[partitionCount];
+        List<MemoryQueryResultRow> rows = aggregateRows(new QueryResultsRowSource(queryResults), partitionWriters, 0);
+        if (0L == spilledRowCount) {
+            memoryRows = rows.isEmpty() ? GroupByMergeUtils.getEmptyGroupRows(selectStatementContext).iterator() : rows.iterator();
+            return;
+        }
+        addSortedRun(rows);
+        aggregatePartitions(partitionWriters, 1);
+        GroupBySpillCounter.record(spilledRowCount, spilledBytes);
+    }
+    
+    private List<MemoryQueryResultRow> aggregateRows(final RowSource rowSource, final GroupBySpillFileWriter[] partitionWriters,
+                                                     final int level) throws SQLException, IOException, ClassNotFoundException {
+        Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        long memoryBytes = 0L;
+        try {
+            for (MemoryQueryResultRow row = rowSource.nextRow(); null != row; row = rowSource.nextRow()) {
+                GroupByValue groupByValue = new GroupByValue(row, groupByItems);
+                if (aggregationMap.containsKey(groupByValue)) {
+                    memoryBytes += aggregate(row, aggregationMap.get(groupByValue));
+                } else if (memoryBytes < spillThreshold) {
+                    dataMap.put(groupByValue, row);
+                    aggregationMap.put(groupByValue, createAggregationUnits());
+                    memoryBytes += estimateRowBytes(row) + aggregate(row, aggregationMap.get(groupByValue));
+                } else {
+                    spill(partitionWriters, groupByValue, row, level);
+                }
+            }
+        } finally {
+            closePartitionWriters(partitionWriters);
+        }
+        return getSortedRows(dataMap, aggregationMap);
+    }
+    
+    private void aggregatePartitions(final GroupBySpillFileWriter[] partitionWriters, final int level) throws SQLException, IOException, ClassNotFoundException {
+        for (GroupBySpillFileWriter each : partitionWriters) {
+            if (null == each) {
+                continue;
+            }
+            GroupBySpillFileWriter[] subPartitionWriters = new GroupBySpillFileWriter[partitionCount];
+            try (GroupBySpillFileReader reader = new GroupBySpillFileReader(each, columnCount)) {
+                addSortedRun(aggregateRows(() -> reader.next() ? reader.getCurrentRow() : null, subPartitionWriters, level));
+            }
+            aggregatePartitions(subPartitionWriters, level + 1);
+        }
+    }
+    
+    private Map<AggregationProjection, AggregationUnit> createAggregationUnits() {
+        Map<AggregationProjection, AggregationUnit> result = new LinkedHashMap<>();
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            result.put(each, AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, each.getSeparator().orElse(null)));
+        }
+        return result;
+    }
+    
+    private long aggregate(final MemoryQueryResultRow row, final Map<AggregationProjection, AggregationUnit> aggregationUnits) {
+        long result = 0L;
+        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnits.entrySet()) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(row, entry.getKey()));
+            } else {
+                for (AggregationProjection derived : entry.getKey().getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(row, derived));
+                }
+            }
+            entry.getValue().merge(values);
+            if (entry.getKey() instanceof AggregationDistinctProjection) {
+                result += estimateDistinctValueBytes(values);
+            }
+        }
+        return result;
+    }
+    
+    private long estimateDistinctValueBytes(final List<Comparable<?>> values) {
+        long result = DISTINCT_VALUE_OVERHEAD_BYTES;
+        for (Comparable<?> each : values) {
+            result += estimateCellBytes(each);
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final MemoryQueryResultRow row, final AggregationProjection aggregationProjection) {
+        Object result = row.getCell(aggregationProjection.getIndex());
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    private long estimateRowBytes(final MemoryQueryResultRow row) {
+        long result = ROW_OVERHEAD_BYTES + AGGREGATION_UNIT_BYTES * selectStatementContext.getProjectionsContext().getAggregationProjections().size();
+        for (int i = 1; i <= columnCount; i++) {
+            result += estimateCellBytes(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimateCellBytes(final Object cell) {
+        if (null == cell) {
+            return 8L;
+        }
+        if (cell instanceof CharSequence) {
+            return 40L + 2L * ((CharSequence) cell).length();
+        }
+        if (cell instanceof byte[]) {
+            return 16L + ((byte[]) cell).length;
+        }
+        if (cell instanceof BigDecimal) {
+            return 64L;
+        }
+        return 24L;
+    }
+    
+    private void spill(final GroupBySpillFileWriter[] partitionWriters, final GroupByValue groupByValue, final MemoryQueryResultRow row, final int level) throws IOException {
+        int partition = getPartition(groupByValue, level);
+        if (null == partitionWriters[partition]) {
+            partitionWriters[partition] = createSpillFileWriter();
+        }
+        partitionWriters[partition].write(row);
+        spilledRowCount++;
+    }
+    
+    private int getPartition(final GroupByValue groupByValue, final int level) {
+        int hash = groupByValue.hashCode();
+        for (int i = 0; i < level; i++) {
+            hash = Integer.rotateLeft(hash * 0x9E3779B9, 16);
+        }
+        return Math.floorMod(hash, partitionCount);
+    }
+    
+    private GroupBySpillFileWriter createSpillFileWriter() throws IOException {
+        GroupBySpillFileWriter result = new GroupBySpillFileWriter(columnCount);
+        spillFiles.add(result.getFile());
+        return result;
+    }
+    
+    private void closePartitionWriters(final GroupBySpillFileWriter[] partitionWriters) throws IOException {
+        for (GroupBySpillFileWriter each : partitionWriters) {
+            if (null != each) {
+                each.close();
+                spilledBytes += Files.size(each.getFile());
+            }
+        }
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            for (Entry<AggregationProjection, AggregationUnit> each : aggregationMap.get(entry.getKey()).entrySet()) {
+                entry.getValue().setCell(each.getKey().getIndex(), each.getValue().getResult());
+            }
+            result.add(entry.getValue());
+        }
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    private void addSortedRun(final List<MemoryQueryResultRow> rows) throws IOException, ClassNotFoundException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        GroupBySpillFileWriter writer = createSpillFileWriter();
+        try (GroupBySpillFileWriter ignored = writer) {
+            for (MemoryQueryResultRow each : rows) {
+                writer.write(each);
+            }
+        }
+        spilledBytes += Files.size(writer.getFile());
+        GroupBySpillFileReader reader = new GroupBySpillFileReader(writer, columnCount);
+        if (reader.next()) {
+            spillFileReaders.offer(reader);
+        }
+    }
+    
+    private void closeSpillFileReaders() {
+        if (null != currentSpillFileReader) {
+            closeSpillFileReader(currentSpillFileReader);
+            currentSpillFileReader = null;
+        }
+        for (GroupBySpillFileReader each : spillFileReaders) {
+            closeSpillFileReader(each);
+        }
+        spillFileReaders.clear();
+    }
+    
+    private void closeSpillFileReader(final GroupBySpillFileReader spillFileReader) {
+        try {
+            spillFileReader.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    @Override
+    public void close() {
+        closeSpillFileReaders();
+        for (Path each : spillFiles) {
+            try {
+                Files.deleteIfExists(each);
+            } catch (final IOException ignored) {
+            }
+        }
+        spillFiles.clear();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryRows) {
+            currentRow = memoryRows.hasNext() ? memoryRows.next() : null;
+            return null != currentRow;
+        }
+        try {
+            if (null != currentSpillFileReader && currentSpillFileReader.next()) {
+                spillFileReaders.offer(currentSpillFileReader);
+            }
+        } catch (final IOException | ClassNotFoundException ex) {
+            close();
+            throw new GroupByMergeSpillException(ex);
+        }
+        currentSpillFileReader = spillFileReaders.poll();
+        currentRow = null == currentSpillFileReader ? null : currentSpillFileReader.getCurrentRow();
+        return null != currentRow;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private interface RowSource {
+        
+        MemoryQueryResultRow nextRow() throws SQLException, IOException, ClassNotFoundException;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class QueryResultsRowSource implements RowSource {
+        
+        private final List<QueryResult> queryResults;
+        
+        private int index;
+        
+        @Override
+        public MemoryQueryResultRow nextRow() throws SQLException {
+            while (index < queryResults.size()) {
+                QueryResult queryResult = queryResults.get(index);
+                if (queryResult.next()) {
+                    return new MemoryQueryResultRow(queryResult);
+                }
+                index++;
+            }
+            return null;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -40,6 +41,10 @@ public final class GroupByValue {
         groupValues = getGroupByValues(queryResult, groupByItems);
     }
     
+    public GroupByValue(final MemoryQueryResultRow row, final Collection<OrderByItem> groupByItems) {
+        groupValues = getGroupByValues(row, groupByItems);
+    }
+    
     private List<?> getGroupByValues(final QueryResult queryResult, final Collection<OrderByItem> groupByItems) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderByItem each : groupByItems) {
@@ -47,4 +52,12 @@ public final class GroupByValue {
         }
         return result;
     }
+    
+    private List<?> getGroupByValues(final MemoryQueryResultRow row, final Collection<OrderByItem> groupByItems) {
+        List<Object> result = new ArrayList<>(groupByItems.size());
+        for (OrderByItem each : groupByItems) {
+            result.add(row.getCell(each.getIndex()));
+        }
+        return result;
+    }
 }
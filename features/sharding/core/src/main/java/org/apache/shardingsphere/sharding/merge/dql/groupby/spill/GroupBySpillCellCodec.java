@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Group by spill cell codec.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupBySpillCellCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte BIG_INTEGER = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte UTIL_DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte BLOB = 19;
+    
+    private static final byte CLOB = 20;
+    
+    private static final byte SERIALIZABLE = 21;
+    
+    /**
+     * Write cell.
+     *
+     * @param outputStream output stream
+     * @param cell cell to be written
+     * @throws IOException IO exception
+     */
+    public static void write(final DataOutputStream outputStream, final Object cell) throws IOException {
+        if (null == cell) {
+            outputStream.writeByte(NULL);
+        } else if (cell instanceof Boolean) {
+            outputStream.writeByte(BOOLEAN);
+            outputStream.writeBoolean((Boolean) cell);
+        } else if (cell instanceof Byte) {
+            outputStream.writeByte(BYTE);
+            outputStream.writeByte((Byte) cell);
+        } else if (cell instanceof Short) {
+            outputStream.writeByte(SHORT);
+            outputStream.writeShort((Short) cell);
+        } else if (cell instanceof Integer) {
+            outputStream.writeByte(INTEGER);
+            outputStream.writeInt((Integer) cell);
+        } else if (cell instanceof Long) {
+            outputStream.writeByte(LONG);
+            outputStream.writeLong((Long) cell);
+        } else if (cell instanceof Float) {
+            outputStream.writeByte(FLOAT);
+            outputStream.writeFloat((Float) cell);
+        } else if (cell instanceof Double) {
+            outputStream.writeByte(DOUBLE);
+            outputStream.writeDouble((Double) cell);
+        } else if (cell instanceof BigDecimal) {
+            outputStream.writeByte(BIG_DECIMAL);
+            outputStream.writeInt(((BigDecimal) cell).scale());
+            writeBytes(outputStream, ((BigDecimal) cell).unscaledValue().toByteArray());
+        } else if (cell instanceof BigInteger) {
+            outputStream.writeByte(BIG_INTEGER);
+            writeBytes(outputStream, ((BigInteger) cell).toByteArray());
+        } else if (cell instanceof String) {
+            outputStream.writeByte(STRING);
+            writeBytes(outputStream, ((String) cell).getBytes(StandardCharsets.UTF_8));
+        } else if (cell instanceof byte[]) {
+            outputStream.writeByte(BYTES);
+            writeBytes(outputStream, (byte[]) cell);
+        } else if (cell instanceof Date) {
+            outputStream.writeByte(DATE);
+            outputStream.writeLong(((Date) cell).getTime());
+        } else if (cell instanceof Time) {
+            outputStream.writeByte(TIME);
+            outputStream.writeLong(((Time) cell).getTime());
+        } else if (cell instanceof Timestamp) {
+            outputStream.writeByte(TIMESTAMP);
+            outputStream.writeLong(((Timestamp) cell).getTime());
+            outputStream.writeInt(((Timestamp) cell).getNanos());
+        } else if (java.util.Date.class == cell.getClass()) {
+            outputStream.writeByte(UTIL_DATE);
+            outputStream.writeLong(((java.util.Date) cell).getTime());
+        } else if (cell instanceof LocalDate) {
+            outputStream.writeByte(LOCAL_DATE);
+            outputStream.writeLong(((LocalDate) cell).toEpochDay());
+        } else if (cell instanceof LocalTime) {
+            outputStream.writeByte(LOCAL_TIME);
+            outputStream.writeLong(((LocalTime) cell).toNanoOfDay());
+        } else if (cell instanceof LocalDateTime) {
+            outputStream.writeByte(LOCAL_DATE_TIME);
+            outputStream.writeLong(((LocalDateTime) cell).toLocalDate().toEpochDay());
+            outputStream.writeLong(((LocalDateTime) cell).toLocalTime().toNanoOfDay());
+        } else if (cell instanceof Blob) {
+            outputStream.writeByte(BLOB);
+            writeBytes(outputStream, getBlobBytes((Blob) cell));
+        } else if (cell instanceof Clob) {
+            outputStream.writeByte(CLOB);
+            writeBytes(outputStream, getClobString((Clob) cell).getBytes(StandardCharsets.UTF_8));
+        } else if (cell instanceof Serializable) {
+            outputStream.writeByte(SERIALIZABLE);
+            writeBytes(outputStream, serialize(cell));
+        } else {
+            throw new NotSerializableException(cell.getClass().getName());
+        }
+    }
+    
+    private static void writeBytes(final DataOutputStream outputStream, final byte[] bytes) throws IOException {
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+    
+    private static byte[] getBlobBytes(final Blob blob) throws IOException {
+        try {
+            return blob.getBytes(1L, (int) blob.length());
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static String getClobString(final Clob clob) throws IOException {
+        try {
+            return clob.getSubString(1L, (int) clob.length());
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static byte[] serialize(final Object cell) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(cell);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read cell.
+     *
+     * @param inputStream input stream
+     * @return read cell
+     * @throws IOException IO exception
+     * @throws ClassNotFoundException class not found exception
+     */
+    public static Object read(final DataInputStream inputStream) throws IOException, ClassNotFoundException {
+        byte type = inputStream.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return inputStream.readBoolean();
+            case BYTE:
+                return inputStream.readByte();
+            case SHORT:
+                return inputStream.readShort();
+            case INTEGER:
+                return inputStream.readInt();
+            case LONG:
+                return inputStream.readLong();
+            case FLOAT:
+                return inputStream.readFloat();
+            case DOUBLE:
+                return inputStream.readDouble();
+            case BIG_DECIMAL:
+                return readBigDecimal(inputStream);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(inputStream));
+            case STRING:
+                return new String(readBytes(inputStream), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(inputStream);
+            case DATE:
+                return new Date(inputStream.readLong());
+            case TIME:
+                return new Time(inputStream.readLong());
+            case TIMESTAMP:
+                return readTimestamp(inputStream);
+            case UTIL_DATE:
+                return new java.util.Date(inputStream.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(inputStream.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(inputStream.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(inputStream.readLong()), LocalTime.ofNanoOfDay(inputStream.readLong()));
+            case BLOB:
+                return createBlob(readBytes(inputStream));
+            case CLOB:
+                return createClob(new String(readBytes(inputStream), StandardCharsets.UTF_8));
+            case SERIALIZABLE:
+                return deserialize(readBytes(inputStream));
+            default:
+                throw new IOException(String.format("Unknown spilled cell type `%s`.", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInputStream inputStream) throws IOException {
+        byte[] result = new byte[inputStream.readInt()];
+        inputStream.readFully(result);
+        return result;
+    }
+    
+    private static BigDecimal readBigDecimal(final DataInputStream inputStream) throws IOException {
+        int scale = inputStream.readInt();
+        return new BigDecimal(new BigInteger(readBytes(inputStream)), scale);
+    }
+    
+    private static Timestamp readTimestamp(final DataInputStream inputStream) throws IOException {
+        Timestamp result = new Timestamp(inputStream.readLong());
+        result.setNanos(inputStream.readInt());
+        return result;
+    }
+    
+    private static Blob createBlob(final byte[] bytes) throws IOException {
+        try {
+            return new SerialBlob(bytes);
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static Clob createClob(final String value) throws IOException {
+        try {
+            return new SerialClob(value.toCharArray());
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        }
+    }
+}
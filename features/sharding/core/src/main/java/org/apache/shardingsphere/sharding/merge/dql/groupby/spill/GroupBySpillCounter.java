@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group by spill counter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupBySpillCounter {
+    
+    private static final LongAdder SPILLED_QUERY_COUNT = new LongAdder();
+    
+    private static final LongAdder SPILLED_ROW_COUNT = new LongAdder();
+    
+    private static final LongAdder SPILLED_BYTES = new LongAdder();
+    
+    /**
+     * Record spilled query.
+     *
+     * @param rowCount spilled row count
+     * @param bytes spilled bytes
+     */
+    public static void record(final long rowCount, final long bytes) {
+        SPILLED_QUERY_COUNT.increment();
+        SPILLED_ROW_COUNT.add(rowCount);
+        SPILLED_BYTES.add(bytes);
+    }
+    
+    /**
+     * Get count of queries which spilled group by merged rows to disk.
+     *
+     * @return spilled query count
+     */
+    public static long getSpilledQueryCount() {
+        return SPILLED_QUERY_COUNT.sum();
+    }
+    
+    /**
+     * Get count of rows spilled to disk.
+     *
+     * @return spilled row count
+     */
+    public static long getSpilledRowCount() {
+        return SPILLED_ROW_COUNT.sum();
+    }
+    
+    /**
+     * Get bytes spilled to disk.
+     *
+     * @return spilled bytes
+     */
+    public static long getSpilledBytes() {
+        return SPILLED_BYTES.sum();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Group by spill file reader.
+ */
+public final class GroupBySpillFileReader implements AutoCloseable {
+    
+    private final Path file;
+    
+    private final int columnCount;
+    
+    private final DataInputStream inputStream;
+    
+    private long remainingRowCount;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    public GroupBySpillFileReader(final GroupBySpillFileWriter writer, final int columnCount) throws IOException {
+        file = writer.getFile();
+        this.columnCount = columnCount;
+        inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        remainingRowCount = writer.getRowCount();
+    }
+    
+    /**
+     * Read next row, the spill file is closed and deleted after the last row read.
+     *
+     * @return has next row or not
+     * @throws IOException IO exception
+     * @throws ClassNotFoundException class not found exception
+     */
+    public boolean next() throws IOException, ClassNotFoundException {
+        if (remainingRowCount <= 0L) {
+            currentRow = null;
+            close();
+            return false;
+        }
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = GroupBySpillCellCodec.read(inputStream);
+        }
+        currentRow = new MemoryQueryResultRow(data);
+        remainingRowCount--;
+        return true;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+        Files.deleteIfExists(file);
+    }
+}
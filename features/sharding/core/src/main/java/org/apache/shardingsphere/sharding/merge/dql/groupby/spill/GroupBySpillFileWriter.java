@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Group by spill file writer.
+ */
+public final class GroupBySpillFileWriter implements AutoCloseable {
+    
+    @Getter
+    private final Path file;
+    
+    private final int columnCount;
+    
+    private final DataOutputStream outputStream;
+    
+    @Getter
+    private long rowCount;
+    
+    public GroupBySpillFileWriter(final int columnCount) throws IOException {
+        file = Files.createTempFile("shardingsphere-group-by-", ".spill");
+        this.columnCount = columnCount;
+        outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final MemoryQueryResultRow row) throws IOException {
+        for (int i = 1; i <= columnCount; i++) {
+            GroupBySpillCellCodec.write(outputStream, row.getCell(i));
+        }
+        rowCount++;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+    }
+}
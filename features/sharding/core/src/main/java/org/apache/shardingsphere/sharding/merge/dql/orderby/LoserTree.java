@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Loser tree for k-way merge.
+ *
+ * <p>Each internal node keeps the loser of the match between its children, and node 0 keeps the overall winner.
+ * Replacing the winner only replays the matches on its path to root, which costs log2(k) comparisons,
+ * and the replaced element loses ties, which keeps the order of the priority queue based merge it replaces.</p>
+ *
+ * @param <T> type of element
+ */
+public final class LoserTree<T> {
+    
+    private final Object[] leaves;
+    
+    private final int[] tree;
+    
+    private final Comparator<? super T> comparator;
+    
+    public LoserTree(final List<T> elements, final Comparator<? super T> comparator) {
+        leaves = elements.toArray();
+        tree = new int[Math.max(leaves.length, 1)];
+        this.comparator = comparator;
+        build();
+    }
+    
+    private void build() {
+        int leafCount = leaves.length;
+        if (leafCount <= 1) {
+            return;
+        }
+        int[] winners = new int[leafCount * 2];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (!isBetter(right, left)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = winners[1];
+    }
+    
+    /**
+     * Judge whether all elements are exhausted.
+     *
+     * @return all elements are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || null == leaves[tree[0]];
+    }
+    
+    /**
+     * Get current winner.
+     *
+     * @return current winner, null if all elements are exhausted
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return 0 == leaves.length ? null : (T) leaves[tree[0]];
+    }
+    
+    /**
+     * Replace current winner and replay matches to find next winner.
+     *
+     * @param element element to replace current winner, null means the winner is exhausted
+     */
+    public void replaceWinner(final T element) {
+        if (0 == leaves.length) {
+            return;
+        }
+        int winner = tree[0];
+        leaves[winner] = element;
+        for (int node = (winner + leaves.length) / 2; node > 0; node /= 2) {
+            if (!isBetter(winner, tree[node])) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private boolean isBetter(final int index, final int otherIndex) {
+        Object element = leaves[index];
+        Object otherElement = leaves[otherIndex];
+        if (null == element) {
+            return false;
+        }
+        if (null == otherElement) {
+            return true;
+        }
+        return comparator.compare((T) element, (T) otherElement) < 0;
+    }
+}
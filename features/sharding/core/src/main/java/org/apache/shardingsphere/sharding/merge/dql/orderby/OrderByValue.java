@@ -20,11 +20,13 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
@@ -32,8 +34,8 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -41,6 +43,12 @@ import java.util.List;
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte OBJECT_VALUE_TYPE = 0;
+    
+    private static final byte LONG_VALUE_TYPE = 1;
+    
+    private static final byte DOUBLE_VALUE_TYPE = 2;
+    
     @Getter
     private final QueryResult queryResult;
     
@@ -50,7 +58,17 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final byte[] orderValueTypes;
+    
+    private final long[] longOrderValues;
+    
+    private final double[] doubleOrderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -58,6 +76,18 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+            i++;
+        }
+        orderValues = new Comparable<?>[orderByItems.size()];
+        orderValueTypes = new byte[orderByItems.size()];
+        longOrderValues = new long[orderByItems.size()];
+        doubleOrderValues = new double[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +129,54 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+            Arrays.fill(orderValueTypes, OBJECT_VALUE_TYPE);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void loadOrderValues() throws SQLException {
+        int i = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                orderValueTypes[i] = LONG_VALUE_TYPE;
+                longOrderValues[i] = ((Number) value).longValue();
+            } else if (value instanceof Double || value instanceof Float) {
+                orderValueTypes[i] = DOUBLE_VALUE_TYPE;
+                doubleOrderValues[i] = ((Number) value).doubleValue();
+            } else {
+                orderValueTypes[i] = OBJECT_VALUE_TYPE;
+            }
+            i++;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = compareTo(orderByValue, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue orderByValue, final int index) {
+        if (LONG_VALUE_TYPE == orderValueTypes[index] && LONG_VALUE_TYPE == orderByValue.orderValueTypes[index]) {
+            int result = Long.compare(longOrderValues[index], orderByValue.longOrderValues[index]);
+            return OrderDirection.ASC == orderDirections[index] ? result : -result;
+        }
+        if (DOUBLE_VALUE_TYPE == orderValueTypes[index] && DOUBLE_VALUE_TYPE == orderByValue.orderValueTypes[index]) {
+            int result = Double.compare(doubleOrderValues[index], orderByValue.doubleOrderValues[index]);
+            return OrderDirection.ASC == orderDirections[index] ? result : -result;
+        }
+        return CompareUtils.compareTo(orderValues[index], orderByValue.orderValues[index], orderDirections[index], nullsOrderTypes[index], orderValuesCaseSensitive.get(index));
+    }
 }
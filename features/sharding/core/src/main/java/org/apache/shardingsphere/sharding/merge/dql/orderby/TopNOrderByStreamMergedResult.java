@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with limit, which only merges top N rows of ordered query results.
+ *
+ * <p>Query results are closed as soon as they are exhausted or row count is reached, instead of being kept open until merged result is closed.</p>
+ */
+public final class TopNOrderByStreamMergedResult extends OrderByStreamMergedResult {
+    
+    private final List<QueryResult> queryResults;
+    
+    private final long rowCount;
+    
+    private final Collection<QueryResult> closedQueryResults = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    private final boolean skipAll;
+    
+    private long rowNumber;
+    
+    public TopNOrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                         final long offset, final long rowCount) throws SQLException {
+        super(queryResults, selectStatementContext, schema);
+        this.queryResults = queryResults;
+        this.rowCount = rowCount;
+        skipAll = skipOffset(offset);
+    }
+    
+    private boolean skipOffset(final long offset) throws SQLException {
+        for (long i = 0L; i < offset; i++) {
+            if (!super.next()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (!skipAll && rowNumber < rowCount && super.next()) {
+            rowNumber++;
+            return true;
+        }
+        closeQueryResults();
+        return false;
+    }
+    
+    private void closeQueryResults() {
+        for (QueryResult each : queryResults) {
+            closeQueryResult(each);
+        }
+    }
+    
+    @Override
+    protected void queryResultExhausted(final QueryResult queryResult) {
+        closeQueryResult(queryResult);
+    }
+    
+    private void closeQueryResult(final QueryResult queryResult) {
+        if (!closedQueryResults.add(queryResult)) {
+            return;
+        }
+        try {
+            queryResult.close();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ignored) {
+            // CHECKSTYLE:ON
+        }
+    }
+}
@@ -40,4 +40,13 @@ public interface PaginationDecoratorMergedResultBuilder extends DatabaseTypedSPI
      * @throws SQLException SQL exception
      */
     DecoratorMergedResult build(MergedResult mergedResult, PaginationContext paginationContext) throws SQLException;
+    
+    /**
+     * Judge whether pagination can be merged as top N rows of ordered query results.
+     *
+     * @return can be merged as top N rows or not
+     */
+    default boolean isTopNSupported() {
+        return false;
+    }
 }
@@ -35,6 +35,11 @@ public final class PostgreSQLPaginationDecoratorMergedResultBuilder implements P
         return new LimitDecoratorMergedResult(mergedResult, paginationContext);
     }
     
+    @Override
+    public boolean isTopNSupported() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
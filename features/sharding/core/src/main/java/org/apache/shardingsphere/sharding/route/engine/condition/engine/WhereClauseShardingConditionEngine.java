@@ -22,6 +22,10 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.extractor.SQLStatementContextExtractor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.WhereAvailable;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.sharding.exception.data.ShardingValueDataTypeException;
 import org.apache.shardingsphere.sharding.route.engine.condition.AlwaysFalseShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.Column;
@@ -38,10 +42,13 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.Co
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.AndPredicate;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
 import org.apache.shardingsphere.sql.parser.statement.core.util.SafeNumberOperationUtils;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -59,6 +66,10 @@ import java.util.Set;
 @RequiredArgsConstructor
 public final class WhereClauseShardingConditionEngine {
     
+    private static final Collection<Integer> INTEGRAL_DATA_TYPES = new HashSet<>(Arrays.asList(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT));
+    
+    private final ShardingSphereDatabase database;
+    
     private final ShardingRule rule;
     
     private final TimestampServiceRule timestampServiceRule;
@@ -85,11 +96,12 @@ public final class WhereClauseShardingConditionEngine {
         Collection<AndPredicate> andPredicates = ExpressionExtractor.extractAndPredicates(expression);
         Collection<ShardingCondition> result = new LinkedList<>();
         for (AndPredicate each : andPredicates) {
-            Map<Column, Collection<ShardingConditionValue>> shardingConditionValues = createShardingConditionValueMap(each.getPredicates(), params);
+            Collection<Column> integralColumns = new HashSet<>();
+            Map<Column, Collection<ShardingConditionValue>> shardingConditionValues = createShardingConditionValueMap(each.getPredicates(), params, integralColumns);
             if (shardingConditionValues.isEmpty()) {
                 return Collections.emptyList();
             }
-            ShardingCondition shardingCondition = createShardingCondition(shardingConditionValues);
+            ShardingCondition shardingCondition = createShardingCondition(shardingConditionValues, integralColumns);
             // TODO remove startIndex when federation has perfect support for subquery
             shardingCondition.setStartIndex(expression.getStartIndex());
             result.add(shardingCondition);
@@ -97,7 +109,8 @@ public final class WhereClauseShardingConditionEngine {
         return result;
     }
     
-    private Map<Column, Collection<ShardingConditionValue>> createShardingConditionValueMap(final Collection<ExpressionSegment> predicates, final List<Object> params) {
+    private Map<Column, Collection<ShardingConditionValue>> createShardingConditionValueMap(final Collection<ExpressionSegment> predicates, final List<Object> params,
+                                                                                            final Collection<Column> integralColumns) {
         Map<Column, Collection<ShardingConditionValue>> result = new HashMap<>(predicates.size(), 1F);
         for (ExpressionSegment each : predicates) {
             for (ColumnSegment columnSegment : ColumnExtractor.extract(each)) {
@@ -112,16 +125,33 @@ public final class WhereClauseShardingConditionEngine {
                     continue;
                 }
                 result.computeIfAbsent(column, unused -> new LinkedList<>()).add(shardingConditionValue.get());
+                if (shardingConditionValue.get() instanceof RangeShardingConditionValue && isIntegralColumn(columnSegment.getColumnBoundInfo())) {
+                    integralColumns.add(column);
+                }
             }
         }
         return result;
     }
     
-    private ShardingCondition createShardingCondition(final Map<Column, Collection<ShardingConditionValue>> shardingConditionValues) {
+    private boolean isIntegralColumn(final ColumnSegmentBoundInfo columnBoundInfo) {
+        String schemaName = columnBoundInfo.getOriginalSchema().getValue().isEmpty()
+                ? new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName())
+                : columnBoundInfo.getOriginalSchema().getValue();
+        ShardingSphereSchema schema = null == schemaName ? null : database.getSchema(schemaName);
+        String tableName = columnBoundInfo.getOriginalTable().getValue();
+        if (null == schema || !schema.containsTable(tableName)) {
+            return false;
+        }
+        ShardingSphereTable table = schema.getTable(tableName);
+        String columnName = columnBoundInfo.getOriginalColumn().getValue();
+        return table.containsColumn(columnName) && INTEGRAL_DATA_TYPES.contains(table.getColumn(columnName).getDataType());
+    }
+    
+    private ShardingCondition createShardingCondition(final Map<Column, Collection<ShardingConditionValue>> shardingConditionValues, final Collection<Column> integralColumns) {
         ShardingCondition result = new ShardingCondition();
         for (Entry<Column, Collection<ShardingConditionValue>> entry : shardingConditionValues.entrySet()) {
             try {
-                ShardingConditionValue shardingConditionValue = mergeShardingConditionValues(entry.getKey(), entry.getValue());
+                ShardingConditionValue shardingConditionValue = mergeShardingConditionValues(entry.getKey(), entry.getValue(), integralColumns.contains(entry.getKey()));
                 if (shardingConditionValue instanceof AlwaysFalseShardingConditionValue) {
                     return new AlwaysFalseShardingCondition();
                 }
@@ -134,7 +164,7 @@ public final class WhereClauseShardingConditionEngine {
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private ShardingConditionValue mergeShardingConditionValues(final Column column, final Collection<ShardingConditionValue> shardingConditionValues) {
+    private ShardingConditionValue mergeShardingConditionValues(final Column column, final Collection<ShardingConditionValue> shardingConditionValues, final boolean integralColumn) {
         Collection<Comparable<?>> listValue = null;
         Range<Comparable<?>> rangeValue = null;
         Set<Integer> parameterMarkerIndexes = new HashSet<>();
@@ -154,7 +184,7 @@ public final class WhereClauseShardingConditionEngine {
             }
         }
         if (null == listValue) {
-            return new RangeShardingConditionValue<>(column.getName(), column.getTableName(), rangeValue, new ArrayList<>(parameterMarkerIndexes));
+            return new RangeShardingConditionValue<>(column.getName(), column.getTableName(), rangeValue, new ArrayList<>(parameterMarkerIndexes), integralColumn);
         }
         if (null == rangeValue) {
             return new ListShardingConditionValue<>(column.getName(), column.getTableName(), listValue, new ArrayList<>(parameterMarkerIndexes));
@@ -43,7 +43,13 @@ public final class RangeShardingConditionValue<T extends Comparable<?>> implemen
     
     private final List<Integer> parameterMarkerIndexes;
     
+    private final boolean integralColumn;
+    
     public RangeShardingConditionValue(final String columnName, final String tableName, final Range<T> valueRange) {
         this(columnName, tableName, valueRange, Collections.emptyList());
     }
+    
+    public RangeShardingConditionValue(final String columnName, final String tableName, final Range<T> valueRange, final List<Integer> parameterMarkerIndexes) {
+        this(columnName, tableName, valueRange, parameterMarkerIndexes, false);
+    }
 }
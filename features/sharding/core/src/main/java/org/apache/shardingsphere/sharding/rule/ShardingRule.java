@@ -54,6 +54,7 @@ import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingDataNodeRuleAttribute;
+import org.apache.shardingsphere.sharding.rule.attribute.ShardingSQLRewritePlanCacheRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableNamesRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.checker.ShardingRuleChecker;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -141,11 +142,54 @@ public final class ShardingRule implements DatabaseRule {
         // TODO check sharding rule configuration according to aggregated data sources
         Map<String, DataSource> aggregatedDataSources = new RuleMetaData(builtRules).findAttribute(AggregatedDataSourceRuleAttribute.class)
                 .map(AggregatedDataSourceRuleAttribute::getAggregatedDataSources).orElseGet(() -> PhysicalDataSourceAggregator.getAggregatedDataSources(dataSources, builtRules));
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
-                new AggregatedDataSourceRuleAttribute(aggregatedDataSources));
+        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables, createUniqueKeyShardingColumns()), new ShardingTableNamesRuleAttribute(shardingTables.values()),
+                new AggregatedDataSourceRuleAttribute(aggregatedDataSources), new ShardingSQLRewritePlanCacheRuleAttribute(null == shardingCache ? null : shardingCache.getRewritePlanCache()));
         shardingRuleChecker.check(ruleConfig);
     }
     
+    private Map<String, Collection<String>> createUniqueKeyShardingColumns() {
+        Map<String, Collection<String>> result = new CaseInsensitiveMap<>(shardingTables.size(), 1F);
+        for (ShardingTable each : shardingTables.values()) {
+            findUniqueKeyShardingColumns(each).ifPresent(optional -> result.put(each.getLogicTable(), optional));
+        }
+        return result;
+    }
+    
+    private Optional<Collection<String>> findUniqueKeyShardingColumns(final ShardingTable shardingTable) {
+        ShardingStrategyConfiguration databaseShardingStrategyConfig = getDatabaseShardingStrategyConfiguration(shardingTable);
+        ShardingStrategyConfiguration tableShardingStrategyConfig = getTableShardingStrategyConfiguration(shardingTable);
+        Optional<Collection<String>> databaseShardingColumns = findShardingColumns(databaseShardingStrategyConfig);
+        Optional<Collection<String>> tableShardingColumns = findShardingColumns(tableShardingStrategyConfig);
+        boolean isDataSourceDetermined = databaseShardingColumns.isPresent() || databaseShardingStrategyConfig instanceof NoneShardingStrategyConfiguration
+                && (1 == shardingTable.getActualDataSourceNames().size() || tableShardingColumns.isPresent() && isActualTableNamesUnique(shardingTable));
+        boolean isTableDetermined = tableShardingColumns.isPresent()
+                || tableShardingStrategyConfig instanceof NoneShardingStrategyConfiguration && shardingTable.getActualDataNodes().size() == shardingTable.getActualDataSourceNames().size();
+        if (!isDataSourceDetermined || !isTableDetermined) {
+            return Optional.empty();
+        }
+        Collection<String> result = new CaseInsensitiveSet<>();
+        databaseShardingColumns.ifPresent(result::addAll);
+        tableShardingColumns.ifPresent(result::addAll);
+        return Optional.of(result);
+    }
+    
+    private Optional<Collection<String>> findShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null == shardingColumn ? Optional.empty() : Optional.of(Collections.singleton(shardingColumn));
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return Optional.of(Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()));
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isActualTableNamesUnique(final ShardingTable shardingTable) {
+        return shardingTable.getActualDataNodes().stream().map(DataNode::getTableName).distinct().count() == shardingTable.getActualDataNodes().size();
+    }
+    
     private ShardingStrategyConfiguration createDefaultDatabaseShardingStrategyConfiguration(final ShardingRuleConfiguration ruleConfig) {
         Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
         return null == ruleConfig.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultDatabaseShardingStrategy();
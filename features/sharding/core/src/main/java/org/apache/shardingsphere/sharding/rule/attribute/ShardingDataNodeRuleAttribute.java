@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.rule.attribute;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
@@ -38,9 +39,12 @@ public final class ShardingDataNodeRuleAttribute implements DataNodeRuleAttribut
     
     private final Map<String, Collection<DataNode>> tableDataNodes;
     
-    public ShardingDataNodeRuleAttribute(final Map<String, ShardingTable> shardingTables) {
+    private final Map<String, Collection<String>> uniqueKeyShardingColumns;
+    
+    public ShardingDataNodeRuleAttribute(final Map<String, ShardingTable> shardingTables, final Map<String, Collection<String>> uniqueKeyShardingColumns) {
         this.shardingTables = shardingTables;
         tableDataNodes = createShardingTableDataNodes(shardingTables);
+        this.uniqueKeyShardingColumns = uniqueKeyShardingColumns;
     }
     
     private Map<String, Collection<DataNode>> createShardingTableDataNodes(final Map<String, ShardingTable> shardingTables) {
@@ -88,6 +92,12 @@ public final class ShardingDataNodeRuleAttribute implements DataNodeRuleAttribut
         return shardingTables.containsKey(logicTableName);
     }
     
+    @Override
+    public boolean isGlobalUniqueKey(final String logicTable, final Collection<String> keyColumnNames) {
+        Collection<String> shardingColumns = uniqueKeyShardingColumns.get(logicTable);
+        return null != shardingColumns && new CaseInsensitiveSet<>(keyColumnNames).containsAll(shardingColumns);
+    }
+    
     @Override
     public Optional<String> findLogicTableByActualTable(final String actualTable) {
         return findShardingTableByActualTable(actualTable).map(ShardingTable::getLogicTable);
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ShardingRangeEnumerationUtilsTest {
+    
+    @Test
+    void assertGetMaxRangeEnumerationCount() {
+        assertThat(ShardingRangeEnumerationUtils.getMaxRangeEnumerationCount(new Properties()), is(0));
+        assertThat(ShardingRangeEnumerationUtils.getMaxRangeEnumerationCount(PropertiesBuilder.build(new Property("max-range-enumeration-count", "8"))), is(8));
+    }
+    
+    @Test
+    void assertEnumerateIntegerRange() {
+        assertThat(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed(1, 3), true), 3), is(Optional.of(Arrays.<Comparable<?>>asList(1, 2, 3))));
+        assertThat(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>open(1, 3), true), 3), is(Optional.of(Arrays.<Comparable<?>>asList(2))));
+    }
+    
+    @Test
+    void assertEnumerateLongRange() {
+        assertThat(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closedOpen(Long.MAX_VALUE - 1L, Long.MAX_VALUE), true), 3),
+                is(Optional.of(Arrays.<Comparable<?>>asList(Long.MAX_VALUE - 1L))));
+        assertThat(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed(Long.MAX_VALUE - 1L, Long.MAX_VALUE), true), 3),
+                is(Optional.of(Arrays.<Comparable<?>>asList(Long.MAX_VALUE - 1L, Long.MAX_VALUE))));
+    }
+    
+    @Test
+    void assertEnumerateUnsupportedRange() {
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>atLeast(1), true), 3).isPresent());
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed("a", "b"), true), 3).isPresent());
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>open(1, 2), true), 3).isPresent());
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed(Long.MIN_VALUE, Long.MAX_VALUE), true), 3).isPresent());
+    }
+    
+    @Test
+    void assertEnumerateNegativeRange() {
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed(-1, 1), true), 3).isPresent());
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed(-2L, -1L), true), 3).isPresent());
+    }
+    
+    @Test
+    void assertEnumerateRangeOnNonIntegralColumn() {
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed(1, 3), false), 3).isPresent());
+    }
+    
+    @Test
+    void assertEnumerateRangeExceedMaxCount() {
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed(1, 4), true), 3).isPresent());
+        assertFalse(ShardingRangeEnumerationUtils.enumerate(createShardingValue(Range.<Comparable<?>>closed(1, 1), true), 0).isPresent());
+    }
+    
+    private RangeShardingValue<Comparable<?>> createShardingValue(final Range<Comparable<?>> valueRange, final boolean integralColumn) {
+        return new RangeShardingValue<>("t_order", "order_id", null, valueRange, integralColumn);
+    }
+}
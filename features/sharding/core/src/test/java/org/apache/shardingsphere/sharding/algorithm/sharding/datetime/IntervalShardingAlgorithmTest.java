@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
@@ -30,6 +31,8 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -43,11 +46,14 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Properties;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -319,6 +325,62 @@ class IntervalShardingAlgorithmTest {
         assertThat(actualAsString.size(), is(7));
     }
     
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({"1, Days, yyyyMMdd", "12, Hours, yyyyMMddHH", "3, Months, yyyyQQ", "2, Years, yyyy"})
+    void assertDoShardingWithRandomValues(final int stepAmount, final String stepUnit, final String suffixPattern) {
+        IntervalShardingAlgorithm algorithm = createAlgorithm("yyyy-MM-dd HH:mm:ss", "2015-01-01 00:00:00", "2024-12-31 00:00:00", suffixPattern, stepAmount, stepUnit);
+        ChronoUnit unit = ChronoUnit.valueOf(stepUnit.toUpperCase());
+        DateTimeFormatter suffixFormatter = DateTimeFormatter.ofPattern(suffixPattern);
+        LocalDateTime dateTimeLower = LocalDateTime.of(2015, 1, 1, 0, 0);
+        LocalDateTime dateTimeUpper = LocalDateTime.of(2024, 12, 31, 0, 0);
+        Random random = new Random(stepAmount);
+        Collection<String> availableTargetNames = new LinkedList<>();
+        for (LocalDateTime each = dateTimeLower; !each.isAfter(dateTimeUpper); each = each.plus(stepAmount, unit)) {
+            if (0 == random.nextInt(5)) {
+                availableTargetNames.add("t_order_" + suffixFormatter.format(each));
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            LocalDateTime lower = LocalDateTime.of(2014, 6, 1, 0, 0).plusSeconds(random.nextInt(11 * 365 * 24 * 3600));
+            LocalDateTime upper = lower.plus(random.nextInt(30 * stepAmount), unit).plusSeconds(1L + random.nextInt(24 * 3600));
+            Range<LocalDateTime> expectedRange = createRandomRange(random, lower, upper, dateTimeLower, dateTimeUpper);
+            Range<Comparable<?>> range = expectedRange.hasLowerBound() && expectedRange.hasUpperBound()
+                    ? Range.range(DateTimeFormatterFactory.getStandardFormatter().format(lower), expectedRange.lowerBoundType(),
+                            DateTimeFormatterFactory.getStandardFormatter().format(upper), expectedRange.upperBoundType())
+                    : expectedRange.hasLowerBound() ? Range.atLeast(lower) : Range.atMost(upper);
+            Collection<String> expected = getExpectedTables(availableTargetNames, expectedRange, dateTimeLower, dateTimeUpper, stepAmount, unit, suffixFormatter);
+            assertThat(algorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range)), is(expected));
+            Collection<String> expectedPrecise = getExpectedTables(availableTargetNames, Range.singleton(lower), dateTimeLower, dateTimeUpper, stepAmount, unit, suffixFormatter);
+            assertThat(algorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, lower)), is(expectedPrecise.stream().findFirst().orElse(null)));
+        }
+    }
+    
+    private Range<LocalDateTime> createRandomRange(final Random random, final LocalDateTime lower, final LocalDateTime upper, final LocalDateTime dateTimeLower, final LocalDateTime dateTimeUpper) {
+        int rangeType = random.nextInt(6);
+        if (0 == rangeType && !lower.isAfter(dateTimeUpper)) {
+            return Range.atLeast(lower);
+        }
+        if (1 == rangeType && !upper.isBefore(dateTimeLower)) {
+            return Range.atMost(upper);
+        }
+        return Range.range(lower, random.nextBoolean() ? BoundType.OPEN : BoundType.CLOSED, upper, random.nextBoolean() ? BoundType.OPEN : BoundType.CLOSED);
+    }
+    
+    private Collection<String> getExpectedTables(final Collection<String> availableTargetNames, final Range<LocalDateTime> range, final LocalDateTime dateTimeLower,
+                                                 final LocalDateTime dateTimeUpper, final int stepAmount, final ChronoUnit unit, final DateTimeFormatter suffixFormatter) {
+        Range<LocalDateTime> dateTimeRange = Range.range(range.hasLowerBound() ? range.lowerEndpoint() : dateTimeLower, range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED,
+                range.hasUpperBound() ? range.upperEndpoint() : dateTimeUpper, range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED);
+        Collection<String> result = new HashSet<>();
+        for (LocalDateTime each = dateTimeLower; !each.isAfter(dateTimeUpper); each = each.plus(stepAmount, unit)) {
+            Range<LocalDateTime> interval = Range.closedOpen(each, each.plus(stepAmount, unit));
+            if (interval.isConnected(dateTimeRange) && !interval.intersection(dateTimeRange).isEmpty()) {
+                String suffix = suffixFormatter.format(each);
+                availableTargetNames.stream().filter(optional -> optional.endsWith(suffix)).forEach(result::add);
+            }
+        }
+        return result;
+    }
+    
     private IntervalShardingAlgorithm createAlgorithm(final String datetimePattern, final String datetimeLower,
                                                       final String datetimeUpper, final String shardingSuffixPattern,
                                                       final Integer datetimeIntervalAmount, final String datetimeIntervalUnit) {
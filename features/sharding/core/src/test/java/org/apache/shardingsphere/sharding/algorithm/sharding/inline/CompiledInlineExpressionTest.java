@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"t_order_${order_id % 16}", "ds_${user_id.hashCode() % 4}", "ds_${Math.abs(user_id.hashCode()) % 4}", "t_order_${(order_id % 4).abs()}",
+            "t_${order_id * 3 + 1 - 2}_${order_id}", "t_${-order_id % 3}", "t_${order_id % 2147483648}", "t_${(order_id + 1) * 2147483647}", "t_order"})
+    void assertEvaluateSameAsGroovy(final String inlineExpression) {
+        Optional<CompiledInlineExpression> compiledExpression = CompiledInlineExpression.compile(inlineExpression);
+        assertTrue(compiledExpression.isPresent() || "t_order".equals(inlineExpression));
+        String columnName = inlineExpression.contains("user_id") ? "user_id" : "order_id";
+        for (Comparable<?> each : Arrays.<Comparable<?>>asList(0, 7, -13, Integer.MAX_VALUE, Integer.MIN_VALUE, 787694822390497280L, -5L, (short) 9, (byte) -3)) {
+            String expected = InlineExpressionParserFactory.newInstance(inlineExpression).evaluateWithArgs(Collections.singletonMap(columnName, each));
+            compiledExpression.ifPresent(optional -> assertThat(optional.evaluate(columnName, each), is(Optional.of(expected))));
+        }
+    }
+    
+    @Test
+    void assertEvaluateStringValue() {
+        CompiledInlineExpression compiledExpression = CompiledInlineExpression.compile("ds_${Math.abs(user_id.hashCode()) % 4}").orElseThrow(IllegalStateException::new);
+        String expected = InlineExpressionParserFactory.newInstance("ds_${Math.abs(user_id.hashCode()) % 4}").evaluateWithArgs(Collections.singletonMap("user_id", "foo_user"));
+        assertThat(compiledExpression.evaluate("user_id", "foo_user"), is(Optional.of(expected)));
+        assertThat(CompiledInlineExpression.compile("t_${order_id + 1}").orElseThrow(IllegalStateException::new).evaluate("order_id", "foo"), is(Optional.of("t_foo1")));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression compiledExpression = CompiledInlineExpression.compile("t_order_${order_id % 4}").orElseThrow(IllegalStateException::new);
+        assertFalse(compiledExpression.evaluate("order_id", new BigInteger("787694822390497280787694822390497280")).isPresent());
+        assertFalse(compiledExpression.evaluate("order_id", "foo").isPresent());
+        assertFalse(compiledExpression.evaluate("user_id", 1).isPresent());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"t_order_${order_id / 4}", "t_order_${order_id.substring(1)}", "t_order_${order_id % 4}_${user_id % 2}", "t_order_${'a'}", "t_order_$order_id",
+            "t_order_${[0, 1]}", "t_order_${order_id % 010}", "t_order_${order_id % 4L}", "t_order_${order_id % 4", "t_order_${it}", "t_order_${order_id ? 1 : 0}"})
+    void assertCompileUnsupportedExpression(final String inlineExpression) {
+        assertFalse(CompiledInlineExpression.compile(inlineExpression).isPresent());
+    }
+}
@@ -37,6 +37,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -91,6 +93,26 @@ class ComplexInlineShardingAlgorithmTest {
         assertTrue(actual.containsAll(availableTargetNames));
     }
     
+    @Test
+    void assertDoShardingWithRangeValueAndMaxEnumerationCount() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0_0", "t_order_0_1", "t_order_1_0", "t_order_1_1");
+        Properties props = PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${type % 2}_${order_id % 2}"), new Property("sharding-columns", "type,order_id"),
+                new Property("allow-range-query-with-inline-sharding", Boolean.TRUE.toString()), new Property("max-range-enumeration-count", "8"));
+        shardingAlgorithm = (ComplexInlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "COMPLEX_INLINE", props);
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new ComplexKeysShardingValue<>("t_order", Collections.singletonMap("order_id", Collections.singletonList(2)), Collections.singletonMap("type", Range.closed(1, 3))));
+        assertThat(actual, is(availableTargetNames));
+    }
+    
+    @Test
+    void assertDoShardingWithCombinationCountExceedMaxEnumerationCount() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0_0", "t_order_0_1", "t_order_1_0", "t_order_1_1");
+        Properties props = PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${type % 2}_${order_id % 2}"), new Property("sharding-columns", "type,order_id"),
+                new Property("allow-range-query-with-inline-sharding", Boolean.TRUE.toString()), new Property("max-range-enumeration-count", "3"));
+        shardingAlgorithm = (ComplexInlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "COMPLEX_INLINE", props);
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, createComplexKeysShardingValue(Arrays.asList(1, 2))), is(availableTargetNames));
+    }
+    
     @Test
     void assertDoShardingWithRangeValueAndEmptyColumns() {
         List<String> availableTargetNames = Arrays.asList("t_order_0_0", "t_order_0_1", "t_order_1_0", "t_order_1_1");
@@ -35,6 +35,8 @@ import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -110,6 +112,44 @@ class InlineShardingAlgorithmTest {
         assertTrue(actual.containsAll(availableTargetNames));
     }
     
+    @Test
+    void assertDoShardingWithEnumerableRange() {
+        InlineShardingAlgorithm inlineShardingAlgorithm = createRangeEnumerationShardingAlgorithm(8);
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(5, 6), true)),
+                is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.openClosed(4L, 5L), true)),
+                is(Collections.singleton("t_order_1")));
+    }
+    
+    @Test
+    void assertDoShardingWithRangeOnNonIntegralColumn() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(createRangeEnumerationShardingAlgorithm(8).doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(5, 6), false)),
+                is(availableTargetNames));
+    }
+    
+    @Test
+    void assertDoShardingWithRangeEnumerationDisabled() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(5, 6), true)), is(availableTargetNames));
+    }
+    
+    @Test
+    void assertDoShardingWithRangeExceedMaxEnumerationCount() {
+        InlineShardingAlgorithm inlineShardingAlgorithm = createRangeEnumerationShardingAlgorithm(2);
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(5, 6), true)),
+                is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(5, 7), true)), is(availableTargetNames));
+    }
+    
+    private InlineShardingAlgorithm createRangeEnumerationShardingAlgorithm(final int maxRangeEnumerationCount) {
+        return (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE", PropertiesBuilder.build(
+                new Property("algorithm-expression", "t_order_${order_id % 4}"), new Property("allow-range-query-with-inline-sharding", Boolean.TRUE.toString()),
+                new Property("max-range-enumeration-count", String.valueOf(maxRangeEnumerationCount))));
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Test
     void assertDoShardingWithNotAllowRangeQuery() {
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
 
@@ -62,6 +63,29 @@ class HashModShardingAlgorithmTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertRangeDoShardingWithEnumerableRange() {
+        HashModShardingAlgorithm algorithm = (HashModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "HASH_MOD",
+                PropertiesBuilder.build(new Property("sharding-count", "4"), new Property("max-range-enumeration-count", "8")));
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = algorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closedOpen(5L, 7L), true));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
+    @Test
+    void assertRangeDoShardingWithRangeOnNonIntegralColumn() {
+        HashModShardingAlgorithm algorithm = (HashModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "HASH_MOD",
+                PropertiesBuilder.build(new Property("sharding-count", "4"), new Property("max-range-enumeration-count", "8")));
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(algorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closedOpen(5L, 7L), false)), is(availableTargetNames));
+    }
+    
+    @Test
+    void assertRangeDoShardingWithRangeEnumerationDisabled() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closedOpen(5L, 7L), true)), is(availableTargetNames));
+    }
+    
     @Test
     void assertRangeDoShardingWithWrongArgumentForShardingCount() {
         Properties props = PropertiesBuilder.build(new Property("sharding-count", "0"));
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillCounter;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillMergedResultTest {
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        List<List<Object[]>> shardRows = createShardRows(new Random(1L), 8, 500, 100);
+        final long spilledQueryCount = GroupBySpillCounter.getSpilledQueryCount();
+        MergedResult actual = merge(shardRows, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), "1024"), new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_PARTITION_COUNT.getKey(), "4"))));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledRowCount() > 0L);
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledBytes() > 0L);
+        assertThat(GroupBySpillCounter.getSpilledQueryCount(), is(spilledQueryCount + 1L));
+        assertSameRows(actual, merge(shardRows, new ConfigurationProperties(new Properties())));
+    }
+    
+    @Test
+    void assertNextWithSpillIntoOnePartition() throws SQLException {
+        List<List<Object[]>> shardRows = createShardRows(new Random(3L), 8, 500, 100);
+        MergedResult actual = merge(shardRows, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), "1024"), new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_PARTITION_COUNT.getKey(), "1"))));
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledRowCount() > 0L);
+        assertSameRows(actual, merge(shardRows, new ConfigurationProperties(new Properties())));
+    }
+    
+    @Test
+    void assertCloseBeforeAllRowsIterated() throws SQLException, IOException {
+        Collection<Path> originalSpillFiles = getSpillFiles();
+        MergedResult actual = merge(createShardRows(new Random(4L), 8, 500, 100), new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), "1024"), new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_PARTITION_COUNT.getKey(), "4"))));
+        assertTrue(actual.next());
+        assertThat(getSpillFiles().size(), greaterThan(originalSpillFiles.size()));
+        actual.close();
+        assertThat(getSpillFiles(), is(originalSpillFiles));
+    }
+    
+    @Test
+    void assertNextWithoutSpill() throws SQLException {
+        List<List<Object[]>> shardRows = createShardRows(new Random(2L), 4, 50, 10);
+        MergedResult expected = merge(shardRows, new ConfigurationProperties(new Properties()));
+        MergedResult actual = merge(shardRows, new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), "1073741824"))));
+        assertThat(((GroupBySpillMergedResult) actual).getSpilledRowCount(), is(0L));
+        assertSameRows(actual, expected);
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = merge(Collections.nCopies(3, Collections.emptyList()),
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), "1"))));
+        assertFalse(actual.next());
+    }
+    
+    private void assertSameRows(final MergedResult actual, final MergedResult expected) throws SQLException {
+        while (expected.next()) {
+            assertTrue(actual.next());
+            for (int columnIndex = 1; columnIndex <= 5; columnIndex++) {
+                assertThat(actual.getValue(columnIndex, Object.class), is(expected.getValue(columnIndex, Object.class)));
+            }
+        }
+        assertFalse(actual.next());
+    }
+    
+    private Collection<Path> getSpillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).collect(Collectors.toSet());
+        }
+    }
+    
+    private List<List<Object[]>> createShardRows(final Random random, final int shardCount, final int rowCountPerShard, final int groupCount) {
+        List<List<Object[]>> result = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            List<Object[]> rows = new ArrayList<>(rowCountPerShard);
+            for (int j = 0; j < rowCountPerShard; j++) {
+                int count = random.nextInt(10) + 1;
+                int sum = random.nextInt(1000);
+                rows.add(new Object[]{count, sum / count, random.nextInt(groupCount), count, sum});
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    private MergedResult merge(final List<List<Object[]>> shardRows, final ConfigurationProperties props) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardRows.size());
+        for (List<Object[]> each : shardRows) {
+            queryResults.add(createQueryResult(each));
+        }
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("db_schema");
+        return new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), props).merge(queryResults, createSelectStatementContext(), database, mock(ConnectionContext.class));
+    }
+    
+    private QueryResult createQueryResult(final List<Object[]> rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.size());
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows.get(cursor.get())[(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new SelectStatementContext(
+                new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillCellCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException, ClassNotFoundException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        List<Object> cells = Arrays.asList(true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigDecimal("-7.70"), new BigInteger("8"), "foo_value", new Date(9L), new Time(10L), timestamp,
+                new java.util.Date(11L), LocalDate.of(2024, 1, 2), LocalTime.of(3, 4, 5, 6), LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6), OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6, ZoneOffset.UTC));
+        DataInputStream inputStream = writeCells(cells.toArray());
+        for (Object each : cells) {
+            assertThat(GroupBySpillCellCodec.read(inputStream), is(each));
+        }
+    }
+    
+    @Test
+    void assertWriteAndReadNull() throws IOException, ClassNotFoundException {
+        assertThat(GroupBySpillCellCodec.read(writeCells((Object) null)), nullValue());
+    }
+    
+    @Test
+    void assertWriteAndReadBytes() throws IOException, ClassNotFoundException {
+        assertThat(GroupBySpillCellCodec.read(writeCells((Object) new byte[]{1, 2})), is(new byte[]{1, 2}));
+    }
+    
+    @Test
+    void assertWriteAndReadLargeObjects() throws IOException, ClassNotFoundException, SQLException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(2L);
+        when(blob.getBytes(1L, 2)).thenReturn(new byte[]{1, 2});
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(3L);
+        when(clob.getSubString(1L, 3)).thenReturn("foo");
+        DataInputStream inputStream = writeCells(blob, clob);
+        assertThat(((Blob) GroupBySpillCellCodec.read(inputStream)).getBytes(1L, 2), is(new byte[]{1, 2}));
+        assertThat(((Clob) GroupBySpillCellCodec.read(inputStream)).getSubString(1L, 3), is("foo"));
+    }
+    
+    @Test
+    void assertWriteNotSerializableValue() {
+        assertThrows(NotSerializableException.class, () -> GroupBySpillCellCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object()));
+    }
+    
+    private DataInputStream writeCells(final Object... cells) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream outputStream = new DataOutputStream(result)) {
+            for (Object each : cells) {
+                GroupBySpillCellCodec.write(outputStream, each);
+            }
+        }
+        return new DataInputStream(new ByteArrayInputStream(result.toByteArray()));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoserTreeTest {
+    
+    @Test
+    void assertEmpty() {
+        LoserTree<Integer> actual = new LoserTree<>(Collections.<Integer>emptyList(), Comparator.naturalOrder());
+        assertTrue(actual.isEmpty());
+        assertThat(actual.peek(), nullValue());
+    }
+    
+    @Test
+    void assertMergeWithSingleInput() {
+        assertMerge(new Random(1L), 1);
+    }
+    
+    @Test
+    void assertMergeWithPowerOfTwoInputs() {
+        assertMerge(new Random(2L), 64);
+    }
+    
+    @Test
+    void assertMergeWithNonPowerOfTwoInputs() {
+        assertMerge(new Random(3L), 37);
+    }
+    
+    private void assertMerge(final Random random, final int inputCount) {
+        List<Iterator<Integer>> inputs = new ArrayList<>(inputCount);
+        List<Integer> firstValues = new ArrayList<>(inputCount);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < inputCount; i++) {
+            List<Integer> values = new ArrayList<>();
+            int size = random.nextInt(50) + 1;
+            for (int j = 0; j < size; j++) {
+                values.add(random.nextInt(100));
+            }
+            Collections.sort(values);
+            expected.addAll(values);
+            Iterator<Integer> iterator = values.iterator();
+            inputs.add(iterator);
+            firstValues.add(iterator.next());
+        }
+        Collections.sort(expected);
+        List<int[]> leaves = new ArrayList<>(inputCount);
+        for (int i = 0; i < inputCount; i++) {
+            leaves.add(new int[]{firstValues.get(i), i});
+        }
+        LoserTree<int[]> loserTree = new LoserTree<>(leaves, Comparator.comparingInt(each -> each[0]));
+        List<Integer> actual = new ArrayList<>(expected.size());
+        while (!loserTree.isEmpty()) {
+            int[] winner = loserTree.peek();
+            actual.add(winner[0]);
+            Iterator<Integer> input = inputs.get(winner[1]);
+            loserTree.replaceWinner(input.hasNext() ? new int[]{input.next(), winner[1]} : null);
+        }
+        assertThat(actual, is(expected));
+    }
+}
@@ -18,6 +18,12 @@
 package org.apache.shardingsphere.sharding.route.engine.condition.engine;
 
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
@@ -29,6 +35,8 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.InEx
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ListExpression;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.TableSegmentBoundInfo;
 import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +45,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.sql.Types;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -44,6 +53,8 @@ import java.util.Optional;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -53,6 +64,9 @@ class WhereClauseShardingConditionEngineTest {
     
     private WhereClauseShardingConditionEngine shardingConditionEngine;
     
+    @Mock
+    private ShardingSphereDatabase database;
+    
     @Mock
     private ShardingRule rule;
     
@@ -64,7 +78,7 @@ class WhereClauseShardingConditionEngineTest {
     
     @BeforeEach
     void setUp() {
-        shardingConditionEngine = new WhereClauseShardingConditionEngine(rule, mock(TimestampServiceRule.class));
+        shardingConditionEngine = new WhereClauseShardingConditionEngine(database, rule, mock(TimestampServiceRule.class));
         when(sqlStatementContext.getWhereSegments()).thenReturn(Collections.singleton(whereSegment));
     }
     
@@ -78,9 +92,35 @@ class WhereClauseShardingConditionEngineTest {
         BetweenExpression betweenExpression = new BetweenExpression(0, 0, left, betweenSegment, andSegment, false);
         when(whereSegment.getExpr()).thenReturn(betweenExpression);
         when(rule.findShardingColumn(any(), any())).thenReturn(Optional.of("foo_sharding_col"));
+        when(database.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(database.getName()).thenReturn("foo_db");
         List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList());
         assertThat(actual.get(0).getStartIndex(), is(0));
         assertThat(actual.get(0).getValues().get(0), instanceOf(RangeShardingConditionValue.class));
+        assertFalse(((RangeShardingConditionValue<?>) actual.get(0).getValues().get(0)).isIntegralColumn());
+    }
+    
+    @Test
+    void assertCreateShardingConditionsForSelectRangeStatementWithIntegralColumn() {
+        assertTrue(isIntegralColumnRange(Types.BIGINT));
+    }
+    
+    @Test
+    void assertCreateShardingConditionsForSelectRangeStatementWithCharacterColumn() {
+        assertFalse(isIntegralColumnRange(Types.VARCHAR));
+    }
+    
+    private boolean isIntegralColumnRange(final int dataType) {
+        ColumnSegment left = new ColumnSegment(0, 0, new IdentifierValue("foo_sharding_col"));
+        left.setColumnBoundInfo(new ColumnSegmentBoundInfo(new TableSegmentBoundInfo(new IdentifierValue("foo_db"), new IdentifierValue("foo_schema")),
+                new IdentifierValue("foo_tbl"), new IdentifierValue("foo_sharding_col")));
+        when(whereSegment.getExpr()).thenReturn(new BetweenExpression(0, 0, left, new LiteralExpressionSegment(0, 0, 1), new LiteralExpressionSegment(0, 0, 100), false));
+        when(rule.findShardingColumn("foo_sharding_col", "foo_tbl")).thenReturn(Optional.of("foo_sharding_col"));
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl",
+                Collections.singleton(new ShardingSphereColumn("foo_sharding_col", dataType, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        when(database.getSchema("foo_schema")).thenReturn(new ShardingSphereSchema("foo_schema", Collections.singleton(table), Collections.emptyList()));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList());
+        return ((RangeShardingConditionValue<?>) actual.get(0).getValues().get(0)).isIntegralColumn();
     }
     
     @Test
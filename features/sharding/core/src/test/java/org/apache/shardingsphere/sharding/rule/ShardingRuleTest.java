@@ -250,6 +250,15 @@ class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().getAttributes().getAttribute(DataNodeRuleAttribute.class).findLogicTableByActualTable("table_3").isPresent());
     }
     
+    @Test
+    void assertIsGlobalUniqueKey() {
+        DataNodeRuleAttribute attribute = createMaximumShardingRule().getAttributes().getAttribute(DataNodeRuleAttribute.class);
+        assertTrue(attribute.isGlobalUniqueKey("logic_table", Arrays.asList("ORDER_ID", "user_id")));
+        assertTrue(attribute.isGlobalUniqueKey("logic_table", Arrays.asList("order_id", "user_id", "status")));
+        assertFalse(attribute.isGlobalUniqueKey("logic_table", Collections.singleton("order_id")));
+        assertFalse(attribute.isGlobalUniqueKey("other_table", Arrays.asList("order_id", "user_id")));
+    }
+    
     @Test
     void assertGetTableRuleWithShardingTable() {
         ShardingTable actual = createMaximumShardingRule().getShardingTable("Logic_Table");
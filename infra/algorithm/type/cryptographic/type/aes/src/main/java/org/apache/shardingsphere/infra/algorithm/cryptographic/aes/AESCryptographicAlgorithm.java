@@ -28,17 +28,24 @@ import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.util.Base64;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * AES cryptographic algorithm.
  */
 public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
-    private CryptographicPropertiesProvider propsProvider;
+    private SecretKeySpec secretKey;
+    
+    private final Queue<Cipher> encryptCiphers = new ConcurrentLinkedQueue<>();
+    
+    private final Queue<Cipher> decryptCiphers = new ConcurrentLinkedQueue<>();
     
     @Override
     public void init(final Properties props) {
-        propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        CryptographicPropertiesProvider propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        secretKey = new SecretKeySpec(propsProvider.getSecretKey(), getType());
     }
     
     @SneakyThrows(GeneralSecurityException.class)
@@ -47,7 +54,7 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCiphers, Cipher.ENCRYPT_MODE, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return encode(result);
     }
     
@@ -61,7 +68,7 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(decode(cipherValue.toString().trim()));
+        byte[] result = doFinal(decryptCiphers, Cipher.DECRYPT_MODE, decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
@@ -69,9 +76,14 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         return Base64.getDecoder().decode(value);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(propsProvider.getSecretKey(), getType()));
+    private byte[] doFinal(final Queue<Cipher> idleCiphers, final int mode, final byte[] input) throws GeneralSecurityException {
+        Cipher cipher = idleCiphers.poll();
+        if (null == cipher) {
+            cipher = Cipher.getInstance(getType());
+            cipher.init(mode, secretKey);
+        }
+        byte[] result = cipher.doFinal(input);
+        idleCiphers.offer(cipher);
         return result;
     }
     
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Batch snowflake key generate algorithm.
+ *
+ * <p>Keys have the same layout as {@link SnowflakeKeyGenerateAlgorithm}.
+ * Timestamp and sequence are packed into one slot word, and keys of one generation are reserved as contiguous slots by a single compare and set without lock.
+ * Slots of following milliseconds can be borrowed when sequence is exhausted or clock moves backwards, up to max tolerate time difference milliseconds,
+ * beyond which generation spins without lock until clock catches up.</p>
+ */
+public final class BatchSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1L;
+    
+    private static final int MAX_SEQUENCE_COUNT = 1 << SEQUENCE_BITS;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLIS = 10;
+    
+    private static final int DEFAULT_WORKER_ID = 0;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    private final AtomicReference<ComputeNodeInstanceContext> computeNodeInstanceContext = new AtomicReference<>();
+    
+    private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
+    
+    private final AtomicLong nextSlot = new AtomicLong();
+    
+    private Properties props;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMillis;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxVibrationOffset = getMaxVibrationOffset(props);
+        maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+    }
+    
+    private int getMaxVibrationOffset(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= SEQUENCE_MASK, () -> new AlgorithmInitializationException(this, "Illegal max vibration offset."));
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMillis(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLIS).toString());
+        ShardingSpherePreconditions.checkState(result >= 0, () -> new AlgorithmInitializationException(this, "Illegal max tolerate time difference milliseconds."));
+        return result;
+    }
+    
+    @Override
+    public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this.computeNodeInstanceContext.set(computeNodeInstanceContext);
+        if (null != computeNodeInstanceContext) {
+            computeNodeInstanceContext.generateWorkerId(props);
+        }
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        List<Long> result = new ArrayList<>(keyGenerateCount);
+        long workerIdBits = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        int remainingCount = keyGenerateCount;
+        while (remainingCount > 0) {
+            int reservedCount = Math.min(remainingCount, MAX_SEQUENCE_COUNT);
+            long startSlot = reserveSlots(reservedCount);
+            for (long slot = startSlot; slot < startSlot + reservedCount; slot++) {
+                result.add(((slot >>> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS) | workerIdBits | (slot & SEQUENCE_MASK));
+            }
+            remainingCount -= reservedCount;
+        }
+        return result;
+    }
+    
+    private long reserveSlots(final int count) {
+        while (true) {
+            long lastSlot = nextSlot.get();
+            long currentMillis = timeService.getCurrentMillis();
+            long lastMillis = (lastSlot >>> SEQUENCE_BITS) + SnowflakeKeyGenerateAlgorithm.EPOCH;
+            ShardingSpherePreconditions.checkState(lastMillis - currentMillis <= maxTolerateTimeDifferenceMillis,
+                    () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
+            long startSlot = lastMillis < currentMillis ? getFirstSlot(currentMillis, count) : lastSlot;
+            long endSlot = startSlot + count;
+            if (((endSlot - 1L) >>> SEQUENCE_BITS) + SnowflakeKeyGenerateAlgorithm.EPOCH - currentMillis > maxTolerateTimeDifferenceMillis) {
+                Thread.yield();
+                continue;
+            }
+            if (nextSlot.compareAndSet(lastSlot, endSlot)) {
+                return startSlot;
+            }
+        }
+    }
+    
+    private long getFirstSlot(final long currentMillis, final int count) {
+        long sequence = vibrateSequenceOffset();
+        return ((currentMillis - SnowflakeKeyGenerateAlgorithm.EPOCH) << SEQUENCE_BITS) | (sequence + count > MAX_SEQUENCE_COUNT ? 0L : sequence);
+    }
+    
+    private int vibrateSequenceOffset() {
+        return sequenceOffset.updateAndGet(each -> each >= maxVibrationOffset ? 0 : each + 1);
+    }
+    
+    private int getWorkerId() {
+        return null == computeNodeInstanceContext.get() ? DEFAULT_WORKER_ID : computeNodeInstanceContext.get().getWorkerId();
+    }
+    
+    @Override
+    public String getType() {
+        return "BATCH_SNOWFLAKE";
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.keygen.snowflake.fixture.FixedTimeService;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class BatchSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = 22L;
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        int threadNumber = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        try {
+            Collection<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+            for (int i = 0; i < threadNumber; i++) {
+                futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1000)));
+            }
+            Set<Comparable<?>> actual = new HashSet<>(threadNumber * 1000, 1F);
+            for (Future<Collection<? extends Comparable<?>>> each : futures) {
+                actual.addAll(each.get());
+            }
+            assertThat(actual.size(), is(threadNumber * 1000));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    void assertGenerateKeysInSameMillisecond() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE", PropertiesBuilder.build(new Property("max-vibration-offset", "3")));
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5)), is(Arrays.asList(0L, 1L, 2L, 3L, 4L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 3)), is(Arrays.asList(5L, 6L, 7L)));
+    }
+    
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMillisecond() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        List<Long> actual = new ArrayList<>(10000);
+        for (Comparable<?> each : algorithm.generateKeys(mock(AlgorithmSQLContext.class), 10000)) {
+            actual.add((Long) each);
+        }
+        assertThat(new HashSet<>(actual).size(), is(10000));
+        assertThat(actual.get(4095), is(4095L));
+        assertThat(actual.get(4096), is(1L << TIMESTAMP_LEFT_SHIFT_BITS));
+        assertThat(actual.get(9999), is((2L << TIMESTAMP_LEFT_SHIFT_BITS) | (9999L - 8192L)));
+    }
+    
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMillisecondWithoutTolerateTime() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(
+                KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE", PropertiesBuilder.build(new Property("max-tolerate-time-difference-milliseconds", "0")));
+        List<Long> actual = new ArrayList<>(4097);
+        for (Comparable<?> each : algorithm.generateKeys(mock(AlgorithmSQLContext.class), 4097)) {
+            actual.add((Long) each);
+        }
+        assertThat(new HashSet<>(actual).size(), is(4097));
+        assertThat(actual.get(4095) >>> TIMESTAMP_LEFT_SHIFT_BITS, is(0L));
+        assertThat(actual.get(4096) >>> TIMESTAMP_LEFT_SHIFT_BITS, is(1L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithClockCallBack() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        setNextSlot(algorithm, 5L << SEQUENCE_BITS);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 2)), is(Arrays.asList(5L << TIMESTAMP_LEFT_SHIFT_BITS, (5L << TIMESTAMP_LEFT_SHIFT_BITS) + 1L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithClockCallBackBeyondTolerateTime() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        setNextSlot(algorithm, 20L << SEQUENCE_BITS);
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setNextSlot(final KeyGenerateAlgorithm algorithm, final long value) {
+        Plugins.getMemberAccessor().set(BatchSnowflakeKeyGenerateAlgorithm.class.getDeclaredField("nextSlot"), algorithm, new AtomicLong(value));
+    }
+    
+    @Test
+    void assertSetMaxVibrationOffsetFailureWhenOutOfRange() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE", PropertiesBuilder.build(new Property("max-vibration-offset", "4096"))));
+    }
+    
+    @Test
+    void assertMaxTolerateTimeDifferenceMillisecondsWhenNegative() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE", PropertiesBuilder.build(new Property("max-tolerate-time-difference-milliseconds", "-1"))));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.ewma;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * EWMA load balance algorithm.
+ */
+public final class EWMALoadBalanceAlgorithm implements LoadBalanceAlgorithm, AutoCloseable {
+    
+    private final Collection<String> databaseNames = ConcurrentHashMap.newKeySet();
+    
+    @Override
+    public void init(final Properties props) {
+        TargetLoadStatisticsRegistry.enable();
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        return getTargetName(null, groupName, availableTargetNames);
+    }
+    
+    @Override
+    public String getTargetName(final String databaseName, final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = availableTargetNames.get(firstIndex);
+        String second = availableTargetNames.get(secondIndex);
+        registerDatabase(Strings.nullToEmpty(databaseName));
+        return TargetLoadStatisticsRegistry.getStatistics(databaseName, second).getLoad() < TargetLoadStatisticsRegistry.getStatistics(databaseName, first).getLoad() ? second : first;
+    }
+    
+    private void registerDatabase(final String databaseName) {
+        if (!databaseNames.contains(databaseName)) {
+            databaseNames.add(databaseName);
+        }
+    }
+    
+    @Override
+    public void close() {
+        databaseNames.forEach(TargetLoadStatisticsRegistry::remove);
+    }
+    
+    @Override
+    public String getType() {
+        return "EWMA";
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.ewma;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Target load statistics.
+ */
+public final class TargetLoadStatistics {
+    
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private static final double UNMEASURED_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile double responseTimeNanos;
+    
+    private volatile long lastUpdateNanos = System.nanoTime();
+    
+    /**
+     * Handle when request started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Handle when request finished.
+     *
+     * @param elapsedNanos elapsed nanoseconds of request
+     */
+    public synchronized void finish(final long elapsedNanos) {
+        inFlightCount.decrementAndGet();
+        long now = System.nanoTime();
+        if (elapsedNanos > responseTimeNanos) {
+            responseTimeNanos = elapsedNanos;
+        } else {
+            double weight = Math.exp(-(now - lastUpdateNanos) / DECAY_NANOS);
+            responseTimeNanos = responseTimeNanos * weight + elapsedNanos * (1D - weight);
+        }
+        lastUpdateNanos = now;
+    }
+    
+    /**
+     * Get in flight count.
+     *
+     * @return in flight count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get load.
+     *
+     * @return load which is decayed response time multiplied by in flight count plus one
+     */
+    public double getLoad() {
+        int inFlightCount = this.inFlightCount.get();
+        double responseTimeNanos = this.responseTimeNanos;
+        if (0D == responseTimeNanos) {
+            return UNMEASURED_PENALTY_NANOS * inFlightCount;
+        }
+        return responseTimeNanos * Math.exp(-(System.nanoTime() - lastUpdateNanos) / DECAY_NANOS) * (inFlightCount + 1);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.ewma;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Target load statistics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetLoadStatisticsRegistry {
+    
+    private static final Map<String, Map<String, TargetLoadStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    private static volatile boolean enabled;
+    
+    /**
+     * Enable statistics collection.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+    
+    /**
+     * Judge whether statistics collection is enabled.
+     *
+     * @return is enabled or not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get target load statistics, and register it if absent.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return target load statistics
+     */
+    public static TargetLoadStatistics getStatistics(final String databaseName, final String targetName) {
+        Map<String, TargetLoadStatistics> databaseStatistics = STATISTICS.computeIfAbsent(Strings.nullToEmpty(databaseName), key -> new ConcurrentHashMap<>());
+        TargetLoadStatistics result = databaseStatistics.get(targetName);
+        return null == result ? databaseStatistics.computeIfAbsent(targetName, key -> new TargetLoadStatistics()) : result;
+    }
+    
+    /**
+     * Find registered target load statistics.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return found target load statistics
+     */
+    public static Optional<TargetLoadStatistics> findStatistics(final String databaseName, final String targetName) {
+        Map<String, TargetLoadStatistics> databaseStatistics = STATISTICS.get(Strings.nullToEmpty(databaseName));
+        return null == databaseStatistics ? Optional.empty() : Optional.ofNullable(databaseStatistics.get(targetName));
+    }
+    
+    /**
+     * Remove target load statistics of database.
+     *
+     * @param databaseName database name
+     */
+    public static void remove(final String databaseName) {
+        STATISTICS.remove(Strings.nullToEmpty(databaseName));
+    }
+}
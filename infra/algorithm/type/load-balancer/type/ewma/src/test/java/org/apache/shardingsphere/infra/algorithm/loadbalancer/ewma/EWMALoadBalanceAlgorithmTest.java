@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.ewma;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EWMALoadBalanceAlgorithmTest {
+    
+    private final LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "EWMA", new Properties());
+    
+    @Test
+    void assertEnableStatistics() {
+        assertTrue(TargetLoadStatisticsRegistry.isEnabled());
+    }
+    
+    @Test
+    void assertGetTargetNameWithSingleTarget() {
+        assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetNameAvoidSlowTarget() {
+        TargetLoadStatistics slowStatistics = TargetLoadStatisticsRegistry.getStatistics("foo_db", "slow_read_ds");
+        slowStatistics.start();
+        slowStatistics.finish(TimeUnit.SECONDS.toNanos(1L));
+        TargetLoadStatistics fastStatistics = TargetLoadStatisticsRegistry.getStatistics("foo_db", "fast_read_ds");
+        fastStatistics.start();
+        fastStatistics.finish(TimeUnit.MILLISECONDS.toNanos(1L));
+        List<String> availableTargetNames = Arrays.asList("slow_read_ds", "fast_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", availableTargetNames), is("fast_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameAvoidTargetWithInFlightRequestsBeforeMeasured() {
+        TargetLoadStatisticsRegistry.getStatistics("foo_db", "busy_read_ds").start();
+        List<String> availableTargetNames = Arrays.asList("busy_read_ds", "idle_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", availableTargetNames), is("idle_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithStatisticsOfOtherDatabase() {
+        TargetLoadStatistics otherDatabaseStatistics = TargetLoadStatisticsRegistry.getStatistics("bar_db", "other_read_ds_0");
+        otherDatabaseStatistics.start();
+        otherDatabaseStatistics.finish(TimeUnit.SECONDS.toNanos(1L));
+        TargetLoadStatistics statistics = TargetLoadStatisticsRegistry.getStatistics("foo_db", "other_read_ds_1");
+        statistics.start();
+        statistics.finish(TimeUnit.MILLISECONDS.toNanos(100L));
+        List<String> availableTargetNames = Arrays.asList("other_read_ds_0", "other_read_ds_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", availableTargetNames), is("other_read_ds_0"));
+        }
+    }
+    
+    @Test
+    void assertClose() throws Exception {
+        LoadBalanceAlgorithm algorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "EWMA", new Properties());
+        algorithm.getTargetName("closed_db", "ds", Arrays.asList("closed_read_ds_0", "closed_read_ds_1"));
+        assertTrue(TargetLoadStatisticsRegistry.findStatistics("closed_db", "closed_read_ds_0").isPresent());
+        ((AutoCloseable) algorithm).close();
+        assertFalse(TargetLoadStatisticsRegistry.findStatistics("closed_db", "closed_read_ds_0").isPresent());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.ewma;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class EWMASQLExecutionHookTest {
+    
+    @BeforeAll
+    static void setUp() {
+        TargetLoadStatisticsRegistry.enable();
+    }
+    
+    @Test
+    void assertFinishSuccess() {
+        TargetLoadStatistics statistics = TargetLoadStatisticsRegistry.getStatistics("foo_db", "success_ds");
+        EWMASQLExecutionHook hook = new EWMASQLExecutionHook();
+        hook.start("foo_db", "success_ds", "SELECT 1", Collections.emptyList(), mock(), true);
+        assertThat(statistics.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getLoad() > 0D);
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        TargetLoadStatistics statistics = TargetLoadStatisticsRegistry.getStatistics("foo_db", "failure_ds");
+        EWMASQLExecutionHook hook = new EWMASQLExecutionHook();
+        hook.start("foo_db", "failure_ds", "SELECT 1", Collections.emptyList(), mock(), true);
+        hook.finishFailure(new RuntimeException(""));
+        hook.finishFailure(new RuntimeException(""));
+        assertThat(statistics.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    void assertStartWithoutRegisteredStatistics() {
+        EWMASQLExecutionHook hook = new EWMASQLExecutionHook();
+        hook.start("foo_db", "unregistered_ds", "SELECT 1", Collections.emptyList(), mock(), true);
+        hook.finishSuccess();
+        assertFalse(TargetLoadStatisticsRegistry.findStatistics("foo_db", "unregistered_ds").isPresent());
+    }
+}
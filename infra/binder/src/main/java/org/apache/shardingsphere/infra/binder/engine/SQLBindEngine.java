@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.binder.engine;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.engine.cache.BoundSQLStatementCache;
 import org.apache.shardingsphere.infra.binder.engine.type.DALStatementBindEngine;
 import org.apache.shardingsphere.infra.binder.engine.type.DCLStatementBindEngine;
 import org.apache.shardingsphere.infra.binder.engine.type.DDLStatementBindEngine;
@@ -55,8 +56,15 @@ public final class SQLBindEngine {
      * @return SQL statement context
      */
     public SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params) {
-        SQLStatement boundSQLStatement = isNeedBind() ? bindSQLStatement(sqlStatement) : sqlStatement;
-        return SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, params, currentDatabaseName);
+        if (!isNeedBind()) {
+            return SQLStatementContextFactory.newInstance(metaData, sqlStatement, params, currentDatabaseName);
+        }
+        if (sqlStatement instanceof DMLStatement) {
+            return BoundSQLStatementCache.getOrBind(sqlStatement, metaData, currentDatabaseName, hintValueContext.isSkipMetadataValidate(),
+                    () -> new DMLStatementBindEngine(metaData, currentDatabaseName, hintValueContext).bind((DMLStatement) sqlStatement),
+                    boundSQLStatement -> SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, params, currentDatabaseName));
+        }
+        return SQLStatementContextFactory.newInstance(metaData, bindSQLStatement(sqlStatement), params, currentDatabaseName);
     }
     
     private boolean isNeedBind() {
@@ -64,9 +72,6 @@ public final class SQLBindEngine {
     }
     
     private SQLStatement bindSQLStatement(final SQLStatement statement) {
-        if (statement instanceof DMLStatement) {
-            return new DMLStatementBindEngine(metaData, currentDatabaseName, hintValueContext).bind((DMLStatement) statement);
-        }
         if (statement instanceof DDLStatement) {
             return new DDLStatementBindEngine(metaData, currentDatabaseName, hintValueContext).bind((DDLStatement) statement);
         }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.binder.engine.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Bound SQL statement with the binding environment it is valid for.
+ */
+@RequiredArgsConstructor
+public final class BoundSQLStatement {
+    
+    private final WeakReference<ShardingSphereMetaData> metaData;
+    
+    private final String currentDatabaseName;
+    
+    private final boolean skipMetadataValidate;
+    
+    private final Map<String, Long> databaseVersions;
+    
+    @Getter
+    private final SQLStatement sqlStatement;
+    
+    @Getter
+    private final SQLStatementContext sqlStatementContext;
+    
+    /**
+     * Judge whether bound within the same environment.
+     *
+     * @param metaData meta data
+     * @param currentDatabaseName current database name
+     * @param skipMetadataValidate whether skip metadata validate
+     * @return bound within the same environment or not
+     */
+    public boolean isValid(final ShardingSphereMetaData metaData, final String currentDatabaseName, final boolean skipMetadataValidate) {
+        if (this.metaData.get() != metaData || !Objects.equals(this.currentDatabaseName, currentDatabaseName) || this.skipMetadataValidate != skipMetadataValidate) {
+            return false;
+        }
+        for (Entry<String, Long> entry : databaseVersions.entrySet()) {
+            if (LocalMetaDataVersion.get(entry.getKey()) != entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
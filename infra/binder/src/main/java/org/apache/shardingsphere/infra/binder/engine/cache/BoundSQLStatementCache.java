@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.binder.engine.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bound SQL statement cache.
+ *
+ * <p>Keyed by identity of parsed SQL statement, which is shared for the same SQL text by SQL statement cache of parser.
+ * Cached bound statement is only reused for the same meta data and current database, and until the local meta data version of any database it references changes.
+ * Bound statement is read only as parsed statement, and SQL statement context is only reused if it does not depend on parameters.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BoundSQLStatementCache {
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private static final Cache<SQLStatement, BoundSQLStatement> CACHE = Caffeine.newBuilder().weakKeys().softValues().maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Get SQL statement context from cache, or bind and cache it.
+     *
+     * @param sqlStatement parsed SQL statement
+     * @param metaData meta data
+     * @param currentDatabaseName current database name
+     * @param skipMetadataValidate whether skip metadata validate
+     * @param binder binder of SQL statement
+     * @param contextFactory factory of SQL statement context with bound SQL statement
+     * @return SQL statement context
+     */
+    public static SQLStatementContext getOrBind(final SQLStatement sqlStatement, final ShardingSphereMetaData metaData, final String currentDatabaseName, final boolean skipMetadataValidate,
+                                                final Supplier<SQLStatement> binder, final Function<SQLStatement, SQLStatementContext> contextFactory) {
+        BoundSQLStatement cached = CACHE.getIfPresent(sqlStatement);
+        if (null != cached && cached.isValid(metaData, currentDatabaseName, skipMetadataValidate)) {
+            return null == cached.getSqlStatementContext() ? contextFactory.apply(cached.getSqlStatement()) : cached.getSqlStatementContext();
+        }
+        long currentDatabaseVersion = LocalMetaDataVersion.get(currentDatabaseName);
+        SQLStatement boundSQLStatement = binder.get();
+        SQLStatementContext result = contextFactory.apply(boundSQLStatement);
+        Map<String, Long> databaseVersions = getDatabaseVersions(result, currentDatabaseName, currentDatabaseVersion);
+        CACHE.put(sqlStatement, new BoundSQLStatement(
+                new WeakReference<>(metaData), currentDatabaseName, skipMetadataValidate, databaseVersions, boundSQLStatement, result instanceof ParameterAware ? null : result));
+        return result;
+    }
+    
+    private static Map<String, Long> getDatabaseVersions(final SQLStatementContext sqlStatementContext, final String currentDatabaseName, final long currentDatabaseVersion) {
+        Map<String, Long> result = new HashMap<>(2, 1F);
+        result.put(currentDatabaseName, currentDatabaseVersion);
+        if (sqlStatementContext instanceof TableAvailable) {
+            for (String each : ((TableAvailable) sqlStatementContext).getTablesContext().getDatabaseNames()) {
+                if (!each.equalsIgnoreCase(currentDatabaseName)) {
+                    result.put(each, LocalMetaDataVersion.get(each));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.binder.engine.cache;
+
+import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class BoundSQLStatementCacheTest {
+    
+    private final ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+    
+    private final SQLStatement sqlStatement = mock(SQLStatement.class);
+    
+    private final AtomicInteger bindCount = new AtomicInteger();
+    
+    private final AtomicInteger contextCount = new AtomicInteger();
+    
+    @Test
+    void assertGetOrBindWithSameEnvironment() {
+        SQLStatementContext actual = getOrBind(metaData, "foo_db");
+        assertThat(getOrBind(metaData, "foo_db"), sameInstance(actual));
+        assertThat(bindCount.get(), is(1));
+        assertThat(contextCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetOrBindWithParameterAwareContext() {
+        SQLStatementContext actual = getOrBind(metaData, "foo_db", () -> mock(SQLStatementContext.class, withSettings().extraInterfaces(ParameterAware.class)));
+        SQLStatementContext expected = getOrBind(metaData, "foo_db", () -> mock(SQLStatementContext.class, withSettings().extraInterfaces(ParameterAware.class)));
+        assertThat(expected, not(sameInstance(actual)));
+        assertThat(expected.getSqlStatement(), sameInstance(actual.getSqlStatement()));
+        assertThat(bindCount.get(), is(1));
+        assertThat(contextCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindWithDifferentDatabase() {
+        SQLStatementContext actual = getOrBind(metaData, "foo_db");
+        assertThat(getOrBind(metaData, "bar_db"), not(sameInstance(actual)));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindWithDifferentMetaData() {
+        SQLStatementContext actual = getOrBind(metaData, "foo_db");
+        assertThat(getOrBind(mock(ShardingSphereMetaData.class), "foo_db"), not(sameInstance(actual)));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindAfterCurrentDatabaseChanged() {
+        SQLStatementContext actual = getOrBind(metaData, "foo_db");
+        LocalMetaDataVersion.increase("FOO_DB");
+        assertThat(getOrBind(metaData, "foo_db"), not(sameInstance(actual)));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindAfterAllDatabasesChanged() {
+        SQLStatementContext actual = getOrBind(metaData, "foo_db");
+        LocalMetaDataVersion.increase();
+        assertThat(getOrBind(metaData, "foo_db"), not(sameInstance(actual)));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindAfterOtherDatabaseChanged() {
+        SQLStatementContext actual = getOrBind(metaData, "foo_db");
+        LocalMetaDataVersion.increase("bar_db");
+        assertThat(getOrBind(metaData, "foo_db"), sameInstance(actual));
+        assertThat(bindCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetOrBindAfterReferencedDatabaseChanged() {
+        SQLStatementContext actual = getOrBind(metaData, "foo_db", this::mockTableAvailableContext);
+        LocalMetaDataVersion.increase("bar_db");
+        assertThat(getOrBind(metaData, "foo_db", this::mockTableAvailableContext), not(sameInstance(actual)));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    private SQLStatementContext mockTableAvailableContext() {
+        SQLStatementContext result = mock(SQLStatementContext.class, withSettings().extraInterfaces(TableAvailable.class).defaultAnswer(RETURNS_DEEP_STUBS));
+        when(((TableAvailable) result).getTablesContext().getDatabaseNames()).thenReturn(Collections.singleton("bar_db"));
+        return result;
+    }
+    
+    private SQLStatementContext getOrBind(final ShardingSphereMetaData metaData, final String currentDatabaseName) {
+        return getOrBind(metaData, currentDatabaseName, () -> mock(SQLStatementContext.class));
+    }
+    
+    private SQLStatementContext getOrBind(final ShardingSphereMetaData metaData, final String currentDatabaseName, final Supplier<SQLStatementContext> contextSupplier) {
+        return BoundSQLStatementCache.getOrBind(sqlStatement, metaData, currentDatabaseName, false, () -> {
+            bindCount.incrementAndGet();
+            return mock(SQLStatement.class);
+        }, boundSQLStatement -> {
+            contextCount.incrementAndGet();
+            SQLStatementContext result = contextSupplier.get();
+            when(result.getSqlStatement()).thenReturn(boundSQLStatement);
+            return result;
+        });
+    }
+}
@@ -54,6 +54,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL with virtual threads, only takes effect on JDK 21 or later.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Deadline in milliseconds of serial and parallel SQL execution, SQL still executing will be cancelled once exceeded, 0 means no deadline.
+     */
+    KERNEL_EXECUTOR_DEADLINE_MILLISECONDS("kernel-executor-deadline-milliseconds", String.valueOf(0), long.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -69,6 +79,41 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Estimated heap bytes of group by merged rows kept in memory before spilling to disk, 0 means never spill.
+     */
+    GROUP_BY_MERGE_SPILL_THRESHOLD("group-by-merge-spill-threshold", String.valueOf(0), long.class, false),
+    
+    /**
+     * Hash partition count of group by merged rows spilled to disk.
+     */
+    GROUP_BY_MERGE_SPILL_PARTITION_COUNT("group-by-merge-spill-partition-count", String.valueOf(16), int.class, false),
+    
+    /**
+     * Max rows of multi-row insert coalesced from batched single-row inserts routed to the same data node, 0 or 1 means not coalescing.
+     */
+    BATCH_INSERT_COALESCE_MAX_ROWS("batch-insert-coalesce-max-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Estimated max bytes of SQL and parameters of multi-row insert coalesced from batched single-row inserts.
+     */
+    BATCH_INSERT_COALESCE_MAX_BYTES("batch-insert-coalesce-max-bytes", String.valueOf(1024 * 1024), long.class, false),
+    
+    /**
+     * Whether to reuse rewritten SQL of the first rows of prepared statement batch, so that later rows added to batch are only routed.
+     */
+    BATCH_EXECUTION_PLAN_ENABLED("batch-execution-plan-enabled", String.valueOf(Boolean.TRUE), boolean.class, false),
+    
+    /**
+     * Whether to collect table statistics from database catalog for SQL federation optimizer.
+     */
+    SQL_FEDERATION_STATISTICS_ENABLED("sql-federation-statistics-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Seconds between two collections of statistics of the same table for SQL federation optimizer.
+     */
+    SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS("sql-federation-statistics-refresh-interval-seconds", String.valueOf(300), long.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -90,6 +135,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Max thread size of shared pool to execute client commands for ShardingSphere-Proxy. The default value is 0, which means unbounded.
+     */
+    PROXY_FRONTEND_COMMAND_EXECUTOR_SIZE("proxy-frontend-command-executor-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Whether execute client commands with virtual threads for ShardingSphere-Proxy, only takes effect on JDK 21 or later.
+     */
+    PROXY_FRONTEND_COMMAND_EXECUTOR_VIRTUAL_THREAD_ENABLED("proxy-frontend-command-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
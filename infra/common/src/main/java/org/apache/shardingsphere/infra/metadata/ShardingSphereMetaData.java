@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabaseF
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.StaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
@@ -112,6 +113,7 @@ public final class ShardingSphereMetaData implements AutoCloseable {
     public void addDatabase(final String databaseName, final DatabaseType protocolType, final ConfigurationProperties props) {
         ShardingSphereDatabase database = ShardingSphereDatabaseFactory.create(databaseName, protocolType, props);
         databases.put(new ShardingSphereIdentifier(database.getName()), database);
+        LocalMetaDataVersion.increase(database.getName());
         globalRuleMetaData.getRules().forEach(each -> ((GlobalRule) each).refresh(databases.values(), GlobalRuleChangedType.DATABASE_CHANGED));
     }
     
@@ -122,6 +124,7 @@ public final class ShardingSphereMetaData implements AutoCloseable {
      */
     public void putDatabase(final ShardingSphereDatabase database) {
         databases.put(new ShardingSphereIdentifier(database.getName()), database);
+        LocalMetaDataVersion.increase(database.getName());
     }
     
     /**
@@ -131,6 +134,7 @@ public final class ShardingSphereMetaData implements AutoCloseable {
      */
     public void dropDatabase(final String databaseName) {
         cleanResources(databases.remove(new ShardingSphereIdentifier(databaseName)));
+        LocalMetaDataVersion.increase(databaseName);
     }
     
     @SneakyThrows(Exception.class)
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaDa
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
 
@@ -99,6 +100,7 @@ public final class ShardingSphereDatabase {
      */
     public void addSchema(final ShardingSphereSchema schema) {
         schemas.put(new ShardingSphereIdentifier(schema.getName()), schema);
+        LocalMetaDataVersion.increase(name);
     }
     
     /**
@@ -108,6 +110,7 @@ public final class ShardingSphereDatabase {
      */
     public void dropSchema(final String schemaName) {
         schemas.remove(new ShardingSphereIdentifier(schemaName));
+        LocalMetaDataVersion.increase(name);
     }
     
     /**
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.metadata.version;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local meta data version, increased whenever structure of databases or schemas held in memory changes.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LocalMetaDataVersion {
+    
+    private static final AtomicLong VERSION = new AtomicLong();
+    
+    private static final Map<ShardingSphereIdentifier, AtomicLong> DATABASE_VERSIONS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get current version of all databases.
+     *
+     * @return current version
+     */
+    public static long get() {
+        return VERSION.get();
+    }
+    
+    /**
+     * Get current version of database.
+     *
+     * @param databaseName database name
+     * @return current version of database
+     */
+    public static long get(final String databaseName) {
+        return null == databaseName ? VERSION.get() : DATABASE_VERSIONS.computeIfAbsent(new ShardingSphereIdentifier(databaseName), key -> new AtomicLong()).get();
+    }
+    
+    /**
+     * Increase version of all databases.
+     */
+    public static void increase() {
+        DATABASE_VERSIONS.values().forEach(AtomicLong::incrementAndGet);
+        VERSION.incrementAndGet();
+    }
+    
+    /**
+     * Increase version of database.
+     *
+     * @param databaseName database name
+     */
+    public static void increase(final String databaseName) {
+        DATABASE_VERSIONS.computeIfAbsent(new ShardingSphereIdentifier(databaseName), key -> new AtomicLong()).incrementAndGet();
+        VERSION.incrementAndGet();
+    }
+}
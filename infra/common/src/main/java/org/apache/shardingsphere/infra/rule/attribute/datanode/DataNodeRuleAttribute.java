@@ -60,6 +60,15 @@ public interface DataNodeRuleAttribute extends RuleAttribute {
      */
     boolean isNeedAccumulate(Collection<String> tables);
     
+    /**
+     * Judge whether unique key of logic table is unique across all data nodes.
+     *
+     * @param logicTable logic table name
+     * @param keyColumnNames column names of unique key
+     * @return is unique across all data nodes or not
+     */
+    boolean isGlobalUniqueKey(String logicTable, Collection<String> keyColumnNames);
+    
     /**
      * Find logic table name via actual table name.
      *
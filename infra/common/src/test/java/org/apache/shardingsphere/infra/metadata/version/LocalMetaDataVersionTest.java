@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.metadata.version;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LocalMetaDataVersionTest {
+    
+    @Test
+    void assertIncreaseDatabase() {
+        long fooVersion = LocalMetaDataVersion.get("foo_db");
+        long barVersion = LocalMetaDataVersion.get("bar_db");
+        long version = LocalMetaDataVersion.get();
+        LocalMetaDataVersion.increase("FOO_DB");
+        assertThat(LocalMetaDataVersion.get("foo_db"), not(fooVersion));
+        assertThat(LocalMetaDataVersion.get("bar_db"), is(barVersion));
+        assertThat(LocalMetaDataVersion.get(), not(version));
+    }
+    
+    @Test
+    void assertIncreaseAllDatabases() {
+        long fooVersion = LocalMetaDataVersion.get("foo_db");
+        LocalMetaDataVersion.increase();
+        assertThat(LocalMetaDataVersion.get("foo_db"), not(fooVersion));
+    }
+    
+    @Test
+    void assertGetWithoutDatabase() {
+        assertThat(LocalMetaDataVersion.get(null), is(LocalMetaDataVersion.get()));
+    }
+}
@@ -147,4 +147,13 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
     default boolean isDDLNeedImplicitCommit() {
         return false;
     }
+    
+    /**
+     * Get max count of bind parameters of one statement.
+     *
+     * @return max count of bind parameters
+     */
+    default int getMaxParameterCount() {
+        return Integer.MAX_VALUE;
+    }
 }
@@ -41,4 +41,9 @@ class MySQLDatabaseMetaDataTest {
     void assertGetDefaultNullsOrderType() {
         assertThat(dialectDatabaseMetaData.getDefaultNullsOrderType(), is(NullsOrderType.LOW));
     }
+    
+    @Test
+    void assertGetMaxParameterCount() {
+        assertThat(dialectDatabaseMetaData.getMaxParameterCount(), is(65535));
+    }
 }
@@ -93,6 +93,11 @@ public final class OpenGaussDatabaseMetaData implements DialectDatabaseMetaData
         return true;
     }
     
+    @Override
+    public int getMaxParameterCount() {
+        return Short.MAX_VALUE;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "openGauss";
@@ -48,4 +48,9 @@ class OpenGaussDatabaseMetaDataTest {
     void assertGetDefaultSchema() {
         assertThat(dialectDatabaseMetaData.getDefaultSchema(), is(Optional.of("public")));
     }
+    
+    @Test
+    void assertGetMaxParameterCount() {
+        assertThat(dialectDatabaseMetaData.getMaxParameterCount(), is(32767));
+    }
 }
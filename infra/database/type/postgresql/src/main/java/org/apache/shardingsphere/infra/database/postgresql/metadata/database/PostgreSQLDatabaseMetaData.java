@@ -90,6 +90,11 @@ public final class PostgreSQLDatabaseMetaData implements DialectDatabaseMetaData
         return tableNamePattern.toLowerCase();
     }
     
+    @Override
+    public int getMaxParameterCount() {
+        return Short.MAX_VALUE;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
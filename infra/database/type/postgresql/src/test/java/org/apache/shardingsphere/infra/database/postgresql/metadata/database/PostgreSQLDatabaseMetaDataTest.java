@@ -49,6 +49,11 @@ class PostgreSQLDatabaseMetaDataTest {
         assertThat(dialectDatabaseMetaData.getDefaultSchema(), is(Optional.of("public")));
     }
     
+    @Test
+    void assertGetMaxParameterCount() {
+        assertThat(dialectDatabaseMetaData.getMaxParameterCount(), is(32767));
+    }
+    
     @Test
     void assertFormatTableNamePattern() {
         assertThat(dialectDatabaseMetaData.formatTableNamePattern("T_ORDER"), is("t_order"));
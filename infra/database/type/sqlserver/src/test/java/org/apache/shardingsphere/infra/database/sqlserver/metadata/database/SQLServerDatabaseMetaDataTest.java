@@ -35,4 +35,9 @@ class SQLServerDatabaseMetaDataTest {
     void assertGetQuoteCharacter() {
         assertThat(dialectDatabaseMetaData.getQuoteCharacter(), is(QuoteCharacter.BRACKETS));
     }
+    
+    @Test
+    void assertGetMaxParameterCount() {
+        assertThat(dialectDatabaseMetaData.getMaxParameterCount(), is(2100));
+    }
 }
@@ -19,20 +19,37 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.core.external.sql.ShardingSphereSQLException;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionDeadlineExceededException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CancellableInput;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Executor engine.
@@ -41,10 +58,21 @@ import java.util.concurrent.Future;
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final ScheduledExecutorService DEADLINE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Deadline"));
+    
+    private static final ExecutorService CANCEL_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("Executor-Engine-Canceller-%d"));
+    
     private final ExecutorServiceManager executorServiceManager;
     
+    private final long deadlineMillis;
+    
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, false, 0L);
+    }
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled, final long deadlineMillis) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, "%d", virtualThreadEnabled);
+        this.deadlineMillis = deadlineMillis;
     }
     
     /**
@@ -57,6 +85,19 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with configuration properties.
+     * 
+     * <p>Each task runs on its own virtual thread if virtual thread is enabled and supported by current JVM, executor size is only used as fallback.</p>
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        return new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED), props.<Long>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_DEADLINE_MILLISECONDS));
+    }
+    
     /**
      * Execute.
      *
@@ -80,54 +121,160 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
-        ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
-        while (executionGroups.hasNext()) {
-            result.addAll(syncExecute(executionGroups.next(), processId, callback));
+        AtomicReference<ExecutionGroup<I>> executingInputs = new AtomicReference<>(executionGroups.next());
+        AtomicBoolean deadlineExceeded = new AtomicBoolean();
+        ScheduledFuture<?> deadlineFuture = scheduleDeadline(() -> {
+            deadlineExceeded.set(true);
+            Optional.ofNullable(executingInputs.get()).ifPresent(this::cancelInputs);
+        });
+        try {
+            List<O> result = new LinkedList<>(syncExecute(executingInputs.get(), processId, null == firstCallback ? callback : firstCallback));
+            while (executionGroups.hasNext()) {
+                checkDeadline(deadlineExceeded);
+                executingInputs.set(executionGroups.next());
+                result.addAll(syncExecute(executingInputs.get(), processId, callback));
+            }
+            executingInputs.set(null);
+            checkDeadline(deadlineExceeded);
+            return result;
+        } catch (final SQLException ex) {
+            executingInputs.set(null);
+            checkDeadline(deadlineExceeded);
+            throw ex;
+        } finally {
+            cancelDeadline(deadlineFuture);
+        }
+    }
+    
+    private void checkDeadline(final AtomicBoolean deadlineExceeded) {
+        if (deadlineExceeded.get()) {
+            throw new SQLExecutionDeadlineExceededException(deadlineMillis);
         }
-        return result;
     }
     
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                            final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, processId, callback);
-        return getGroupResults(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback), restResultFutures);
+        AtomicBoolean firstInputsFinished = new AtomicBoolean();
+        List<ExecutionGroup<I>> restInputs = new ArrayList<>();
+        executionGroups.forEachRemaining(restInputs::add);
+        List<CompletableFuture<Collection<O>>> restResultFutures = asyncExecute(restInputs, processId, callback);
+        Runnable canceller = () -> cancel(firstInputs, firstInputsFinished, restInputs, restResultFutures);
+        CompletableFuture<Collection<O>> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<Collection<O>> each : restResultFutures) {
+            each.whenComplete((results, ex) -> failFast(firstFailure, ex, canceller));
+        }
+        ScheduledFuture<?> deadlineFuture = scheduleDeadline(() -> failFast(firstFailure, new SQLExecutionDeadlineExceededException(deadlineMillis), canceller));
+        try {
+            Collection<O> firstResults;
+            try {
+                firstResults = syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback);
+            } catch (final SQLException ex) {
+                firstInputsFinished.set(true);
+                if (firstFailure.isCompletedExceptionally()) {
+                    return getGroupResults(Collections.emptyList(), firstFailure, restResultFutures, canceller);
+                }
+                failFast(firstFailure, ex, canceller);
+                throw ex;
+            }
+            firstInputsFinished.set(true);
+            return getGroupResults(firstResults, firstFailure, restResultFutures, canceller);
+        } finally {
+            cancelDeadline(deadlineFuture);
+        }
+    }
+    
+    private ScheduledFuture<?> scheduleDeadline(final Runnable action) {
+        return deadlineMillis > 0L ? DEADLINE_EXECUTOR.schedule(() -> CANCEL_EXECUTOR.execute(action), deadlineMillis, TimeUnit.MILLISECONDS) : null;
+    }
+    
+    private void cancelDeadline(final ScheduledFuture<?> deadlineFuture) {
+        if (null != deadlineFuture) {
+            deadlineFuture.cancel(false);
+        }
+    }
+    
+    private <O> void failFast(final CompletableFuture<Collection<O>> firstFailure, final Throwable cause, final Runnable canceller) {
+        if (null != cause && firstFailure.completeExceptionally(cause)) {
+            canceller.run();
+        }
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, processId);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
-        while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), processId, callback));
+    private <I, O> List<CompletableFuture<Collection<O>>> asyncExecute(final List<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
+        List<CompletableFuture<Collection<O>>> result = new ArrayList<>(executionGroups.size());
+        for (ExecutionGroup<I> each : executionGroups) {
+            result.add(asyncExecute(each, processId, callback));
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
+    private <I, O> CompletableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return callback.execute(executionGroup.getInputs(), false, processId);
+            } catch (final SQLException ex) {
+                throw new CompletionException(ex);
+            }
+        }, executorServiceManager.getExecutorService());
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
-            try {
-                result.addAll(each.get());
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            } catch (final ExecutionException ex) {
-                return throwException(ex);
+    private <O> List<O> getGroupResults(final Collection<O> firstResults, final CompletableFuture<Collection<O>> firstFailure,
+                                        final List<CompletableFuture<Collection<O>>> restFutures, final Runnable canceller) throws SQLException {
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(restFutures.toArray(new CompletableFuture[0])), firstFailure).get();
+            if (firstFailure.isCompletedExceptionally()) {
+                firstFailure.get();
             }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            SQLExecutionInterruptedException cause = new SQLExecutionInterruptedException();
+            failFast(firstFailure, cause, canceller);
+            throw cause;
+        } catch (final ExecutionException ex) {
+            return throwException(ex);
+        }
+        List<O> result = new LinkedList<>(firstResults);
+        for (CompletableFuture<Collection<O>> each : restFutures) {
+            result.addAll(each.join());
         }
         return result;
     }
     
+    private <I, O> void cancel(final ExecutionGroup<I> firstInputs, final AtomicBoolean firstInputsFinished,
+                               final List<ExecutionGroup<I>> restInputs, final List<CompletableFuture<Collection<O>>> restFutures) {
+        if (!firstInputsFinished.get()) {
+            cancelInputs(firstInputs);
+        }
+        for (int i = 0; i < restFutures.size(); i++) {
+            if (!restFutures.get(i).isDone()) {
+                cancelInputs(restInputs.get(i));
+                restFutures.get(i).cancel(false);
+            }
+        }
+    }
+    
+    private <I> void cancelInputs(final ExecutionGroup<I> executionGroup) {
+        for (I each : executionGroup.getInputs()) {
+            if (each instanceof CancellableInput) {
+                try {
+                    ((CancellableInput) each).cancel();
+                } catch (final SQLException ignored) {
+                }
+            }
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
-        if (exception.getCause() instanceof SQLException) {
-            throw (SQLException) exception.getCause();
+        Throwable cause = exception.getCause() instanceof CompletionException ? exception.getCause().getCause() : exception.getCause();
+        if (cause instanceof SQLException) {
+            throw (SQLException) cause;
+        }
+        if (cause instanceof ShardingSphereSQLException) {
+            throw (ShardingSphereSQLException) cause;
         }
         throw new UnknownSQLException(exception);
     }
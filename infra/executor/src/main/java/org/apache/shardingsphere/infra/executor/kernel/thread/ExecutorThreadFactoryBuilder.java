@@ -21,6 +21,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -31,6 +32,8 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final String VIRTUAL_NAME_PREFIX = "ShardingSphere-Virtual-";
+    
     /**
      * Build thread factory with thread name format.
      *
@@ -40,4 +43,23 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     * 
+     * <p>Virtual threads are looked up by reflection because the code base is compiled against JDK 8.</p>
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory, empty if virtual thread is unsupported by current JVM
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String nameFormat) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, VIRTUAL_NAME_PREFIX + nameFormat.replace("%d", ""), 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            return Optional.empty();
+        }
+    }
 }
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.model.CancellableInput;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 
+import java.sql.SQLException;
 import java.sql.Statement;
 
 /**
@@ -30,11 +33,32 @@ import java.sql.Statement;
  */
 @RequiredArgsConstructor
 @Getter
-public final class JDBCExecutionUnit implements DriverExecutionUnit<Statement> {
+public final class JDBCExecutionUnit implements DriverExecutionUnit<Statement>, CancellableInput {
     
     private final ExecutionUnit executionUnit;
     
     private final ConnectionMode connectionMode;
     
     private final Statement storageResource;
+    
+    @Getter(AccessLevel.NONE)
+    private boolean executing;
+    
+    /**
+     * Mark whether statement of current unit is executing.
+     *
+     * <p>Cancel only takes effect while executing, so that statements of other units sharing the same connection are never cancelled.</p>
+     *
+     * @param executing whether executing
+     */
+    public synchronized void markExecuting(final boolean executing) {
+        this.executing = executing;
+    }
+    
+    @Override
+    public synchronized void cancel() throws SQLException {
+        if (executing) {
+            storageResource.cancel();
+        }
+    }
 }
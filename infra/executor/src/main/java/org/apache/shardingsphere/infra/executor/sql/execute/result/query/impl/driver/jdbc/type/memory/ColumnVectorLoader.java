@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.StringColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.TimestampColumnVector;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Column vector loader.
+ *
+ * <p>Signed integer, signed bigint, floating point, character and timestamp columns are read by primitive getters of result set into typed column vectors,
+ * which produce same value types as {@link ResultSetMapper}. Other columns are mapped by {@link ResultSetMapper} into object column vectors.</p>
+ */
+public final class ColumnVectorLoader {
+    
+    private final ResultSetMapper resultSetMapper;
+    
+    public ColumnVectorLoader(final DatabaseType databaseType) {
+        resultSetMapper = new ResultSetMapper(databaseType);
+    }
+    
+    /**
+     * Load column vectors.
+     *
+     * @param columnCount column count
+     * @param resultSet result set
+     * @return column vectors
+     * @throws SQLException SQL exception
+     */
+    public ColumnVector[] load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        ColumnVector[] result = createColumnVectors(columnCount, resultSet.getMetaData());
+        while (resultSet.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                result[columnIndex - 1] = loadValue(result[columnIndex - 1], resultSet, columnIndex);
+            }
+        }
+        for (ColumnVector each : result) {
+            if (each instanceof StringColumnVector) {
+                ((StringColumnVector) each).seal();
+            }
+        }
+        return result;
+    }
+    
+    private ColumnVector[] createColumnVectors(final int columnCount, final ResultSetMetaData metaData) throws SQLException {
+        ColumnVector[] result = new ColumnVector[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result[columnIndex - 1] = createColumnVector(metaData, columnIndex);
+        }
+        return result;
+    }
+    
+    private ColumnVector createColumnVector(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntColumnVector() : new LongColumnVector();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongColumnVector() : new ObjectColumnVector();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnVector();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringColumnVector();
+            case Types.TIMESTAMP:
+                return new TimestampColumnVector();
+            default:
+                return new ObjectColumnVector();
+        }
+    }
+    
+    private ColumnVector loadValue(final ColumnVector columnVector, final ResultSet resultSet, final int columnIndex) throws SQLException {
+        if (columnVector instanceof IntColumnVector) {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                columnVector.appendNull();
+            } else {
+                ((IntColumnVector) columnVector).append(value);
+            }
+        } else if (columnVector instanceof LongColumnVector) {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                columnVector.appendNull();
+            } else {
+                ((LongColumnVector) columnVector).append(value);
+            }
+        } else if (columnVector instanceof DoubleColumnVector) {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                columnVector.appendNull();
+            } else {
+                ((DoubleColumnVector) columnVector).append(value);
+            }
+        } else if (columnVector instanceof StringColumnVector) {
+            String value = resultSet.getString(columnIndex);
+            ((StringColumnVector) columnVector).append(resultSet.wasNull() ? null : value);
+        } else if (columnVector instanceof TimestampColumnVector) {
+            return loadTimestamp((TimestampColumnVector) columnVector, resultSet, columnIndex);
+        } else {
+            Object value = resultSetMapper.load(resultSet, columnIndex);
+            ((ObjectColumnVector) columnVector).append(resultSet.wasNull() ? null : value);
+        }
+        return columnVector;
+    }
+    
+    private ColumnVector loadTimestamp(final TimestampColumnVector columnVector, final ResultSet resultSet, final int columnIndex) throws SQLException {
+        Timestamp value = resultSet.getTimestamp(columnIndex);
+        if (resultSet.wasNull() || null == value) {
+            columnVector.appendNull();
+            return columnVector;
+        }
+        if (Timestamp.class == value.getClass()) {
+            columnVector.append(value);
+            return columnVector;
+        }
+        ObjectColumnVector result = columnVector.toObjectColumnVector();
+        result.append(value);
+        return result;
+    }
+}
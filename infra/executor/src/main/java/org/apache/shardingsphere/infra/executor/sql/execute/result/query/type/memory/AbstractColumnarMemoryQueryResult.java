@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongColumnVector;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Abstract columnar memory query result.
+ *
+ * <p>Rows are kept as column vectors instead of list of objects per row, so that numeric, string and timestamp values are not retained as separate objects.</p>
+ */
+public abstract class AbstractColumnarMemoryQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final ColumnVector[] columnVectors;
+    
+    private final int totalRowCount;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
+    
+    protected AbstractColumnarMemoryQueryResult(final QueryResultMetaData metaData, final ColumnVector[] columnVectors) {
+        this.metaData = metaData;
+        this.columnVectors = columnVectors;
+        totalRowCount = 0 == columnVectors.length ? 0 : columnVectors[0].size();
+    }
+    
+    @Override
+    public final boolean next() {
+        if (currentRowIndex + 1 < totalRowCount) {
+            currentRowIndex++;
+            return true;
+        }
+        currentRowIndex = totalRowCount;
+        return false;
+    }
+    
+    /**
+     * Get count of rows which have not been iterated.
+     *
+     * @return row count
+     */
+    public final long getRowCount() {
+        return totalRowCount - Math.min(currentRowIndex + 1, totalRowCount);
+    }
+    
+    /**
+     * Judge whether cursor is on a row.
+     *
+     * @return cursor is on a row or not
+     */
+    public final boolean isOnRow() {
+        return currentRowIndex >= 0 && currentRowIndex < totalRowCount;
+    }
+    
+    @Override
+    public final Object getValue(final int columnIndex, final Class<?> type) {
+        ColumnVector columnVector = columnVectors[columnIndex - 1];
+        wasNull = columnVector.isNull(currentRowIndex);
+        if (wasNull) {
+            return null;
+        }
+        if (columnVector instanceof IntColumnVector) {
+            return getIntValue((IntColumnVector) columnVector, type);
+        }
+        if (columnVector instanceof LongColumnVector) {
+            return ((LongColumnVector) columnVector).getLong(currentRowIndex);
+        }
+        if (columnVector instanceof DoubleColumnVector) {
+            return ((DoubleColumnVector) columnVector).getDouble(currentRowIndex);
+        }
+        return columnVector.getValue(currentRowIndex);
+    }
+    
+    private Object getIntValue(final IntColumnVector columnVector, final Class<?> type) {
+        int result = columnVector.getInt(currentRowIndex);
+        if (long.class == type || Long.class == type) {
+            return (long) result;
+        }
+        if (double.class == type || Double.class == type) {
+            return (double) result;
+        }
+        return result;
+    }
+    
+    @Override
+    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public final InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getCurrentValue(columnIndex));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        Object result = columnVectors[columnIndex - 1].getValue(currentRowIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        // TODO Support connection property character encoding
+        return new BufferedReader(new InputStreamReader(getInputStream(columnIndex)));
+    }
+    
+    @Override
+    public final boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public final void close() {
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.BitSet;
+
+/**
+ * Abstract column vector, which keeps values in primitive arrays and SQL NULL in bitmap.
+ */
+public abstract class AbstractColumnVector implements ColumnVector {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    @Override
+    public final boolean isNull(final int rowIndex) {
+        return nulls.get(rowIndex);
+    }
+    
+    @Override
+    public final void appendNull() {
+        ensureCapacity(size + 1);
+        nulls.set(size);
+        size++;
+    }
+    
+    @Override
+    public final Object getValue(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    /**
+     * Get next row index to append, and grow capacity if necessary.
+     *
+     * @return next row index
+     */
+    protected final int nextRowIndex() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+    
+    @Override
+    public final int size() {
+        return size;
+    }
+    
+    /**
+     * Grow capacity to be no less than min capacity.
+     *
+     * @param capacity current capacity
+     * @param minCapacity min capacity
+     * @return new capacity
+     */
+    protected static int grow(final int capacity, final int minCapacity) {
+        return Math.max(capacity + (capacity >> 1), minCapacity);
+    }
+    
+    protected abstract void ensureCapacity(int minCapacity);
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * String column vector.
+ *
+ * <p>Values are dictionary encoded, so repeated strings of low cardinality columns are kept only once.
+ * Once distinct values exceed max dictionary size, dictionary is abandoned and values are kept directly.</p>
+ */
+public final class StringColumnVector extends AbstractColumnVector {
+    
+    private static final int MAX_DICTIONARY_SIZE = 4096;
+    
+    private Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    private List<String> dictionary = new ArrayList<>();
+    
+    private int[] codes = new int[INITIAL_CAPACITY];
+    
+    private String[] values;
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void append(final String value) {
+        if (null == value) {
+            appendNull();
+            return;
+        }
+        if (null == values) {
+            Integer code = dictionaryCodes.get(value);
+            if (null == code && dictionary.size() < MAX_DICTIONARY_SIZE) {
+                code = dictionary.size();
+                dictionaryCodes.put(value, code);
+                dictionary.add(value);
+            }
+            if (null != code) {
+                int rowIndex = nextRowIndex();
+                codes[rowIndex] = code;
+                return;
+            }
+            abandonDictionary();
+        }
+        int rowIndex = nextRowIndex();
+        values[rowIndex] = value;
+    }
+    
+    private void abandonDictionary() {
+        values = new String[codes.length];
+        for (int i = 0; i < size(); i++) {
+            if (!isNull(i)) {
+                values[i] = dictionary.get(codes[i]);
+            }
+        }
+        dictionaryCodes = null;
+        dictionary = null;
+        codes = null;
+    }
+    
+    /**
+     * Seal vector after all values appended, which releases lookup structure of dictionary.
+     */
+    public void seal() {
+        dictionaryCodes = null;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        if (null == values) {
+            if (minCapacity > codes.length) {
+                codes = Arrays.copyOf(codes, grow(codes.length, minCapacity));
+            }
+        } else if (minCapacity > values.length) {
+            values = Arrays.copyOf(values, grow(values.length, minCapacity));
+        }
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return null == values ? dictionary.get(codes[rowIndex]) : values[rowIndex];
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Timestamp column vector, which keeps milliseconds and nanoseconds of timestamp.
+ *
+ * <p>Timestamp of last read row is reused, so that repeated reads of the current row do not allocate.</p>
+ */
+public final class TimestampColumnVector extends AbstractColumnVector {
+    
+    private long[] millis = new long[INITIAL_CAPACITY];
+    
+    private int[] nanos = new int[INITIAL_CAPACITY];
+    
+    private int lastRowIndex = -1;
+    
+    private Timestamp lastValue;
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void append(final Timestamp value) {
+        if (null == value) {
+            appendNull();
+            return;
+        }
+        int rowIndex = nextRowIndex();
+        millis[rowIndex] = value.getTime();
+        nanos[rowIndex] = value.getNanos();
+    }
+    
+    /**
+     * Convert to object column vector.
+     *
+     * @return object column vector with same values
+     */
+    public ObjectColumnVector toObjectColumnVector() {
+        ObjectColumnVector result = new ObjectColumnVector();
+        for (int i = 0; i < size(); i++) {
+            result.append(getValue(i));
+        }
+        return result;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        if (minCapacity > millis.length) {
+            int capacity = grow(millis.length, minCapacity);
+            millis = Arrays.copyOf(millis, capacity);
+            nanos = Arrays.copyOf(nanos, capacity);
+        }
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        if (rowIndex != lastRowIndex) {
+            lastValue = new Timestamp(millis[rowIndex]);
+            lastValue.setNanos(nanos[rowIndex]);
+            lastRowIndex = rowIndex;
+        }
+        return lastValue;
+    }
+}
@@ -17,23 +17,39 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionDeadlineExceededException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.CancellableInput;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class ExecutorEngineTest {
     
@@ -88,4 +104,116 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertParallelExecuteCancelTrunkInputsWhenRestGroupFailed() throws SQLException {
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        CancellableInput trunkInput = mock(CancellableInput.class);
+        doAnswer(invocation -> {
+            cancelledLatch.countDown();
+            return null;
+        }).when(trunkInput).cancel();
+        ExecutionGroupContext<CancellableInput> groupContext = new ExecutionGroupContext<>(Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList(trunkInput)), new ExecutionGroup<>(Collections.singletonList(mock(CancellableInput.class)))), mock(ExecutionGroupReportContext.class));
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.execute(groupContext, null, (ExecutorCallback<CancellableInput, String>) (inputs, isTrunkThread, processId) -> {
+            if (isTrunkThread) {
+                assertTrue(awaitQuietly(cancelledLatch));
+                throw new SQLException("cancelled");
+            }
+            throw new SQLException("failed");
+        }, false));
+        assertThat(actual.getMessage(), is("failed"));
+        verify(trunkInput).cancel();
+    }
+    
+    @Test
+    void assertParallelExecuteWithDeadlineExceeded() throws SQLException {
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_DEADLINE_MILLISECONDS.getKey(), "50"));
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        CancellableInput restInput = mock(CancellableInput.class);
+        doAnswer(invocation -> {
+            cancelledLatch.countDown();
+            return null;
+        }).when(restInput).cancel();
+        ExecutionGroupContext<CancellableInput> groupContext = new ExecutionGroupContext<>(Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList(mock(CancellableInput.class))), new ExecutionGroup<>(Collections.singletonList(restInput))), mock(ExecutionGroupReportContext.class));
+        try (ExecutorEngine deadlineExecutorEngine = ExecutorEngine.createExecutorEngine(new ConfigurationProperties(props))) {
+            ExecutorCallback<CancellableInput, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+                if (!isTrunkThread) {
+                    awaitQuietly(cancelledLatch);
+                }
+                return Collections.singletonList("succeed");
+            };
+            assertThrows(SQLExecutionDeadlineExceededException.class, () -> deadlineExecutorEngine.execute(groupContext, null, blockingCallback, false));
+        }
+        verify(restInput).cancel();
+    }
+    
+    @Test
+    void assertParallelExecuteWithDeadlineExceededOnTrunkGroup() throws SQLException {
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        CancellableInput trunkInput = mockCancellableInput(cancelledLatch);
+        CancellableInput restInput = mock(CancellableInput.class);
+        ExecutionGroupContext<CancellableInput> groupContext = new ExecutionGroupContext<>(Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList(trunkInput)), new ExecutionGroup<>(Collections.singletonList(restInput))), mock(ExecutionGroupReportContext.class));
+        try (ExecutorEngine deadlineExecutorEngine = createDeadlineExecutorEngine()) {
+            ExecutorCallback<CancellableInput, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+                if (isTrunkThread) {
+                    awaitQuietly(cancelledLatch);
+                }
+                return Collections.singletonList("succeed");
+            };
+            assertThrows(SQLExecutionDeadlineExceededException.class, () -> deadlineExecutorEngine.execute(groupContext, null, blockingCallback, false));
+        }
+        verify(trunkInput).cancel();
+        verify(restInput, never()).cancel();
+    }
+    
+    @Test
+    void assertSerialExecuteWithDeadlineExceeded() throws SQLException {
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        CancellableInput firstInput = mock(CancellableInput.class);
+        CancellableInput secondInput = mockCancellableInput(cancelledLatch);
+        CancellableInput thirdInput = mock(CancellableInput.class);
+        ExecutionGroupContext<CancellableInput> groupContext = new ExecutionGroupContext<>(Arrays.asList(new ExecutionGroup<>(Collections.singletonList(firstInput)),
+                new ExecutionGroup<>(Collections.singletonList(secondInput)), new ExecutionGroup<>(Collections.singletonList(thirdInput))), mock(ExecutionGroupReportContext.class));
+        List<CancellableInput> executedInputs = new LinkedList<>();
+        try (ExecutorEngine deadlineExecutorEngine = createDeadlineExecutorEngine()) {
+            ExecutorCallback<CancellableInput, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+                executedInputs.addAll(inputs);
+                if (inputs.contains(secondInput)) {
+                    awaitQuietly(cancelledLatch);
+                    throw new SQLException("cancelled");
+                }
+                return Collections.singletonList("succeed");
+            };
+            assertThrows(SQLExecutionDeadlineExceededException.class, () -> deadlineExecutorEngine.execute(groupContext, null, blockingCallback, true));
+        }
+        assertThat(executedInputs, is(Arrays.asList(firstInput, secondInput)));
+        verify(firstInput, never()).cancel();
+        verify(secondInput).cancel();
+        verify(thirdInput, never()).cancel();
+    }
+    
+    private ExecutorEngine createDeadlineExecutorEngine() {
+        return ExecutorEngine.createExecutorEngine(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_DEADLINE_MILLISECONDS.getKey(), "50"))));
+    }
+    
+    private CancellableInput mockCancellableInput(final CountDownLatch cancelledLatch) throws SQLException {
+        CancellableInput result = mock(CancellableInput.class);
+        doAnswer(invocation -> {
+            cancelledLatch.countDown();
+            return null;
+        }).when(result).cancel();
+        return result;
+    }
+    
+    private boolean awaitQuietly(final CountDownLatch latch) {
+        try {
+            return latch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -127,6 +127,19 @@ class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertGetValueBySignedIntegerWithWiderType() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.getInt(1)).thenReturn(1);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(1L));
+        assertThat(actual.getValue(1, Double.class), is(1.0D));
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertFalse(actual.next());
+    }
+    
     @Test
     void assertGetValueByUnsignedInteger() throws SQLException {
         ResultSet resultSet = getMockedResultSet(Types.INTEGER);
@@ -260,6 +273,37 @@ class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertGetValueByTimestampWithNanos() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.TIMESTAMP);
+        Timestamp value = new Timestamp(1000L);
+        value.setNanos(123456789);
+        when(resultSet.getTimestamp(1)).thenReturn(value);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Timestamp.class), is(value));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetValuesOfMultipleRowsWithNull() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(1L, 0L, 3L);
+        when(resultSet.wasNull()).thenReturn(false, true, false);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(1L));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, long.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(3L));
+        assertFalse(actual.next());
+    }
+    
     @Test
     void assertGetValueByClob() throws SQLException {
         ResultSet resultSet = getMockedResultSet(Types.CLOB);
@@ -402,6 +446,16 @@ class JDBCMemoryQueryResultTest {
         assertThat(queryResult.getRowCount(), is(0L));
     }
     
+    @Test
+    void assertIsOnRow() throws SQLException {
+        JDBCMemoryQueryResult queryResult = new JDBCMemoryQueryResult(mockResultSet(), databaseType);
+        assertFalse(queryResult.isOnRow());
+        queryResult.next();
+        assertTrue(queryResult.isOnRow());
+        queryResult.next();
+        assertFalse(queryResult.isOnRow());
+    }
+    
     private ResultSet mockResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true).thenReturn(false);
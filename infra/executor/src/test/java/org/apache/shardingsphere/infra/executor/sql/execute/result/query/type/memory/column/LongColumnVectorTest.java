@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongColumnVectorTest {
+    
+    @Test
+    void assertGetValueWithGrowth() {
+        LongColumnVector actual = new LongColumnVector();
+        for (int i = 0; i < 100; i++) {
+            if (0 == i % 10) {
+                actual.appendNull();
+            } else {
+                actual.append(i);
+            }
+        }
+        assertThat(actual.size(), is(100));
+        assertTrue(actual.isNull(50));
+        assertNull(actual.getValue(50));
+        assertFalse(actual.isNull(99));
+        assertThat(actual.getValue(99), is(99L));
+        assertThat(actual.getLong(98), is(98L));
+    }
+}
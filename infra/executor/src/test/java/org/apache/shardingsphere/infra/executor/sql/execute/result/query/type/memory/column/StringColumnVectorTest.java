@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringColumnVectorTest {
+    
+    @Test
+    void assertGetValueWithDictionary() {
+        StringColumnVector actual = new StringColumnVector();
+        actual.append("foo");
+        actual.append(null);
+        actual.append("bar");
+        actual.append("foo");
+        actual.seal();
+        assertThat(actual.size(), is(4));
+        assertThat(actual.getValue(0), is("foo"));
+        assertTrue(actual.isNull(1));
+        assertNull(actual.getValue(1));
+        assertThat(actual.getValue(2), is("bar"));
+        assertThat(actual.getValue(3), is("foo"));
+    }
+    
+    @Test
+    void assertGetValueAfterDictionaryAbandoned() {
+        StringColumnVector actual = new StringColumnVector();
+        actual.append(null);
+        for (int i = 0; i < 5000; i++) {
+            actual.append(String.valueOf(i));
+        }
+        assertThat(actual.size(), is(5001));
+        assertNull(actual.getValue(0));
+        assertThat(actual.getValue(1), is("0"));
+        assertThat(actual.getValue(4096), is("4095"));
+        assertThat(actual.getValue(5000), is("4999"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TimestampColumnVectorTest {
+    
+    @Test
+    void assertGetValue() {
+        TimestampColumnVector actual = new TimestampColumnVector();
+        Timestamp value = new Timestamp(1000L);
+        value.setNanos(123456789);
+        actual.append(value);
+        actual.append(null);
+        assertThat(actual.getValue(0), is(value));
+        assertNull(actual.getValue(1));
+    }
+    
+    @Test
+    void assertGetValueOfSameRowRepeatedly() {
+        TimestampColumnVector actual = new TimestampColumnVector();
+        actual.append(new Timestamp(1000L));
+        actual.append(new Timestamp(2000L));
+        Object value = actual.getValue(0);
+        assertThat(actual.getValue(0), sameInstance(value));
+        assertThat(actual.getValue(1), is(new Timestamp(2000L)));
+        assertThat(actual.getValue(0), is(new Timestamp(1000L)));
+    }
+    
+    @Test
+    void assertToObjectColumnVector() {
+        TimestampColumnVector timestampColumnVector = new TimestampColumnVector();
+        for (int i = 0; i < 20; i++) {
+            timestampColumnVector.append(new Timestamp(i));
+        }
+        timestampColumnVector.append(null);
+        ObjectColumnVector actual = timestampColumnVector.toObjectColumnVector();
+        assertThat(actual.size(), is(21));
+        assertThat(actual.getValue(19), instanceOf(Timestamp.class));
+        assertThat(actual.getValue(19), is(new Timestamp(19L)));
+        assertNull(actual.getValue(20));
+    }
+}
@@ -22,11 +22,14 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCache;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCacheRuleAttribute;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
@@ -35,6 +38,7 @@ import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -51,11 +55,38 @@ public final class SQLRewriteEntry {
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators;
     
+    private final boolean rewritePlanReusable;
+    
+    private final SQLRewritePlanCache rewritePlanCache;
+    
     public SQLRewriteEntry(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
         this.database = database;
         this.globalRuleMetaData = globalRuleMetaData;
         this.props = props;
         decorators = OrderedSPILoader.getServices(SQLRewriteContextDecorator.class, database.getRuleMetaData().getRules());
+        rewritePlanReusable = decorators.keySet().stream().allMatch(each -> each.getAttributes().findAttribute(SQLRewritePlanCacheRuleAttribute.class).isPresent());
+        rewritePlanCache = rewritePlanReusable ? findRewritePlanCache().orElse(null) : null;
+    }
+    
+    private Optional<SQLRewritePlanCache> findRewritePlanCache() {
+        SQLRewritePlanCache result = null;
+        for (ShardingSphereRule each : decorators.keySet()) {
+            Optional<SQLRewritePlanCacheRuleAttribute> attribute = each.getAttributes().findAttribute(SQLRewritePlanCacheRuleAttribute.class);
+            if (!attribute.isPresent()) {
+                return Optional.empty();
+            }
+            result = attribute.get().getRewritePlanCache();
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    /**
+     * Judge whether rewritten SQL can be reused for the same SQL and route unit as long as parameters are not rewritten.
+     *
+     * @return reusable or not
+     */
+    public boolean isRewritePlanReusable() {
+        return rewritePlanReusable;
     }
     
     /**
@@ -66,6 +97,20 @@ public final class SQLRewriteEntry {
      * @return route unit and SQL rewrite result map
      */
     public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext) {
+        if (null == rewritePlanCache || !rewritePlanCache.isCacheable(queryContext, routeContext)) {
+            return doRewrite(queryContext, routeContext);
+        }
+        Optional<SQLRewriteResult> cachedResult = rewritePlanCache.find(queryContext, routeContext);
+        if (cachedResult.isPresent()) {
+            return cachedResult.get();
+        }
+        long metaDataVersion = LocalMetaDataVersion.get();
+        SQLRewriteResult result = doRewrite(queryContext, routeContext);
+        rewritePlanCache.put(queryContext, metaDataVersion, result);
+        return result;
+    }
+    
+    private SQLRewriteResult doRewrite(final QueryContext queryContext, final RouteContext routeContext) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
         return routeContext.getRouteUnits().isEmpty()
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * SQL rewrite parameters utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLRewriteParametersUtils {
+    
+    /**
+     * Judge whether parameters are passed through rewrite unchanged.
+     *
+     * @param originalParams original parameters
+     * @param rewrittenParams rewritten parameters
+     * @return parameters are unchanged or not
+     */
+    public static boolean isUnchanged(final List<Object> originalParams, final List<Object> rewrittenParams) {
+        if (originalParams.size() != rewrittenParams.size()) {
+            return false;
+        }
+        Iterator<Object> originalParamIterator = originalParams.iterator();
+        for (Object each : rewrittenParams) {
+            if (each != originalParamIterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL rewrite plan cache.
+ *
+ * <p>Caches rewritten SQL of DML routed to one route unit, keyed by logic SQL, route unit and local meta data version.
+ * Only plans whose parameters are passed through unchanged are cached, so cached SQL can be executed with parameters of any later execution.
+ * Inserts with generated keys are never cached, because generated keys may be inlined into rewritten SQL.</p>
+ */
+public final class SQLRewritePlanCache {
+    
+    private final int allowedMaxSqlLength;
+    
+    private final Cache<SQLRewritePlanCacheKey, String> cache;
+    
+    public SQLRewritePlanCache(final int initialCapacity, final long maximumSize, final boolean softValues, final int allowedMaxSqlLength) {
+        this.allowedMaxSqlLength = allowedMaxSqlLength;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().initialCapacity(initialCapacity).maximumSize(maximumSize).recordStats();
+        if (softValues) {
+            builder.softValues();
+        }
+        cache = builder.build();
+    }
+    
+    /**
+     * Judge whether rewrite result of query is cacheable.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return cacheable or not
+     */
+    public boolean isCacheable(final QueryContext queryContext, final RouteContext routeContext) {
+        return 1 == routeContext.getRouteUnits().size() && queryContext.getSql().length() <= allowedMaxSqlLength
+                && !queryContext.getHintValueContext().isSkipSQLRewrite() && isDMLStatementContext(queryContext.getSqlStatementContext());
+    }
+    
+    private boolean isDMLStatementContext(final SQLStatementContext sqlStatementContext) {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            return !((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+        }
+        return sqlStatementContext instanceof SelectStatementContext || sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    /**
+     * Find cached rewrite result.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return cached rewrite result with parameters of current query
+     */
+    public Optional<SQLRewriteResult> find(final QueryContext queryContext, final RouteContext routeContext) {
+        RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+        String sql = cache.getIfPresent(new SQLRewritePlanCacheKey(queryContext.getSql(), routeUnit, LocalMetaDataVersion.get()));
+        return null == sql
+                ? Optional.empty()
+                : Optional.of(new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit(sql, new ArrayList<>(queryContext.getParameters())))));
+    }
+    
+    /**
+     * Cache rewrite result if parameters are not rewritten.
+     *
+     * @param queryContext query context
+     * @param metaDataVersion local meta data version before rewrite
+     * @param rewriteResult rewrite result
+     */
+    public void put(final QueryContext queryContext, final long metaDataVersion, final SQLRewriteResult rewriteResult) {
+        if (!(rewriteResult instanceof RouteSQLRewriteResult) || 1 != ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits().size()) {
+            return;
+        }
+        Entry<RouteUnit, SQLRewriteUnit> entry = ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits().entrySet().iterator().next();
+        if (SQLRewriteParametersUtils.isUnchanged(queryContext.getParameters(), entry.getValue().getParameters())) {
+            cache.put(new SQLRewritePlanCacheKey(queryContext.getSql(), entry.getKey(), metaDataVersion), entry.getValue().getSql());
+        }
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+}
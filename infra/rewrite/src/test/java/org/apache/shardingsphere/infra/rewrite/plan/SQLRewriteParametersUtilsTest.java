@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLRewriteParametersUtilsTest {
+    
+    @Test
+    void assertIsUnchanged() {
+        List<Object> params = Arrays.asList(new Object(), new Object());
+        assertTrue(SQLRewriteParametersUtils.isUnchanged(params, new ArrayList<>(params)));
+    }
+    
+    @Test
+    void assertIsNotUnchangedWithDifferentSize() {
+        assertFalse(SQLRewriteParametersUtils.isUnchanged(Collections.singletonList(1), Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    void assertIsNotUnchangedWithReplacedParameter() {
+        assertFalse(SQLRewriteParametersUtils.isUnchanged(Collections.singletonList(new Object()), Collections.singletonList(new Object())));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.ddl.CreateTableStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLRewritePlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("foo_ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    @Test
+    void assertIsCacheable() {
+        assertTrue(new SQLRewritePlanCache(16, 128, false, 1024).isCacheable(mockQueryContext(Collections.singletonList(1)), mockRouteContext()));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithTooLongSQL() {
+        assertFalse(new SQLRewritePlanCache(16, 128, false, 8).isCacheable(mockQueryContext(Collections.singletonList(1)), mockRouteContext()));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithDDLStatement() {
+        QueryContext queryContext = mockQueryContext(Collections.emptyList());
+        when(queryContext.getSqlStatementContext()).thenReturn(mock(CreateTableStatementContext.class));
+        assertFalse(new SQLRewritePlanCache(16, 128, false, 1024).isCacheable(queryContext, mockRouteContext()));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithGeneratedKeyInsertStatement() {
+        QueryContext queryContext = mockQueryContext(Collections.emptyList());
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getGeneratedKeyContext()).thenReturn(Optional.of(new GeneratedKeyContext("order_id", true)));
+        when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        assertFalse(new SQLRewritePlanCache(16, 128, false, 1024).isCacheable(queryContext, mockRouteContext()));
+    }
+    
+    @Test
+    void assertRewriteLiteralInsertsWithGeneratedKeys() {
+        SQLRewritePlanCache rewritePlanCache = new SQLRewritePlanCache(16, 128, false, 1024);
+        String firstSQL = rewriteLiteralInsert(rewritePlanCache, 1L);
+        String secondSQL = rewriteLiteralInsert(rewritePlanCache, 2L);
+        assertThat(firstSQL, is("INSERT INTO t_order_0 (status, order_id) VALUES ('init', 1)"));
+        assertThat(secondSQL, is("INSERT INTO t_order_0 (status, order_id) VALUES ('init', 2)"));
+    }
+    
+    private String rewriteLiteralInsert(final SQLRewritePlanCache rewritePlanCache, final long generatedKey) {
+        QueryContext queryContext = mockQueryContext(Collections.emptyList());
+        when(queryContext.getSql()).thenReturn("INSERT INTO t_order (status) VALUES ('init')");
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        GeneratedKeyContext generatedKeyContext = new GeneratedKeyContext("order_id", true);
+        generatedKeyContext.getGeneratedValues().add(generatedKey);
+        when(sqlStatementContext.getGeneratedKeyContext()).thenReturn(Optional.of(generatedKeyContext));
+        when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        RouteContext routeContext = mockRouteContext();
+        if (rewritePlanCache.isCacheable(queryContext, routeContext)) {
+            Optional<SQLRewriteResult> cachedResult = rewritePlanCache.find(queryContext, routeContext);
+            if (cachedResult.isPresent()) {
+                return ((RouteSQLRewriteResult) cachedResult.get()).getSqlRewriteUnits().get(routeUnit).getSql();
+            }
+        }
+        String result = String.format("INSERT INTO t_order_0 (status, order_id) VALUES ('init', %d)", generatedKey);
+        if (rewritePlanCache.isCacheable(queryContext, routeContext)) {
+            rewritePlanCache.put(queryContext, LocalMetaDataVersion.get(),
+                    new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit(result, Collections.emptyList()))));
+        }
+        return result;
+    }
+    
+    @Test
+    void assertIsNotCacheableWithMultipleRouteUnits() {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("foo_ds", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        assertFalse(new SQLRewritePlanCache(16, 128, false, 1024).isCacheable(mockQueryContext(Collections.singletonList(1)), routeContext));
+    }
+    
+    @Test
+    void assertFindAfterPutWithUnchangedParameters() {
+        SQLRewritePlanCache rewritePlanCache = new SQLRewritePlanCache(16, 128, false, 1024);
+        List<Object> params = Collections.singletonList(1);
+        rewritePlanCache.put(mockQueryContext(params), LocalMetaDataVersion.get() - 1L, createRewriteResult(params));
+        assertFalse(rewritePlanCache.find(mockQueryContext(params), mockRouteContext()).isPresent());
+        rewritePlanCache.put(mockQueryContext(params), LocalMetaDataVersion.get(), createRewriteResult(params));
+        Optional<SQLRewriteResult> actual = rewritePlanCache.find(mockQueryContext(Collections.singletonList(2)), mockRouteContext());
+        assertTrue(actual.isPresent());
+        SQLRewriteUnit actualUnit = ((RouteSQLRewriteResult) actual.get()).getSqlRewriteUnits().get(routeUnit);
+        assertThat(actualUnit.getSql(), is("SELECT * FROM t_order_0 WHERE order_id = ?"));
+        assertThat(actualUnit.getParameters(), is(Collections.<Object>singletonList(2)));
+        assertThat(rewritePlanCache.getHitCount(), is(1L));
+        assertThat(rewritePlanCache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    void assertNotPutWithRewrittenParameters() {
+        SQLRewritePlanCache rewritePlanCache = new SQLRewritePlanCache(16, 128, false, 1024);
+        long metaDataVersion = LocalMetaDataVersion.get();
+        rewritePlanCache.put(mockQueryContext(Collections.singletonList(1)), metaDataVersion, createRewriteResult(Arrays.asList(1, 2)));
+        assertFalse(rewritePlanCache.find(mockQueryContext(Collections.singletonList(1)), mockRouteContext()).isPresent());
+    }
+    
+    private QueryContext mockQueryContext(final List<Object> params) {
+        QueryContext result = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSql()).thenReturn(SQL);
+        when(result.getParameters()).thenReturn(params);
+        when(result.getSqlStatementContext()).thenReturn(mock(SelectStatementContext.class));
+        when(result.getHintValueContext().isSkipSQLRewrite()).thenReturn(false);
+        return result;
+    }
+    
+    private RouteContext mockRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+    
+    private SQLRewriteResult createRewriteResult(final List<Object> params) {
+        return new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE order_id = ?", params)));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewriteParametersUtils;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batch execution plan.
+ *
+ * <p>Keeps rewritten SQL of each route unit of a batched statement, so rows added later only need to be routed.
+ * Rewritten SQL is planned only for rows routed to one route unit whose parameters are passed through unchanged, and planned SQL is dropped when local meta data version changes.</p>
+ */
+public final class BatchExecutionPlan {
+    
+    private final Map<RouteUnit, ExecutionUnit> plannedExecutionUnits = new HashMap<>();
+    
+    private long metaDataVersion = LocalMetaDataVersion.get();
+    
+    /**
+     * Find planned execution unit.
+     *
+     * @param routeContext route context of added row
+     * @param params parameters of added row
+     * @return planned execution unit with parameters of added row
+     */
+    public Optional<ExecutionUnit> findExecutionUnit(final RouteContext routeContext, final List<Object> params) {
+        long currentMetaDataVersion = LocalMetaDataVersion.get();
+        if (metaDataVersion != currentMetaDataVersion) {
+            plannedExecutionUnits.clear();
+            metaDataVersion = currentMetaDataVersion;
+            return Optional.empty();
+        }
+        if (1 != routeContext.getRouteUnits().size()) {
+            return Optional.empty();
+        }
+        ExecutionUnit plannedExecutionUnit = plannedExecutionUnits.get(routeContext.getRouteUnits().iterator().next());
+        return null == plannedExecutionUnit
+                ? Optional.empty()
+                : Optional.of(new ExecutionUnit(plannedExecutionUnit.getDataSourceName(),
+                        new SQLUnit(plannedExecutionUnit.getSqlUnit().getSql(), new ArrayList<>(params), plannedExecutionUnit.getSqlUnit().getTableRouteMappers())));
+    }
+    
+    /**
+     * Plan execution unit of added row if parameters are not rewritten.
+     *
+     * @param metaDataVersion local meta data version before rewrite
+     * @param params parameters of added row
+     * @param executionContext execution context of added row
+     */
+    public void plan(final long metaDataVersion, final List<Object> params, final ExecutionContext executionContext) {
+        if (this.metaDataVersion != metaDataVersion || 1 != executionContext.getRouteContext().getRouteUnits().size() || 1 != executionContext.getExecutionUnits().size()) {
+            return;
+        }
+        ExecutionUnit executionUnit = executionContext.getExecutionUnits().iterator().next();
+        if (SQLRewriteParametersUtils.isUnchanged(params, executionUnit.getSqlUnit().getParameters())) {
+            plannedExecutionUnits.put(executionContext.getRouteContext().getRouteUnits().iterator().next(), new ExecutionUnit(executionUnit.getDataSourceName(),
+                    new SQLUnit(executionUnit.getSqlUnit().getSql(), Collections.emptyList(), executionUnit.getSqlUnit().getTableRouteMappers())));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch insert coalescer.
+ *
+ * <p>Coalesces single-row inserts added to batch and routed to the same data node into multi-row inserts.
+ * Rows are chunked in order of adding to batch, each chunk is limited by max rows, estimated bytes of SQL and parameters,
+ * and max bind parameter count of the storage unit dialect.
+ * Chunks of the same row count share one multi-row SQL, and each chunk is added to batch of its statement once.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchInsertCoalescer {
+    
+    private static final String VALUES = "VALUES";
+    
+    private static final String VALUE = "VALUE";
+    
+    private static final String ROW_SEPARATOR = ", ";
+    
+    private final int maxRows;
+    
+    private final long maxBytes;
+    
+    private final Map<String, Integer> maxParameterCounts;
+    
+    public BatchInsertCoalescer(final int maxRows, final long maxBytes) {
+        this(maxRows, maxBytes, Collections.emptyMap());
+    }
+    
+    /**
+     * Judge whether batched rows of SQL statement can be coalesced.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param sql logic SQL
+     * @return can be coalesced or not
+     */
+    public boolean isCoalescible(final SQLStatementContext sqlStatementContext, final String sql) {
+        if (maxRows < 2 || !(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatement insertStatement = ((InsertStatementContext) sqlStatementContext).getSqlStatement();
+        if (1 != insertStatement.getValues().size() || insertStatement.getSetAssignment().isPresent() || insertStatement.getInsertSelect().isPresent()
+                || insertStatement.getOnDuplicateKeyColumns().isPresent() || insertStatement.getReturningSegment().isPresent() || insertStatement.getOutputSegment().isPresent()
+                || insertStatement.getMultiTableInsertType().isPresent()) {
+            return false;
+        }
+        return insertStatement.getValues().iterator().next().getStopIndex() == getLastNonWhitespaceIndex(sql);
+    }
+    
+    /**
+     * Coalesce batch execution units.
+     *
+     * @param batchExecutionUnits batch execution units of single-row insert
+     * @return coalesced batch execution units
+     */
+    public Collection<BatchExecutionUnit> coalesce(final Collection<BatchExecutionUnit> batchExecutionUnits) {
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            result.addAll(coalesce(each));
+        }
+        return result;
+    }
+    
+    private Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        String sql = batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql();
+        int valuesRowStartIndex = findValuesRowStartIndex(sql);
+        if (valuesRowStartIndex < 0 || batchExecutionUnit.getInsertValuesCount() > 1 || batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size() < 2) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        String prefix = sql.substring(0, valuesRowStartIndex);
+        String valuesRow = sql.substring(valuesRowStartIndex, getLastNonWhitespaceIndex(sql) + 1);
+        List<Integer> rowIndexes = new ArrayList<>(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().keySet());
+        List<List<Object>> rowParams = getRowParameters(batchExecutionUnit, rowIndexes.size());
+        Map<Integer, BatchExecutionUnit> result = new LinkedHashMap<>();
+        long fixedBytes = prefix.getBytes(StandardCharsets.UTF_8).length;
+        long rowBytes = valuesRow.getBytes(StandardCharsets.UTF_8).length + ROW_SEPARATOR.length();
+        int maxParameterCount = maxParameterCounts.getOrDefault(batchExecutionUnit.getExecutionUnit().getDataSourceName(), Integer.MAX_VALUE);
+        List<Integer> chunkRowIndexes = new ArrayList<>(maxRows);
+        long chunkBytes = fixedBytes;
+        long chunkParameterCount = 0L;
+        for (int i = 0; i < rowIndexes.size(); i++) {
+            long bytes = rowBytes + estimateBytes(rowParams.get(i));
+            int parameterCount = rowParams.get(i).size();
+            if (!chunkRowIndexes.isEmpty() && (chunkRowIndexes.size() >= maxRows || chunkBytes + bytes > maxBytes || chunkParameterCount + parameterCount > maxParameterCount)) {
+                addChunk(batchExecutionUnit.getExecutionUnit(), prefix, valuesRow, chunkRowIndexes, rowIndexes, rowParams, result);
+                chunkRowIndexes.clear();
+                chunkBytes = fixedBytes;
+                chunkParameterCount = 0L;
+            }
+            chunkRowIndexes.add(i);
+            chunkBytes += bytes;
+            chunkParameterCount += parameterCount;
+        }
+        addChunk(batchExecutionUnit.getExecutionUnit(), prefix, valuesRow, chunkRowIndexes, rowIndexes, rowParams, result);
+        return result.values();
+    }
+    
+    private int findValuesRowStartIndex(final String sql) {
+        int result = getLastNonWhitespaceIndex(sql);
+        if (result < 0 || ')' != sql.charAt(result)) {
+            return -1;
+        }
+        int depth = 0;
+        while (result >= 0) {
+            char each = sql.charAt(result);
+            if ('\'' == each || '"' == each || '`' == each) {
+                return -1;
+            }
+            if (')' == each) {
+                depth++;
+            } else if ('(' == each) {
+                depth--;
+                if (0 == depth) {
+                    break;
+                }
+            }
+            result--;
+        }
+        return result > 0 && isPrecededByValuesKeyword(sql, result) ? result : -1;
+    }
+    
+    private boolean isPrecededByValuesKeyword(final String sql, final int valuesRowStartIndex) {
+        int keywordStopIndex = getLastNonWhitespaceIndex(sql.substring(0, valuesRowStartIndex));
+        for (String each : new String[]{VALUES, VALUE}) {
+            int keywordStartIndex = keywordStopIndex - each.length() + 1;
+            if (keywordStartIndex > 0 && sql.regionMatches(true, keywordStartIndex, each, 0, each.length()) && !isIdentifierPart(sql.charAt(keywordStartIndex - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private int getLastNonWhitespaceIndex(final String sql) {
+        int result = sql.length() - 1;
+        while (result >= 0 && Character.isWhitespace(sql.charAt(result))) {
+            result--;
+        }
+        return result;
+    }
+    
+    private List<List<Object>> getRowParameters(final BatchExecutionUnit batchExecutionUnit, final int rowCount) {
+        List<Object> params = batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters();
+        if (params.isEmpty()) {
+            return Collections.nCopies(rowCount, Collections.emptyList());
+        }
+        return batchExecutionUnit.getParameterSets();
+    }
+    
+    private long estimateBytes(final List<Object> params) {
+        long result = 0L;
+        for (Object each : params) {
+            result += each instanceof byte[] ? ((byte[]) each).length : String.valueOf(each).length();
+        }
+        return result;
+    }
+    
+    private void addChunk(final ExecutionUnit executionUnit, final String prefix, final String valuesRow, final List<Integer> chunkRowIndexes,
+                          final List<Integer> rowIndexes, final List<List<Object>> rowParams, final Map<Integer, BatchExecutionUnit> coalescedUnits) {
+        int rowCount = chunkRowIndexes.size();
+        BatchExecutionUnit coalescedUnit = coalescedUnits.computeIfAbsent(rowCount, key -> new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(),
+                new SQLUnit(createCoalescedSQL(prefix, valuesRow, key), new ArrayList<>(), executionUnit.getSqlUnit().getTableRouteMappers())), key));
+        List<Integer> jdbcAddBatchTimes = new ArrayList<>(rowCount);
+        for (int each : chunkRowIndexes) {
+            jdbcAddBatchTimes.add(rowIndexes.get(each));
+            coalescedUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(rowParams.get(each));
+        }
+        coalescedUnit.mapAddBatchCount(jdbcAddBatchTimes);
+    }
+    
+    private String createCoalescedSQL(final String prefix, final String valuesRow, final int rowCount) {
+        StringBuilder result = new StringBuilder(prefix.length() + (valuesRow.length() + ROW_SEPARATOR.length()) * rowCount).append(prefix).append(valuesRow);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(ROW_SEPARATOR).append(valuesRow);
+        }
+        return result.toString();
+    }
+}
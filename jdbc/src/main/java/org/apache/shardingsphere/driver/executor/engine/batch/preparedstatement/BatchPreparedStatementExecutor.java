@@ -34,11 +34,16 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.sql.BatchUpdateException;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +64,8 @@ public final class BatchPreparedStatementExecutor {
     @Getter
     private final Collection<BatchExecutionUnit> batchExecutionUnits;
     
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnitIndexes;
+    
     private int batchCount;
     
     public BatchPreparedStatementExecutor(final ShardingSphereDatabase database, final JDBCExecutor jdbcExecutor, final String processId) {
@@ -66,6 +73,7 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, database.getName()));
         batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnitIndexes = new HashMap<>();
     }
     
     /**
@@ -83,44 +91,49 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnitIndexes.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnitIndexes.put(each, batchExecutionUnit);
+                batchExecutionUnits.add(batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
         }
-        return result;
+        batchCount++;
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    /**
+     * Coalesce batched single-row inserts routed to the same data node into multi-row inserts.
+     *
+     * @param coalescer batch insert coalescer
+     * @param sqlStatementContext SQL statement context
+     * @param sql logic SQL
+     */
+    public void coalesceInsertValues(final BatchInsertCoalescer coalescer, final SQLStatementContext sqlStatementContext, final String sql) {
+        if (!coalescer.isCoalescible(sqlStatementContext, sql) || !isNeedAccumulate(sqlStatementContext)) {
+            return;
+        }
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = coalescer.coalesce(batchExecutionUnits);
+        batchExecutionUnits.clear();
+        batchExecutionUnits.addAll(coalescedBatchExecutionUnits);
+        batchExecutionUnitIndexes.clear();
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
+    /**
+     * Judge whether insert values are coalesced.
+     *
+     * @return coalesced or not
+     */
+    public boolean isInsertValuesCoalesced() {
         for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+            if (each.getInsertValuesCount() > 1) {
+                return true;
             }
         }
-    }
-    
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        return false;
     }
     
     /**
@@ -132,11 +145,16 @@ public final class BatchPreparedStatementExecutor {
      */
     public int[] executeBatch(final SQLStatementContext sqlStatementContext) throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
+        boolean insertValuesCoalesced = isInsertValuesCoalesced();
         JDBCExecutorCallback<int[]> callback = new JDBCExecutorCallback<int[]>(database.getProtocolType(), database.getResourceMetaData(), sqlStatementContext.getSqlStatement(), isExceptionThrown) {
             
             @Override
             protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
-                return statement.executeBatch();
+                try {
+                    return statement.executeBatch();
+                } catch (final BatchUpdateException ex) {
+                    throw insertValuesCoalesced ? createAddBatchIndexedException(statement, ex) : ex;
+                }
             }
             
             @SuppressWarnings("OptionalContainsCollection")
@@ -149,7 +167,22 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return isNeedAccumulate(sqlStatementContext) || insertValuesCoalesced ? accumulate(results) : results.get(0);
+    }
+    
+    private BatchUpdateException createAddBatchIndexedException(final Statement statement, final BatchUpdateException ex) {
+        int[] updateCounts = new int[batchCount];
+        Arrays.fill(updateCounts, Statement.EXECUTE_FAILED);
+        Optional<BatchExecutionUnit> batchExecutionUnit = findJDBCExecutionUnit(statement).flatMap(this::findBatchExecutionUnit);
+        if (batchExecutionUnit.isPresent()) {
+            int[] actualUpdateCounts = null == ex.getUpdateCounts() ? new int[0] : ex.getUpdateCounts();
+            for (Entry<Integer, Integer> entry : batchExecutionUnit.get().getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+                if (entry.getValue() < actualUpdateCounts.length) {
+                    updateCounts[entry.getKey()] = getInsertValueUpdateCount(actualUpdateCounts[entry.getValue()], batchExecutionUnit.get().getInsertValuesCount());
+                }
+            }
+        }
+        return new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), updateCounts, ex);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -177,19 +210,30 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
+        Optional<BatchExecutionUnit> batchExecutionUnit = findBatchExecutionUnit(executionUnit);
+        if (!batchExecutionUnit.isPresent()) {
+            return;
+        }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.get().getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
             int value = null == executeResult || 0 == executeResult.length ? 0 : executeResult[entry.getValue()];
-            addBatchCounts[entry.getKey()] += value;
+            addBatchCounts[entry.getKey()] += getInsertValueUpdateCount(value, batchExecutionUnit.get().getInsertValuesCount());
+        }
+    }
+    
+    private int getInsertValueUpdateCount(final int updateCount, final int insertValuesCount) {
+        if (1 == insertValuesCount || updateCount < 0) {
+            return updateCount;
         }
+        return updateCount == insertValuesCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
+    private Optional<BatchExecutionUnit> findBatchExecutionUnit(final JDBCExecutionUnit executionUnit) {
         for (BatchExecutionUnit each : batchExecutionUnits) {
             if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
+                return Optional.of(each);
             }
         }
-        return Collections.emptyMap();
+        return Optional.empty();
     }
     
     private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
@@ -220,13 +264,17 @@ public final class BatchPreparedStatementExecutor {
      * @return parameter sets
      */
     public List<List<Object>> getParameterSet(final Statement statement) {
+        return findJDBCExecutionUnit(statement).map(this::getParameterSets).orElse(Collections.emptyList());
+    }
+    
+    private Optional<JDBCExecutionUnit> findJDBCExecutionUnit(final Statement statement) {
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             Optional<JDBCExecutionUnit> result = findJDBCExecutionUnit(statement, each);
             if (result.isPresent()) {
-                return getParameterSets(result.get());
+                return result;
             }
         }
-        return Collections.emptyList();
+        return Optional.empty();
     }
     
     private Optional<JDBCExecutionUnit> findJDBCExecutionUnit(final Statement statement, final ExecutionGroup<JDBCExecutionUnit> executionGroup) {
@@ -239,12 +287,40 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
+        return findBatchExecutionUnit(executionUnit).map(BatchExecutionUnit::getParameterSets).orElseThrow(() -> new IllegalStateException("Can not get value from parameter sets."));
+    }
+    
+    /**
+     * Get generated keys in order of adding to batch.
+     *
+     * @return generated keys
+     * @throws SQLException SQL exception
+     */
+    public List<Comparable<?>> getGeneratedKeys() throws SQLException {
+        Comparable<?>[] generatedKeys = new Comparable<?>[batchCount];
+        for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : eachGroup.getInputs()) {
+                Optional<BatchExecutionUnit> batchExecutionUnit = findBatchExecutionUnit(eachUnit);
+                if (batchExecutionUnit.isPresent()) {
+                    fillGeneratedKeys(eachUnit.getStorageResource(), batchExecutionUnit.get().getJdbcAndActualAddBatchCallTimesMap().keySet().iterator(), generatedKeys);
+                }
+            }
+        }
+        List<Comparable<?>> result = new ArrayList<>(batchCount);
+        for (Comparable<?> each : generatedKeys) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void fillGeneratedKeys(final Statement statement, final Iterator<Integer> jdbcAddBatchTimes, final Comparable<?>[] generatedKeys) throws SQLException {
+        try (ResultSet resultSet = statement.getGeneratedKeys()) {
+            while (jdbcAddBatchTimes.hasNext() && resultSet.next()) {
+                generatedKeys[jdbcAddBatchTimes.next()] = (Comparable<?>) resultSet.getObject(1);
             }
         }
-        throw new IllegalStateException("Can not get value from parameter sets.");
     }
     
     /**
@@ -254,5 +330,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        batchExecutionUnitIndexes.clear();
     }
 }
@@ -22,12 +22,19 @@ import org.apache.shardingsphere.driver.executor.callback.keygen.GeneratedKeyCal
 import org.apache.shardingsphere.driver.executor.callback.replay.PreparedStatementParametersReplayCallback;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -36,7 +43,13 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriv
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 
 import java.sql.Connection;
@@ -46,7 +59,11 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Driver execute batch executor.
@@ -61,8 +78,20 @@ public final class DriverExecuteBatchExecutor {
     
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
+    private BatchInsertCoalescer batchInsertCoalescer;
+    
     private ExecutionContext executionContext;
     
+    private SQLRouteEngine sqlRouteEngine;
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    private BatchExecutionPlan batchExecutionPlan;
+    
+    private long batchExecutionPlanMetaDataVersion;
+    
+    private boolean batchExecutionPlanDecided;
+    
     public DriverExecuteBatchExecutor(final ShardingSphereConnection connection, final ShardingSphereMetaData metaData, final StatementOption statementOption, final StatementManager statementManager,
                                       final ShardingSphereDatabase database) {
         this.connection = connection;
@@ -93,7 +122,62 @@ public final class DriverExecuteBatchExecutor {
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database) {
         RuleMetaData globalRuleMetaData = metaData.getGlobalRuleMetaData();
         SQLAuditEngine.audit(queryContext, globalRuleMetaData, database);
-        return new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, metaData.getProps());
+        long metaDataVersion = LocalMetaDataVersion.get();
+        if (null != batchExecutionPlan && batchExecutionPlanMetaDataVersion != metaDataVersion) {
+            resetBatchExecutionPlan();
+        }
+        boolean skipSQLRewrite = queryContext.getHintValueContext().isSkipSQLRewrite();
+        if (null != batchExecutionPlan && !skipSQLRewrite) {
+            return createPlannedExecutionContext(queryContext, globalRuleMetaData);
+        }
+        ExecutionContext result = new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, metaData.getProps());
+        if (!batchExecutionPlanDecided && !skipSQLRewrite) {
+            batchExecutionPlanDecided = true;
+            if (isBatchExecutionPlanAvailable(queryContext, globalRuleMetaData)) {
+                sqlRouteEngine = new SQLRouteEngine(queryContext.getUsedDatabase().getRuleMetaData().getRules(), metaData.getProps());
+                batchExecutionPlan = new BatchExecutionPlan();
+                batchExecutionPlanMetaDataVersion = metaDataVersion;
+                batchExecutionPlan.plan(metaDataVersion, queryContext.getParameters(), result);
+            }
+        }
+        return result;
+    }
+    
+    private void resetBatchExecutionPlan() {
+        sqlRouteEngine = null;
+        sqlRewriteEntry = null;
+        batchExecutionPlan = null;
+        batchExecutionPlanDecided = false;
+    }
+    
+    private boolean isBatchExecutionPlanAvailable(final QueryContext queryContext, final RuleMetaData globalRuleMetaData) {
+        if (!metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.BATCH_EXECUTION_PLAN_ENABLED)
+                || !isDMLWithoutGeneratedKey(queryContext.getSqlStatementContext()) || metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            return false;
+        }
+        sqlRewriteEntry = new SQLRewriteEntry(queryContext.getUsedDatabase(), globalRuleMetaData, metaData.getProps());
+        return sqlRewriteEntry.isRewritePlanReusable();
+    }
+    
+    private boolean isDMLWithoutGeneratedKey(final SQLStatementContext sqlStatementContext) {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            return !((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+        }
+        return sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    private ExecutionContext createPlannedExecutionContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData) {
+        ShardingSphereDatabase database = queryContext.getUsedDatabase();
+        RouteContext routeContext = sqlRouteEngine.route(queryContext, globalRuleMetaData, database);
+        Optional<ExecutionUnit> plannedExecutionUnit = batchExecutionPlan.findExecutionUnit(routeContext, queryContext.getParameters());
+        if (plannedExecutionUnit.isPresent()) {
+            return new ExecutionContext(queryContext, Collections.singleton(plannedExecutionUnit.get()), routeContext);
+        }
+        long metaDataVersion = LocalMetaDataVersion.get();
+        SQLRewriteResult rewriteResult = sqlRewriteEntry.rewrite(queryContext, routeContext);
+        ExecutionContext result = new ExecutionContext(queryContext, ExecutionContextBuilder.build(database, rewriteResult, queryContext.getSqlStatementContext()), routeContext);
+        batchExecutionPlan.plan(metaDataVersion, queryContext.getParameters(), result);
+        return result;
     }
     
     /**
@@ -125,15 +209,39 @@ public final class DriverExecuteBatchExecutor {
                                  final SQLStatementContext sqlStatementContext, final Collection<Comparable<?>> generatedValues, final StatementOption statementOption,
                                  final ExecutionContext executionContext, final StatementAddCallback addCallback, final PreparedStatementParametersReplayCallback replayCallback,
                                  final GeneratedKeyCallback generatedKeyCallback) throws SQLException {
+        batchExecutor.coalesceInsertValues(getBatchInsertCoalescer(database), sqlStatementContext, executionContext.getQueryContext().getSql());
         initBatchPreparedStatementExecutor(database, batchExecutor, executionContext, replayCallback);
         int[] result = batchExecutor.executeBatch(sqlStatementContext);
         if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
-            addCallback.add(batchExecutor.getStatements(), Collections.emptyList());
+            if (batchExecutor.isInsertValuesCoalesced()) {
+                generatedValues.addAll(batchExecutor.getGeneratedKeys());
+            } else {
+                addCallback.add(batchExecutor.getStatements(), Collections.emptyList());
+            }
             generatedKeyCallback.generateKeys();
         }
         return result;
     }
     
+    private BatchInsertCoalescer getBatchInsertCoalescer(final ShardingSphereDatabase database) {
+        if (null == batchInsertCoalescer) {
+            int maxRows = metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS);
+            long maxBytes = metaData.getProps().<Long>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES);
+            batchInsertCoalescer = maxRows < 2 ? new BatchInsertCoalescer(maxRows, maxBytes) : new BatchInsertCoalescer(maxRows, maxBytes, getMaxParameterCounts(database));
+        }
+        return batchInsertCoalescer;
+    }
+    
+    private Map<String, Integer> getMaxParameterCounts(final ShardingSphereDatabase database) {
+        Map<String, Integer> result = new HashMap<>(database.getResourceMetaData().getStorageUnits().size(), 1F);
+        Map<DatabaseType, Integer> maxParameterCounts = new HashMap<>();
+        for (Entry<String, StorageUnit> entry : database.getResourceMetaData().getStorageUnits().entrySet()) {
+            result.put(entry.getKey(), maxParameterCounts.computeIfAbsent(entry.getValue().getStorageType(),
+                    databaseType -> new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData().getMaxParameterCount()));
+        }
+        return result;
+    }
+    
     private void initBatchPreparedStatementExecutor(final ShardingSphereDatabase database, final BatchPreparedStatementExecutor batchExecutor,
                                                     final ExecutionContext executionContext, final PreparedStatementParametersReplayCallback replayCallback) throws SQLException {
         List<ExecutionUnit> executionUnits = new ArrayList<>(batchExecutor.getBatchExecutionUnits().size());
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class BatchExecutionPlanTest {
+    
+    private static final String SQL = "INSERT INTO t_order_1 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    void assertFindPlannedExecutionUnit() {
+        BatchExecutionPlan batchExecutionPlan = new BatchExecutionPlan();
+        List<Object> params = Arrays.asList(1L, 1);
+        batchExecutionPlan.plan(LocalMetaDataVersion.get(), params, createExecutionContext(params));
+        Optional<ExecutionUnit> actual = batchExecutionPlan.findExecutionUnit(createRouteContext(), Arrays.asList(3L, 1));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDataSourceName(), is("ds_1"));
+        assertThat(actual.get().getSqlUnit().getSql(), is(SQL));
+        assertThat(actual.get().getSqlUnit().getParameters(), is(Arrays.<Object>asList(3L, 1)));
+        assertThat(actual.get().getSqlUnit().getTableRouteMappers(), is(Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+    }
+    
+    @Test
+    void assertNotPlanWithRewrittenParameters() {
+        BatchExecutionPlan batchExecutionPlan = new BatchExecutionPlan();
+        batchExecutionPlan.plan(LocalMetaDataVersion.get(), Arrays.asList(1L, 1), createExecutionContext(Arrays.asList(1L, 1, "encrypted")));
+        assertFalse(batchExecutionPlan.findExecutionUnit(createRouteContext(), Arrays.asList(3L, 1)).isPresent());
+    }
+    
+    @Test
+    void assertNotPlanWithChangedMetaDataVersion() {
+        BatchExecutionPlan batchExecutionPlan = new BatchExecutionPlan();
+        List<Object> params = Arrays.asList(1L, 1);
+        batchExecutionPlan.plan(LocalMetaDataVersion.get() - 1L, params, createExecutionContext(params));
+        assertFalse(batchExecutionPlan.findExecutionUnit(createRouteContext(), Arrays.asList(3L, 1)).isPresent());
+    }
+    
+    @Test
+    void assertDropPlanWhenMetaDataVersionChanged() {
+        BatchExecutionPlan batchExecutionPlan = new BatchExecutionPlan();
+        List<Object> params = Arrays.asList(1L, 1);
+        batchExecutionPlan.plan(LocalMetaDataVersion.get(), params, createExecutionContext(params));
+        LocalMetaDataVersion.increase();
+        assertFalse(batchExecutionPlan.findExecutionUnit(createRouteContext(), Arrays.asList(3L, 1)).isPresent());
+        assertFalse(batchExecutionPlan.findExecutionUnit(createRouteContext(), Arrays.asList(3L, 1)).isPresent());
+    }
+    
+    private ExecutionContext createExecutionContext(final List<Object> params) {
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_1", new SQLUnit(SQL, params, Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        return new ExecutionContext(mock(QueryContext.class), Collections.singleton(executionUnit), createRouteContext());
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchInsertCoalescerTest {
+    
+    private static final String LOGIC_SQL = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+    
+    private static final String ACTUAL_SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+    
+    @Test
+    void assertIsCoalescible() {
+        assertTrue(new BatchInsertCoalescer(100, 1024L).isCoalescible(mockInsertStatementContext(LOGIC_SQL.length() - 1), LOGIC_SQL));
+    }
+    
+    @Test
+    void assertIsNotCoalescibleWhenDisabled() {
+        assertFalse(new BatchInsertCoalescer(0, 1024L).isCoalescible(mockInsertStatementContext(LOGIC_SQL.length() - 1), LOGIC_SQL));
+    }
+    
+    @Test
+    void assertIsNotCoalescibleWithNotInsertStatement() {
+        assertFalse(new BatchInsertCoalescer(100, 1024L).isCoalescible(mock(SQLStatementContext.class), LOGIC_SQL));
+    }
+    
+    @Test
+    void assertIsNotCoalescibleWithTrailingClause() {
+        String sql = LOGIC_SQL + " ON DUPLICATE KEY UPDATE status = ?";
+        InsertStatementContext sqlStatementContext = mockInsertStatementContext(LOGIC_SQL.length() - 1);
+        when(sqlStatementContext.getSqlStatement().getOnDuplicateKeyColumns()).thenReturn(Optional.of(mock(OnDuplicateKeyColumnsSegment.class)));
+        assertFalse(new BatchInsertCoalescer(100, 1024L).isCoalescible(sqlStatementContext, sql));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxRows() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertCoalescer(2, 1024L).coalesce(Collections.singleton(createBatchExecutionUnit(5)));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit twoRowsUnit = iterator.next();
+        assertThat(twoRowsUnit.getExecutionUnit().getSqlUnit().getSql(), is(ACTUAL_SQL + ", (?, ?)"));
+        assertThat(twoRowsUnit.getInsertValuesCount(), is(2));
+        assertThat(twoRowsUnit.getJdbcAndActualAddBatchCallTimesMap().toString(), is("{0=0, 1=0, 2=1, 3=1}"));
+        assertThat(twoRowsUnit.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, "INIT", 1, "INIT"), Arrays.<Object>asList(2, "INIT", 3, "INIT"))));
+        BatchExecutionUnit oneRowUnit = iterator.next();
+        assertThat(oneRowUnit.getExecutionUnit().getSqlUnit().getSql(), is(ACTUAL_SQL));
+        assertThat(oneRowUnit.getInsertValuesCount(), is(1));
+        assertThat(oneRowUnit.getJdbcAndActualAddBatchCallTimesMap().toString(), is("{4=0}"));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxBytes() {
+        long maxBytes = ACTUAL_SQL.length() + 2L * ", (?, ?)".length() + 2L * "0INIT".length();
+        Collection<BatchExecutionUnit> actual = new BatchInsertCoalescer(100, maxBytes).coalesce(Collections.singleton(createBatchExecutionUnit(4)));
+        assertThat(actual.size(), is(1));
+        BatchExecutionUnit coalescedUnit = actual.iterator().next();
+        assertThat(coalescedUnit.getInsertValuesCount(), is(2));
+        assertThat(coalescedUnit.getJdbcAndActualAddBatchCallTimesMap().toString(), is("{0=0, 1=0, 2=1, 3=1}"));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxParameterCount() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertCoalescer(100, 1024L, Collections.singletonMap("ds_0", 4)).coalesce(Collections.singleton(createBatchExecutionUnit(5)));
+        assertThat(actual.size(), is(2));
+        BatchExecutionUnit twoRowsUnit = actual.iterator().next();
+        assertThat(twoRowsUnit.getInsertValuesCount(), is(2));
+        assertThat(twoRowsUnit.getJdbcAndActualAddBatchCallTimesMap().toString(), is("{0=0, 1=0, 2=1, 3=1}"));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxParameterCountOfAnotherDataSource() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertCoalescer(100, 1024L, Collections.singletonMap("ds_1", 4)).coalesce(Collections.singleton(createBatchExecutionUnit(5)));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getInsertValuesCount(), is(5));
+    }
+    
+    @Test
+    void assertCoalesceWithQuotedValues() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'INIT')", new ArrayList<>())));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.mapAddBatchCount(1);
+        Collection<BatchExecutionUnit> actual = new BatchInsertCoalescer(100, 1024L).coalesce(Collections.singleton(batchExecutionUnit));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(batchExecutionUnit));
+        assertThat(actual.iterator().next().getInsertValuesCount(), is(1));
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final int valuesStopIndex) {
+        InsertStatement insertStatement = mock(InsertStatement.class);
+        when(insertStatement.getValues()).thenReturn(Collections.singleton(new InsertValuesSegment(LOGIC_SQL.indexOf('('), valuesStopIndex, Collections.emptyList())));
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final int rowCount) {
+        List<Object> params = new ArrayList<>(rowCount * 2);
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(ACTUAL_SQL, params)));
+        for (int i = 0; i < rowCount; i++) {
+            params.add(i);
+            params.add("INIT");
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -37,6 +38,8 @@ import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,12 +49,18 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.mockito.stubbing.OngoingStubbing;
 
+import java.sql.BatchUpdateException;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
@@ -60,6 +69,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -72,6 +82,8 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(Runtime.getRuntime().availableProcessors() * 2 - 1);
     
     private BatchPreparedStatementExecutor executor;
@@ -157,6 +169,73 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertExecuteBatchWithCoalescedInsertValuesOnTwoShards() throws SQLException {
+        for (int i = 0; i < 5; i++) {
+            String dataSourceName = "ds_" + i % 2;
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit(dataSourceName,
+                    new SQLUnit(String.format("INSERT INTO t_order_%d (order_id, status) VALUES (?, ?)", i % 2), new ArrayList<>(Arrays.asList(i, "INIT"))))));
+        }
+        executor.coalesceInsertValues(new BatchInsertCoalescer(2, 1024L), mockInsertStatementContext(), INSERT_SQL);
+        assertTrue(executor.isInsertValuesCoalesced());
+        assertThat(executor.getBatchExecutionUnits().size(), is(3));
+        PreparedStatement twoRowsStatement = mockInsertPreparedStatement(new int[]{2}, 100L, 102L);
+        PreparedStatement oneRowStatement = mockInsertPreparedStatement(new int[]{1}, 104L);
+        PreparedStatement anotherShardStatement = mockInsertPreparedStatement(new int[]{Statement.SUCCESS_NO_INFO}, 101L, 103L);
+        List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
+        Iterator<PreparedStatement> preparedStatements = Arrays.asList(twoRowsStatement, oneRowStatement, anotherShardStatement).iterator();
+        for (BatchExecutionUnit each : executor.getBatchExecutionUnits()) {
+            executionUnits.add(new JDBCExecutionUnit(each.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatements.next()));
+        }
+        executor.init(new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(executionUnits)), new ExecutionGroupReportContext("foo_process", "foo_db")));
+        assertThat(executor.executeBatch(mockInsertStatementContext()), is(new int[]{1, Statement.SUCCESS_NO_INFO, 1, Statement.SUCCESS_NO_INFO, 1}));
+        assertThat(executor.getGeneratedKeys(), is(Arrays.<Comparable<?>>asList(100L, 101L, 102L, 103L, 104L)));
+    }
+    
+    @Test
+    void assertExecuteBatchWithCoalescedInsertValuesFailure() throws SQLException {
+        for (int i = 0; i < 4; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)", new ArrayList<>(Arrays.asList(i, "INIT"))))));
+        }
+        executor.coalesceInsertValues(new BatchInsertCoalescer(2, 1024L), mockInsertStatementContext(), INSERT_SQL);
+        assertThat(executor.getBatchExecutionUnits().size(), is(1));
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenThrow(new BatchUpdateException("", "23000", 1062, new int[]{2}));
+        executor.init(new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(Collections.singletonList(
+                new JDBCExecutionUnit(executor.getBatchExecutionUnits().iterator().next().getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatement)))),
+                new ExecutionGroupReportContext("foo_process", "foo_db")));
+        BatchUpdateException actual = assertThrows(BatchUpdateException.class, () -> executor.executeBatch(mockInsertStatementContext()));
+        assertThat(actual.getUpdateCounts(), is(new int[]{1, 1, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED}));
+        assertThat(actual.getSQLState(), is("23000"));
+        assertThat(actual.getErrorCode(), is(1062));
+    }
+    
+    private InsertStatementContext mockInsertStatementContext() {
+        InsertStatement insertStatement = mock(InsertStatement.class);
+        when(insertStatement.getValues()).thenReturn(Collections.singleton(new InsertValuesSegment(INSERT_SQL.indexOf("(?"), INSERT_SQL.length() - 1, Collections.emptyList())));
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        when(result.getTablesContext()).thenReturn(mock(TablesContext.class));
+        return result;
+    }
+    
+    private PreparedStatement mockInsertPreparedStatement(final int[] updateCounts, final Long... generatedKeys) throws SQLException {
+        PreparedStatement result = getPreparedStatement();
+        when(result.executeBatch()).thenReturn(updateCounts);
+        ResultSet resultSet = mock(ResultSet.class);
+        OngoingStubbing<Boolean> nextStubbing = when(resultSet.next());
+        for (int i = 0; i < generatedKeys.length; i++) {
+            nextStubbing = nextStubbing.thenReturn(true);
+        }
+        nextStubbing.thenReturn(false);
+        OngoingStubbing<Object> getObjectStubbing = when(resultSet.getObject(1));
+        for (Long each : generatedKeys) {
+            getObjectStubbing = getObjectStubbing.thenReturn(each);
+        }
+        when(result.getGeneratedKeys()).thenReturn(resultSet);
+        return result;
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedConstruction;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({SQLAuditEngine.class, ExecutionContextBuilder.class})
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DriverExecuteBatchExecutorTest {
+    
+    private static final String LOGIC_SQL = "UPDATE t_order SET status = ? WHERE order_id = ?";
+    
+    private static final RouteUnit FOO_ROUTE_UNIT = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+    
+    private static final RouteUnit BAR_ROUTE_UNIT = new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1")));
+    
+    private final ShardingSphereDatabase database = mockDatabase();
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        return result;
+    }
+    
+    @Test
+    void assertAddBatchWithPlannedExecutionUnit() {
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockKernelProcessor();
+                MockedConstruction<SQLRouteEngine> routeEngines = mockSQLRouteEngine(FOO_ROUTE_UNIT);
+                MockedConstruction<SQLRewriteEntry> rewriteEntries = mockSQLRewriteEntry()) {
+            DriverExecuteBatchExecutor executor = createExecutor(true);
+            executor.addBatch(mockQueryContext(false, 1), database);
+            executor.addBatch(mockQueryContext(false, 2), database);
+            assertThat(kernelProcessors.constructed().size(), is(1));
+            verify(routeEngines.constructed().get(0)).route(any(), any(), any());
+            verify(rewriteEntries.constructed().get(0), never()).rewrite(any(), any());
+            assertBatchExecutionUnits(executor, new ExecutionUnit("ds_0", new SQLUnit(getActualSQL(FOO_ROUTE_UNIT), Collections.emptyList())));
+        }
+    }
+    
+    @Test
+    void assertAddBatchWithPlanMissAndReplan() {
+        List<Object> params = Arrays.asList("INIT", 2);
+        when(ExecutionContextBuilder.build(any(), any(), any())).thenReturn(Collections.singleton(new ExecutionUnit("ds_1", new SQLUnit(getActualSQL(BAR_ROUTE_UNIT), new ArrayList<>(params)))));
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockKernelProcessor();
+                MockedConstruction<SQLRouteEngine> routeEngines = mockSQLRouteEngine(BAR_ROUTE_UNIT, BAR_ROUTE_UNIT);
+                MockedConstruction<SQLRewriteEntry> rewriteEntries = mockSQLRewriteEntry()) {
+            DriverExecuteBatchExecutor executor = createExecutor(true);
+            executor.addBatch(mockQueryContext(false, 1), database);
+            executor.addBatch(mockQueryContext(false, params), database);
+            executor.addBatch(mockQueryContext(false, 3), database);
+            assertThat(kernelProcessors.constructed().size(), is(1));
+            verify(routeEngines.constructed().get(0), times(2)).route(any(), any(), any());
+            verify(rewriteEntries.constructed().get(0)).rewrite(any(), any());
+            assertBatchExecutionUnits(executor, new ExecutionUnit("ds_0", new SQLUnit(getActualSQL(FOO_ROUTE_UNIT), Collections.emptyList())),
+                    new ExecutionUnit("ds_1", new SQLUnit(getActualSQL(BAR_ROUTE_UNIT), Collections.emptyList())));
+        }
+    }
+    
+    @Test
+    void assertAddBatchAfterMetaDataVersionChanged() {
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockKernelProcessor();
+                MockedConstruction<SQLRouteEngine> routeEngines = mockSQLRouteEngine(FOO_ROUTE_UNIT);
+                MockedConstruction<SQLRewriteEntry> rewriteEntries = mockSQLRewriteEntry()) {
+            DriverExecuteBatchExecutor executor = createExecutor(true);
+            executor.addBatch(mockQueryContext(false, 1), database);
+            LocalMetaDataVersion.increase();
+            executor.addBatch(mockQueryContext(false, 2), database);
+            assertThat(kernelProcessors.constructed().size(), is(2));
+            assertThat(routeEngines.constructed().size(), is(2));
+            assertThat(rewriteEntries.constructed().size(), is(2));
+            verify(routeEngines.constructed().get(0), never()).route(any(), any(), any());
+            executor.addBatch(mockQueryContext(false, 3), database);
+            assertThat(kernelProcessors.constructed().size(), is(2));
+            verify(routeEngines.constructed().get(1)).route(any(), any(), any());
+        }
+    }
+    
+    @Test
+    void assertAddBatchWithSkipSQLRewriteHint() {
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockKernelProcessor();
+                MockedConstruction<SQLRouteEngine> routeEngines = mockSQLRouteEngine(FOO_ROUTE_UNIT);
+                MockedConstruction<SQLRewriteEntry> ignored = mockSQLRewriteEntry()) {
+            DriverExecuteBatchExecutor executor = createExecutor(true);
+            executor.addBatch(mockQueryContext(false, 1), database);
+            executor.addBatch(mockQueryContext(true, 2), database);
+            assertThat(kernelProcessors.constructed().size(), is(2));
+            verify(routeEngines.constructed().get(0), never()).route(any(), any(), any());
+            executor.addBatch(mockQueryContext(false, 3), database);
+            assertThat(kernelProcessors.constructed().size(), is(2));
+            verify(routeEngines.constructed().get(0)).route(any(), any(), any());
+        }
+    }
+    
+    @Test
+    void assertAddBatchWithBatchExecutionPlanDisabled() {
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockKernelProcessor();
+                MockedConstruction<SQLRouteEngine> routeEngines = mockSQLRouteEngine(FOO_ROUTE_UNIT);
+                MockedConstruction<SQLRewriteEntry> rewriteEntries = mockSQLRewriteEntry()) {
+            DriverExecuteBatchExecutor executor = createExecutor(false);
+            executor.addBatch(mockQueryContext(false, 1), database);
+            executor.addBatch(mockQueryContext(false, 2), database);
+            assertThat(kernelProcessors.constructed().size(), is(2));
+            assertThat(routeEngines.constructed().size(), is(0));
+            assertThat(rewriteEntries.constructed().size(), is(0));
+            assertBatchExecutionUnits(executor, new ExecutionUnit("ds_0", new SQLUnit(getActualSQL(FOO_ROUTE_UNIT), Collections.emptyList())));
+        }
+    }
+    
+    private DriverExecuteBatchExecutor createExecutor(final boolean batchExecutionPlanEnabled) {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.BATCH_EXECUTION_PLAN_ENABLED.getKey(),
+                String.valueOf(batchExecutionPlanEnabled))));
+        ShardingSphereConnection connection = mock(ShardingSphereConnection.class, RETURNS_DEEP_STUBS);
+        when(connection.getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getProps()).thenReturn(props);
+        when(metaData.getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        return new DriverExecuteBatchExecutor(connection, metaData, mock(StatementOption.class), mock(StatementManager.class), database);
+    }
+    
+    private QueryContext mockQueryContext(final boolean skipSQLRewrite, final Object orderId) {
+        return mockQueryContext(skipSQLRewrite, Arrays.asList("INIT", orderId));
+    }
+    
+    private QueryContext mockQueryContext(final boolean skipSQLRewrite, final List<Object> params) {
+        QueryContext result = mock(QueryContext.class);
+        when(result.getSqlStatementContext()).thenReturn(mock(UpdateStatementContext.class));
+        when(result.getSql()).thenReturn(LOGIC_SQL);
+        when(result.getParameters()).thenReturn(params);
+        HintValueContext hintValueContext = new HintValueContext();
+        hintValueContext.setSkipSQLRewrite(skipSQLRewrite);
+        when(result.getHintValueContext()).thenReturn(hintValueContext);
+        when(result.getUsedDatabase()).thenReturn(database);
+        return result;
+    }
+    
+    private MockedConstruction<KernelProcessor> mockKernelProcessor() {
+        return mockConstruction(KernelProcessor.class, (mock, context) -> when(mock.generateExecutionContext(any(), any(), any())).thenAnswer(invocation -> {
+            QueryContext queryContext = invocation.getArgument(0);
+            return new ExecutionContext(queryContext, Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(getActualSQL(FOO_ROUTE_UNIT), new ArrayList<>(queryContext.getParameters())))),
+                    createRouteContext(FOO_ROUTE_UNIT));
+        }));
+    }
+    
+    private MockedConstruction<SQLRouteEngine> mockSQLRouteEngine(final RouteUnit routeUnit, final RouteUnit... moreRouteUnits) {
+        RouteContext[] moreRouteContexts = Arrays.stream(moreRouteUnits).map(this::createRouteContext).toArray(RouteContext[]::new);
+        return mockConstruction(SQLRouteEngine.class, (mock, context) -> when(mock.route(any(), any(), any())).thenReturn(createRouteContext(routeUnit), moreRouteContexts));
+    }
+    
+    private MockedConstruction<SQLRewriteEntry> mockSQLRewriteEntry() {
+        return mockConstruction(SQLRewriteEntry.class, (mock, context) -> {
+            when(mock.isRewritePlanReusable()).thenReturn(true);
+            when(mock.rewrite(any(), any())).thenReturn(mock(SQLRewriteResult.class));
+        });
+    }
+    
+    private RouteContext createRouteContext(final RouteUnit routeUnit) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+    
+    private String getActualSQL(final RouteUnit routeUnit) {
+        return LOGIC_SQL.replace("t_order", routeUnit.getTableMappers().iterator().next().getActualName());
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void assertBatchExecutionUnits(final DriverExecuteBatchExecutor executor, final ExecutionUnit... expected) {
+        BatchPreparedStatementExecutor batchExecutor = (BatchPreparedStatementExecutor) Plugins.getMemberAccessor().get(
+                DriverExecuteBatchExecutor.class.getDeclaredField("batchPreparedStatementExecutor"), executor);
+        Collection<ExecutionUnit> actual = new ArrayList<>(batchExecutor.getBatchExecutionUnits().size());
+        for (BatchExecutionUnit each : batchExecutor.getBatchExecutionUnits()) {
+            actual.add(each.getExecutionUnit());
+        }
+        assertThat(actual, is(Arrays.asList(expected)));
+    }
+}
@@ -37,12 +37,18 @@ import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.util.json.JsonUtils;
 
 import javax.sql.DataSource;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -191,8 +197,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
             }
-            for (DataRecord each : dataRecords) {
-                executeUpdate(connection, each);
+            if (firstTimeRun) {
+                executeGroupedUpdateWithFallback(connection, dataRecords);
+            } else {
+                for (DataRecord each : dataRecords) {
+                    executeUpdate(connection, each);
+                }
             }
             if (transactionEnabled) {
                 connection.commit();
@@ -207,18 +217,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             runningStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
-                }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
-            }
+            setUpdateParameters(preparedStatement, setColumns, conditionColumns, shardingColumns);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
@@ -234,6 +233,74 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void executeGroupedUpdateWithFallback(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        try {
+            executeGroupedUpdate(connection, dataRecords);
+        } catch (final BatchUpdateException ex) {
+            log.warn("Batch update failed, fall back to update data records one by one, batch size: {}", dataRecords.size());
+            connection.rollback();
+            for (DataRecord each : dataRecords) {
+                executeUpdate(connection, each);
+            }
+        }
+    }
+    
+    private void executeGroupedUpdate(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> sqlGroupedDataRecords = new LinkedHashMap<>(dataRecords.size(), 1F);
+        for (DataRecord each : dataRecords) {
+            String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(each.getTableName()).orElse(null), each,
+                    RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName())));
+            sqlGroupedDataRecords.computeIfAbsent(sql, key -> new ArrayList<>()).add(each);
+        }
+        for (Entry<String, List<DataRecord>> entry : sqlGroupedDataRecords.entrySet()) {
+            if (1 == entry.getValue().size()) {
+                executeUpdate(connection, entry.getValue().get(0));
+            } else {
+                executeBatchUpdate(connection, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String sql, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                Set<String> shardingColumns = importerConfig.getShardingColumns(each.getTableName());
+                List<Column> setColumns = each.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+                setUpdateParameters(preparedStatement, setColumns, RecordUtils.extractConditionColumns(each, shardingColumns), shardingColumns);
+                preparedStatement.addBatch();
+            }
+            int[] updateCounts = preparedStatement.executeBatch();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("Batch update failed, update count: {}, sql: {}, data record: {}", updateCounts[i], sql, dataRecords.get(i));
+                }
+            }
+        } catch (final SQLException ex) {
+            log.error("execute batch update failed, sql: {}, batch size: {}, error message: {}", sql, dataRecords.size(), ex.getMessage());
+            throw ex;
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final List<Column> setColumns, final List<Column> conditionColumns,
+                                     final Set<String> shardingColumns) throws SQLException {
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+        }
+    }
+    
     private void executeBatchDelete(final Collection<DataRecord> dataRecords) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             boolean transactionEnabled = dataRecords.size() > 1;
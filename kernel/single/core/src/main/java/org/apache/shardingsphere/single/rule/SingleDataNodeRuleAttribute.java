@@ -54,6 +54,11 @@ public final class SingleDataNodeRuleAttribute implements DataNodeRuleAttribute
         return false;
     }
     
+    @Override
+    public boolean isGlobalUniqueKey(final String logicTable, final Collection<String> keyColumnNames) {
+        return true;
+    }
+    
     @Override
     public Optional<String> findLogicTableByActualTable(final String actualTable) {
         return Optional.empty();
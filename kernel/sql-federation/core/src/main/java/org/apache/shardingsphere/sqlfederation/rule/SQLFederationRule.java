@@ -18,14 +18,17 @@
 package org.apache.shardingsphere.sqlfederation.rule;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.constant.SQLFederationOrder;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.TableStatisticsRefresher;
 
 import java.util.Collection;
+import java.util.Properties;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -36,16 +39,24 @@ public final class SQLFederationRule implements GlobalRule {
     
     private final SQLFederationRuleConfiguration configuration;
     
+    private final ConfigurationProperties props;
+    
     private final AtomicReference<OptimizerContext> optimizerContext;
     
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases) {
+        this(ruleConfig, databases, new ConfigurationProperties(new Properties()));
+    }
+    
+    public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         configuration = ruleConfig;
-        optimizerContext = new AtomicReference<>(OptimizerContextFactory.create(databases));
+        this.props = props;
+        optimizerContext = new AtomicReference<>(OptimizerContextFactory.create(databases, props));
     }
     
     @Override
     public void refresh(final Collection<ShardingSphereDatabase> databases, final GlobalRuleChangedType changedType) {
-        optimizerContext.set(OptimizerContextFactory.create(databases));
+        optimizerContext.set(OptimizerContextFactory.create(databases, props));
+        TableStatisticsRefresher.evict(databases);
     }
     
     /**
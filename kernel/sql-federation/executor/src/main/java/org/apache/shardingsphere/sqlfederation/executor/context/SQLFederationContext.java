@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.PrefetchEnumerable;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -35,6 +36,8 @@ public final class SQLFederationContext {
     
     private final Collection<ExecutionUnit> previewExecutionUnits = new LinkedList<>();
     
+    private final Collection<PrefetchEnumerable> prefetchEnumerables = new LinkedList<>();
+    
     private final boolean preview;
     
     private final QueryContext queryContext;
@@ -65,6 +65,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContex
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.SemiJoinReduction;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -75,7 +76,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -102,6 +105,8 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    private final Map<Integer, SemiJoinKeyCollector> semiJoinKeyCollectors = new ConcurrentHashMap<>();
+    
     @Override
     public Enumerable<Object> execute(final ShardingSphereTable table, final ScanExecutorContext scanContext) {
         String databaseName = executorContext.getCurrentDatabaseName();
@@ -110,46 +115,104 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         if (new SystemDatabase(databaseType).getSystemSchemas().contains(schemaName)) {
             return createMemoryEnumerable(databaseName, schemaName, table, databaseType);
         }
+        Optional<SemiJoinReduction> semiJoinReduction = scanContext.findSemiJoinReduction();
+        if (semiJoinReduction.isPresent() && semiJoinReduction.get().isProbe() && !federationContext.isPreview()) {
+            return createProbeEnumerable(federationContext.getMetaData().getDatabase(databaseName), scanContext, databaseType, semiJoinReduction.get());
+        }
         QueryContext queryContext = createQueryContext(federationContext.getMetaData(), scanContext, databaseType, federationContext.getQueryContext().isUseCache());
         ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, executorContext.getProps());
         if (federationContext.isPreview()) {
             federationContext.getPreviewExecutionUnits().addAll(executionContext.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return createJDBCEnumerable(queryContext, federationContext.getMetaData().getDatabase(databaseName), executionContext);
+        Enumerable<Object> result = createJDBCEnumerable(queryContext, federationContext.getMetaData().getDatabase(databaseName), executionContext);
+        if (!semiJoinReduction.isPresent()) {
+            return result;
+        }
+        SemiJoinKeyCollector semiJoinKeyCollector = new SemiJoinKeyCollector(semiJoinReduction.get().getKeyIndex());
+        semiJoinKeyCollectors.put(semiJoinReduction.get().getId(), semiJoinKeyCollector);
+        return semiJoinKeyCollector.collect(result);
     }
     
-    private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+    private Enumerable<Object> createProbeEnumerable(final ShardingSphereDatabase database, final ScanExecutorContext scanContext, final DatabaseType databaseType,
+                                                     final SemiJoinReduction semiJoinReduction) {
         return new AbstractEnumerable<Object>() {
             
-            @SneakyThrows
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(context);
-                // TODO pass grantee from proxy and jdbc adapter
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(
-                        database.getName(), context.getRouteContext(), executorContext.getConnectionOffsets(),
-                        context.getExecutionUnits(), new ExecutionGroupReportContext(federationContext.getProcessId(), database.getName()));
-                setParameters(executionGroupContext.getInputGroups());
-                ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
-                processEngine.executeSQL(executionGroupContext, federationContext.getQueryContext());
-                List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData(), database, executorContext.getProps(), federationContext.getQueryContext().getConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                SemiJoinKeyCollector semiJoinKeyCollector = semiJoinKeyCollectors.get(semiJoinReduction.getId());
+                if (null != semiJoinKeyCollector && semiJoinKeyCollector.isCompleted() && !semiJoinKeyCollector.isOverflowed() && semiJoinKeyCollector.getKeys().isEmpty()) {
+                    return new EmptyRowEnumerator();
+                }
+                String sql = null == semiJoinKeyCollector || !semiJoinKeyCollector.isCompleted() ? scanContext.getSql() : createProbeSQL(scanContext.getSql(), semiJoinReduction, semiJoinKeyCollector);
+                ScanExecutorContext probeScanContext = new ScanExecutorContext(scanContext.getRoot(), sql, scanContext.getParamIndexes());
+                QueryContext queryContext = createQueryContext(federationContext.getMetaData(), probeScanContext, databaseType, false);
+                ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, executorContext.getProps());
+                return createJDBCRowEnumerator(queryContext, database, prepare(database, executionContext));
+            }
+        };
+    }
+    
+    private String createProbeSQL(final String sql, final SemiJoinReduction semiJoinReduction, final SemiJoinKeyCollector semiJoinKeyCollector) {
+        try {
+            if (!semiJoinKeyCollector.isOverflowed()) {
+                return semiJoinReduction.createProbeSQL(semiJoinKeyCollector.getKeys());
+            }
+            Optional<Object> minKey = semiJoinKeyCollector.findMinKey();
+            Optional<Object> maxKey = semiJoinKeyCollector.findMaxKey();
+            return minKey.isPresent() && maxKey.isPresent() ? semiJoinReduction.createProbeSQL(minKey.get(), maxKey.get()) : sql;
+        } catch (final NumberFormatException ignored) {
+            return sql;
+        }
+    }
+    
+    private Enumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        AbstractEnumerable<Object> result = new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return createJDBCRowEnumerator(queryContext, database, prepare(database, context));
             }
         };
+        if (federationContext.getQueryContext().getConnectionContext().getTransactionContext().isInTransaction()) {
+            return result;
+        }
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(database, context);
+        PrefetchEnumerable prefetchEnumerable = new PrefetchEnumerable(
+                () -> createJDBCRowEnumerator(queryContext, database, executionGroupContext), getStatements(executionGroupContext.getInputGroups()), result);
+        federationContext.getPrefetchEnumerables().add(prefetchEnumerable);
+        prefetchEnumerable.start();
+        return prefetchEnumerable;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private ExecutionGroupContext<JDBCExecutionUnit> prepare(final ShardingSphereDatabase database, final ExecutionContext context) {
+        // TODO pass grantee from proxy and jdbc adapter
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(
+                database.getName(), context.getRouteContext(), executorContext.getConnectionOffsets(),
+                context.getExecutionUnits(), new ExecutionGroupReportContext(federationContext.getProcessId(), database.getName()));
+        computeConnectionOffsets(context);
+        setParameters(result.getInputGroups());
+        ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
+        processEngine.executeSQL(result, federationContext.getQueryContext());
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private Enumerator<Object> createJDBCRowEnumerator(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData(), database, executorContext.getProps(), federationContext.getQueryContext().getConnectionContext());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
     }
     
+    /*
+     * Connection offsets of data source advance by count of execution units, so that connections of scans never overlap even if scans are executed concurrently.
+     */
     private void computeConnectionOffsets(final ExecutionContext context) {
         for (ExecutionUnit each : context.getExecutionUnits()) {
-            if (executorContext.getConnectionOffsets().containsKey(each.getDataSourceName())) {
-                int connectionOffset = executorContext.getConnectionOffsets().get(each.getDataSourceName());
-                executorContext.getConnectionOffsets().put(each.getDataSourceName(), ++connectionOffset);
-            } else {
-                executorContext.getConnectionOffsets().put(each.getDataSourceName(), 0);
-            }
+            executorContext.getConnectionOffsets().merge(each.getDataSourceName(), 1, Integer::sum);
         }
     }
     
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Prefetch enumerable.
+ *
+ * <p>Rows of scan are fetched by prefetch executor as soon as prefetch started and buffered as bounded row batches, so that scans on different storage nodes overlap.
+ * Scan is executed by enumerating thread if prefetch executor has not started it yet, and delegate enumerable is used if rows are enumerated more than once.</p>
+ */
+public final class PrefetchEnumerable extends AbstractEnumerable<Object> {
+    
+    private static final int BATCH_SIZE = 256;
+    
+    private static final int BUFFER_BATCHES = 16;
+    
+    private static final long OFFER_TIMEOUT_MILLISECONDS = 100L;
+    
+    private static final List<Object> END_OF_ROWS = new ArrayList<>(0);
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors() * 2, ExecutorThreadFactoryBuilder.build("SQLFederation-prefetch-%d"));
+    
+    private final Supplier<Enumerator<Object>> enumeratorSupplier;
+    
+    private final Collection<Statement> statements;
+    
+    private final Enumerable<Object> delegate;
+    
+    private final AtomicBoolean started = new AtomicBoolean();
+    
+    private final AtomicBoolean enumerated = new AtomicBoolean();
+    
+    private final BlockingQueue<List<Object>> buffer = new ArrayBlockingQueue<>(BUFFER_BATCHES);
+    
+    private volatile Exception failure;
+    
+    private volatile boolean closed;
+    
+    public PrefetchEnumerable(final Supplier<Enumerator<Object>> enumeratorSupplier, final Collection<Statement> statements, final Enumerable<Object> delegate) {
+        this.enumeratorSupplier = enumeratorSupplier;
+        this.statements = statements;
+        this.delegate = delegate;
+    }
+    
+    /**
+     * Start prefetch.
+     */
+    public void start() {
+        try {
+            PREFETCH_EXECUTOR.execute(this::prefetch);
+        } catch (final RejectedExecutionException ignored) {
+        }
+    }
+    
+    private void prefetch() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        try (Enumerator<Object> enumerator = enumeratorSupplier.get()) {
+            List<Object> batch = new ArrayList<>(BATCH_SIZE);
+            while (!closed && enumerator.moveNext()) {
+                batch.add(enumerator.current());
+                if (BATCH_SIZE == batch.size()) {
+                    offer(batch);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                offer(batch);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+        } finally {
+            offer(END_OF_ROWS);
+        }
+    }
+    
+    private void offer(final List<Object> batch) {
+        boolean offered = false;
+        try {
+            while (!closed && !offered) {
+                offered = buffer.offer(batch, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public Enumerator<Object> enumerator() {
+        if (!enumerated.compareAndSet(false, true)) {
+            return delegate.enumerator();
+        }
+        return started.compareAndSet(false, true) ? enumeratorSupplier.get() : new PrefetchRowEnumerator();
+    }
+    
+    /**
+     * Close prefetch, statements are closed if scan is never started.
+     */
+    public void close() {
+        closed = true;
+        buffer.clear();
+        if (started.compareAndSet(false, true)) {
+            closeStatements();
+        }
+    }
+    
+    private void closeStatements() {
+        for (Statement each : statements) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    private final class PrefetchRowEnumerator implements Enumerator<Object> {
+        
+        private List<Object> currentBatch = Collections.emptyList();
+        
+        private int currentIndex;
+        
+        private Object currentRow;
+        
+        private boolean finished;
+        
+        @Override
+        public Object current() {
+            return currentRow;
+        }
+        
+        @SneakyThrows
+        @Override
+        public boolean moveNext() {
+            while (currentIndex >= currentBatch.size()) {
+                if (finished) {
+                    return false;
+                }
+                List<Object> batch = buffer.take();
+                if (END_OF_ROWS == batch) {
+                    finished = true;
+                    if (null != failure) {
+                        throw failure;
+                    }
+                    return false;
+                }
+                currentBatch = batch;
+                currentIndex = 0;
+            }
+            currentRow = currentBatch.get(currentIndex++);
+            return true;
+        }
+        
+        @Override
+        public void reset() {
+        }
+        
+        @Override
+        public void close() {
+            PrefetchEnumerable.this.close();
+            currentBatch = Collections.emptyList();
+            currentRow = null;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+/**
+ * Semi join key collector.
+ */
+@RequiredArgsConstructor
+public final class SemiJoinKeyCollector {
+    
+    private static final int MAX_KEY_COUNT = 1000;
+    
+    private final int keyIndex;
+    
+    @Getter
+    private final Collection<Object> keys = new LinkedHashSet<>();
+    
+    private Object minKey;
+    
+    private Object maxKey;
+    
+    private boolean rangeComparable = true;
+    
+    @Getter
+    private boolean overflowed;
+    
+    @Getter
+    private volatile boolean completed;
+    
+    /**
+     * Collect join keys while enumerating.
+     *
+     * @param enumerable build side enumerable
+     * @return enumerable which collects join keys
+     */
+    public Enumerable<Object> collect(final Enumerable<Object> enumerable) {
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return new KeyCollectEnumerator(enumerable.enumerator());
+            }
+        };
+    }
+    
+    private void add(final Object row) {
+        Object key = row instanceof Object[] ? ((Object[]) row)[keyIndex] : row;
+        if (null == key) {
+            return;
+        }
+        updateRange(key);
+        if (overflowed || keys.contains(key)) {
+            return;
+        }
+        if (keys.size() < MAX_KEY_COUNT) {
+            keys.add(key);
+        } else {
+            overflowed = true;
+            keys.clear();
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void updateRange(final Object key) {
+        if (!rangeComparable) {
+            return;
+        }
+        if (!(key instanceof Number) || !(key instanceof Comparable) || null != minKey && minKey.getClass() != key.getClass()) {
+            rangeComparable = false;
+            return;
+        }
+        if (null == minKey || ((Comparable) key).compareTo(minKey) < 0) {
+            minKey = key;
+        }
+        if (null == maxKey || ((Comparable) key).compareTo(maxKey) > 0) {
+            maxKey = key;
+        }
+    }
+    
+    /**
+     * Find min join key.
+     *
+     * @return min join key, empty if join keys are not numeric
+     */
+    public Optional<Object> findMinKey() {
+        return rangeComparable ? Optional.ofNullable(minKey) : Optional.empty();
+    }
+    
+    /**
+     * Find max join key.
+     *
+     * @return max join key, empty if join keys are not numeric
+     */
+    public Optional<Object> findMaxKey() {
+        return rangeComparable ? Optional.ofNullable(maxKey) : Optional.empty();
+    }
+    
+    @RequiredArgsConstructor
+    private final class KeyCollectEnumerator implements Enumerator<Object> {
+        
+        private final Enumerator<Object> delegate;
+        
+        @Override
+        public Object current() {
+            return delegate.current();
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (delegate.moveNext()) {
+                add(delegate.current());
+                return true;
+            }
+            completed = true;
+            return false;
+        }
+        
+        @Override
+        public void reset() {
+            delegate.reset();
+        }
+        
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
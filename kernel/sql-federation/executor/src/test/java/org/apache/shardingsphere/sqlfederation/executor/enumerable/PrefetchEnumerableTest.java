@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PrefetchEnumerableTest {
+    
+    @Test
+    void assertEnumeratePrefetchedRows() {
+        List<Object> rows = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        PrefetchEnumerable enumerable = new PrefetchEnumerable(() -> Linq4j.enumerator(rows), Collections.emptyList(), mock(Enumerable.class));
+        enumerable.start();
+        assertThat(toList(enumerable.enumerator()), is(rows));
+    }
+    
+    @Test
+    void assertEnumerateBeforePrefetchStarted() {
+        Enumerator<Object> enumerator = Linq4j.enumerator(Collections.singletonList(1));
+        PrefetchEnumerable enumerable = new PrefetchEnumerable(() -> enumerator, Collections.emptyList(), mock(Enumerable.class));
+        assertThat(enumerable.enumerator(), is(enumerator));
+    }
+    
+    @Test
+    void assertEnumerateMoreThanOnce() {
+        PrefetchEnumerable enumerable = new PrefetchEnumerable(() -> Linq4j.enumerator(Collections.singletonList(1)), Collections.emptyList(), Linq4j.asEnumerable(Collections.singletonList(2)));
+        enumerable.start();
+        assertThat(toList(enumerable.enumerator()), is(Collections.singletonList(1)));
+        assertThat(toList(enumerable.enumerator()), is(Collections.singletonList(2)));
+    }
+    
+    @Test
+    void assertEnumerateWithPrefetchFailure() {
+        PrefetchEnumerable enumerable = new PrefetchEnumerable(() -> {
+            throw new IllegalStateException("prefetch failure");
+        }, Collections.emptyList(), mock(Enumerable.class));
+        enumerable.start();
+        assertThrows(IllegalStateException.class, () -> toList(enumerable.enumerator()));
+    }
+    
+    @Test
+    void assertCloseBeforePrefetchStarted() throws SQLException {
+        Statement statement = mock(Statement.class);
+        new PrefetchEnumerable(() -> Linq4j.enumerator(Collections.emptyList()), Collections.singleton(statement), mock(Enumerable.class)).close();
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertCloseAfterEnumerated() throws SQLException {
+        Statement statement = mock(Statement.class);
+        PrefetchEnumerable enumerable = new PrefetchEnumerable(() -> Linq4j.enumerator(Collections.emptyList()), Collections.singleton(statement), mock(Enumerable.class));
+        enumerable.enumerator().close();
+        enumerable.close();
+        verify(statement, never()).close();
+    }
+    
+    private List<Object> toList(final Enumerator<Object> enumerator) {
+        List<Object> result = new ArrayList<>();
+        try (Enumerator<Object> each = enumerator) {
+            while (each.moveNext()) {
+                result.add(each.current());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SemiJoinKeyCollectorTest {
+    
+    @Test
+    void assertCollectDistinctKeys() {
+        SemiJoinKeyCollector collector = new SemiJoinKeyCollector(1);
+        Enumerable<Object> enumerable = Linq4j.asEnumerable(Arrays.asList(new Object[]{"foo", 2}, new Object[]{"bar", 1}, new Object[]{"foo_bar", 2}, new Object[]{"null", null}));
+        consume(collector.collect(enumerable).enumerator());
+        assertTrue(collector.isCompleted());
+        assertFalse(collector.isOverflowed());
+        assertThat(collector.getKeys(), is(new LinkedHashSet<>(Arrays.asList(2, 1))));
+        assertThat(collector.findMinKey(), is(Optional.of(1)));
+        assertThat(collector.findMaxKey(), is(Optional.of(2)));
+    }
+    
+    @Test
+    void assertCollectOverflowedKeys() {
+        SemiJoinKeyCollector collector = new SemiJoinKeyCollector(0);
+        Enumerable<Object> enumerable = Linq4j.asEnumerable(IntStream.range(0, 2000).mapToObj(each -> new Object[]{each}).collect(Collectors.toList()));
+        consume(collector.collect(enumerable).enumerator());
+        assertTrue(collector.isCompleted());
+        assertTrue(collector.isOverflowed());
+        assertTrue(collector.getKeys().isEmpty());
+        assertThat(collector.findMinKey(), is(Optional.of(0)));
+        assertThat(collector.findMaxKey(), is(Optional.of(1999)));
+    }
+    
+    @Test
+    void assertCollectCharacterKeysWithoutRange() {
+        SemiJoinKeyCollector collector = new SemiJoinKeyCollector(0);
+        consume(collector.collect(Linq4j.asEnumerable(Arrays.asList(new Object[]{"foo"}, new Object[]{"bar"}))).enumerator());
+        assertThat(collector.getKeys().size(), is(2));
+        assertFalse(collector.findMinKey().isPresent());
+        assertFalse(collector.findMaxKey().isPresent());
+    }
+    
+    @Test
+    void assertNotCompletedBeforeEnumerated() {
+        SemiJoinKeyCollector collector = new SemiJoinKeyCollector(0);
+        Enumerator<Object> enumerator = collector.collect(Linq4j.asEnumerable(Arrays.asList(new Object[]{1}, new Object[]{2}))).enumerator();
+        assertTrue(enumerator.moveNext());
+        assertFalse(collector.isCompleted());
+    }
+    
+    private void consume(final Enumerator<Object> enumerator) {
+        while (enumerator.moveNext()) {
+            enumerator.current();
+        }
+        enumerator.close();
+    }
+}
@@ -46,10 +46,21 @@ public final class OptimizerContextFactory {
      * @return created optimizer context
      */
     public static OptimizerContext create(final Collection<ShardingSphereDatabase> databases) {
+        return create(databases, new ConfigurationProperties(new Properties()));
+    }
+    
+    /**
+     * Create optimize context.
+     *
+     * @param databases databases
+     * @param props configuration properties
+     * @return created optimizer context
+     */
+    public static OptimizerContext create(final Collection<ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         Map<String, OptimizerParserContext> parserContexts = OptimizerParserContextFactory.create(databases);
         // TODO consider to use sqlParserRule in global rule
         SQLParserRule sqlParserRule = new SQLParserRuleBuilder().build(new DefaultSQLParserRuleConfigurationBuilder().build(), databases, new ConfigurationProperties(new Properties()));
-        Map<String, OptimizerMetaData> optimizerMetaData = OptimizerMetaDataFactory.create(databases);
+        Map<String, OptimizerMetaData> optimizerMetaData = OptimizerMetaDataFactory.create(databases, props);
         return new OptimizerContext(sqlParserRule, parserContexts, optimizerMetaData);
     }
 }
@@ -23,6 +23,7 @@ import lombok.NoArgsConstructor;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.schema.Schema;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
@@ -42,12 +43,13 @@ public final class OptimizerMetaDataFactory {
      * Create optimizer meta data map.
      *
      * @param databases databases
+     * @param props configuration properties
      * @return created optimizer planner context map
      */
-    public static Map<String, OptimizerMetaData> create(final Collection<ShardingSphereDatabase> databases) {
+    public static Map<String, OptimizerMetaData> create(final Collection<ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         Map<String, OptimizerMetaData> result = new CaseInsensitiveMap<>(databases.size(), 1F);
         for (ShardingSphereDatabase each : databases) {
-            result.put(each.getName(), create(each));
+            result.put(each.getName(), create(each, props));
         }
         return result;
     }
@@ -56,12 +58,13 @@ public final class OptimizerMetaDataFactory {
      * Create optimizer meta data.
      *
      * @param database database
+     * @param props configuration properties
      * @return created optimizer planner context
      */
-    public static OptimizerMetaData create(final ShardingSphereDatabase database) {
+    public static OptimizerMetaData create(final ShardingSphereDatabase database, final ConfigurationProperties props) {
         Map<String, Schema> schemas = new CaseInsensitiveMap<>();
         for (ShardingSphereSchema each : database.getAllSchemas()) {
-            schemas.put(each.getName(), new SQLFederationSchema(each.getName(), each, database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY));
+            schemas.put(each.getName(), new SQLFederationSchema(database, each, database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY, props));
         }
         return new OptimizerMetaData(schemas);
     }
@@ -25,15 +25,20 @@ import org.apache.calcite.rel.type.RelDataTypeImpl;
 import org.apache.calcite.schema.Table;
 import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.calcite.schema.impl.ViewTable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.TableStatisticsRefresher;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * SQL federation schema.
@@ -47,17 +52,26 @@ public final class SQLFederationSchema extends AbstractSchema {
     
     public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory);
+        tableMap = createTableMap(schema, protocolType, javaTypeFactory, table -> new SQLFederationStatistic());
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+    public SQLFederationSchema(final ShardingSphereDatabase database, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory,
+                               final ConfigurationProperties props) {
+        name = schema.getName();
+        boolean statisticsEnabled = props.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_ENABLED);
+        long refreshIntervalSeconds = props.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS);
+        tableMap = createTableMap(schema, protocolType, javaTypeFactory,
+                table -> new SQLFederationStatistic(database, table, statisticsEnabled ? new TableStatisticsRefresher(database, schema.getName(), table, refreshIntervalSeconds) : null));
+    }
+    
+    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory,
+                                              final Function<ShardingSphereTable, SQLFederationStatistic> statisticCreator) {
         Map<String, Table> result = new CaseInsensitiveMap<>(schema.getAllTables().size(), 1F);
         for (ShardingSphereTable each : schema.getAllTables()) {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
+                result.put(each.getName(), new SQLFederationTable(each, statisticCreator.apply(each), protocolType));
             }
         }
         return result;
@@ -51,6 +51,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.E
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.SemiJoinReduction;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
 
 import java.lang.reflect.Type;
@@ -113,6 +114,22 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
     }
     
+    /**
+     * Execute with semi join reduction.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes
+     * @param semiJoinReduction semi join reduction
+     * @return enumerable result
+     */
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final SemiJoinReduction semiJoinReduction) {
+        if (null == scanExecutor) {
+            return createEmptyEnumerable();
+        }
+        return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes, semiJoinReduction));
+    }
+    
     private AbstractEnumerable<Object> createEmptyEnumerable() {
         return new AbstractEnumerable<Object>() {
             
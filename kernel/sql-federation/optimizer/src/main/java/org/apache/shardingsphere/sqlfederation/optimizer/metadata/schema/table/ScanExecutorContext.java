@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.SemiJoinReduction;
+
+import java.util.Optional;
 
 /**
  * Scan executor context.
@@ -33,4 +37,20 @@ public final class ScanExecutorContext {
     private final String sql;
     
     private final int[] paramIndexes;
+    
+    @Getter(AccessLevel.NONE)
+    private final SemiJoinReduction semiJoinReduction;
+    
+    public ScanExecutorContext(final DataContext root, final String sql, final int[] paramIndexes) {
+        this(root, sql, paramIndexes, null);
+    }
+    
+    /**
+     * Find semi join reduction.
+     *
+     * @return found semi join reduction
+     */
+    public Optional<SemiJoinReduction> findSemiJoinReduction() {
+        return Optional.ofNullable(semiJoinReduction);
+    }
 }
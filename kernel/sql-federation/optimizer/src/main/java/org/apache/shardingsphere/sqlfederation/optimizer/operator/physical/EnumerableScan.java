@@ -24,6 +24,7 @@ import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
 import org.apache.calcite.adapter.enumerable.PhysType;
 import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
 import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
@@ -38,6 +39,7 @@ import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -53,26 +55,46 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     
     private final RelDataType pushDownRowType;
     
+    private final RelNode pushDownRelNode;
+    
+    private final SemiJoinReduction semiJoinReduction;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
-        super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
-        sqlString = createSQLString(pushDownRelNode, databaseType);
-        pushDownRowType = pushDownRelNode.getRowType();
+        this(cluster, traitSet, table, createSQLString(pushDownRelNode, databaseType), pushDownRelNode.getRowType(), pushDownRelNode, null);
     }
     
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+        this(cluster, traitSet, table, sqlString, pushDownRowType, null, null);
+    }
+    
+    private EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType,
+                           final RelNode pushDownRelNode, final SemiJoinReduction semiJoinReduction) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
         this.sqlString = sqlString;
         this.pushDownRowType = pushDownRowType;
+        this.pushDownRelNode = pushDownRelNode;
+        this.semiJoinReduction = semiJoinReduction;
+    }
+    
+    /**
+     * Create enumerable scan with semi join reduction.
+     *
+     * @param semiJoinReduction semi join reduction
+     * @return created enumerable scan
+     */
+    public EnumerableScan withSemiJoinReduction(final SemiJoinReduction semiJoinReduction) {
+        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType, pushDownRelNode, semiJoinReduction);
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType, pushDownRelNode, semiJoinReduction);
     }
     
     @Override
     public RelWriter explainTerms(final RelWriter relWriter) {
-        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters());
+        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters())
+                .itemIf("semiJoinReduction", null == semiJoinReduction ? null : (semiJoinReduction.isProbe() ? "probe" : "build") + "#" + semiJoinReduction.getId(), null != semiJoinReduction);
     }
     
     @Override
@@ -82,13 +104,19 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     
     @Override
     public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
-        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
         int[] paramIndexes = null == sqlString.getDynamicParameters() ? new int[]{} : getParamIndexes(sqlString.getDynamicParameters());
-        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", implementor.getRootExpression(),
-                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
+        List<Expression> arguments = new ArrayList<>(4);
+        arguments.add(implementor.getRootExpression());
+        arguments.add(Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")));
+        arguments.add(Expressions.constant(paramIndexes));
+        if (null != semiJoinReduction) {
+            arguments.add(implementor.stash(semiJoinReduction, SemiJoinReduction.class));
+        }
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
+        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", arguments)));
     }
     
-    private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
+    private static SqlString createSQLString(final RelNode scanContext, final String databaseType) {
         SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
         return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
     }
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Semi join reduction.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class SemiJoinReduction {
+    
+    private final int id;
+    
+    private final boolean probe;
+    
+    private final int keyIndex;
+    
+    @Getter(AccessLevel.NONE)
+    private final RelNode probeRelNode;
+    
+    @Getter(AccessLevel.NONE)
+    private final String databaseType;
+    
+    /**
+     * Create build side semi join reduction.
+     *
+     * @param id reduction id
+     * @param keyIndex join key index of build side scan
+     * @return created semi join reduction
+     */
+    public static SemiJoinReduction build(final int id, final int keyIndex) {
+        return new SemiJoinReduction(id, false, keyIndex, null, null);
+    }
+    
+    /**
+     * Create probe side semi join reduction.
+     *
+     * @param id reduction id
+     * @param keyIndex join key index of probe side scan
+     * @param probeRelNode push down rel node of probe side scan
+     * @param databaseType database type
+     * @return created semi join reduction
+     */
+    public static SemiJoinReduction probe(final int id, final int keyIndex, final RelNode probeRelNode, final String databaseType) {
+        return new SemiJoinReduction(id, true, keyIndex, probeRelNode, databaseType);
+    }
+    
+    /**
+     * Judge whether join key type is supported to be reduced.
+     *
+     * @param keyType join key type
+     * @return supported or not
+     */
+    public static boolean isSupportedKeyType(final RelDataType keyType) {
+        return SqlTypeUtil.isExactNumeric(keyType) || SqlTypeUtil.inCharFamily(keyType);
+    }
+    
+    /**
+     * Create SQL of probe side scan with join keys.
+     *
+     * @param keys distinct join keys of build side
+     * @return created SQL
+     */
+    public String createProbeSQL(final Collection<Object> keys) {
+        RexBuilder rexBuilder = probeRelNode.getCluster().getRexBuilder();
+        RexNode keyRef = rexBuilder.makeInputRef(probeRelNode, keyIndex);
+        List<RexNode> literals = new ArrayList<>(keys.size());
+        for (Object each : keys) {
+            literals.add(makeLiteral(rexBuilder, keyRef.getType(), each));
+        }
+        return createSQL(1 == literals.size() ? rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, keyRef, literals.get(0)) : rexBuilder.makeIn(keyRef, literals));
+    }
+    
+    /**
+     * Create SQL of probe side scan with join key range.
+     *
+     * @param minKey min join key of build side
+     * @param maxKey max join key of build side
+     * @return created SQL
+     */
+    public String createProbeSQL(final Object minKey, final Object maxKey) {
+        RexBuilder rexBuilder = probeRelNode.getCluster().getRexBuilder();
+        RexNode keyRef = rexBuilder.makeInputRef(probeRelNode, keyIndex);
+        return createSQL(rexBuilder.makeCall(SqlStdOperatorTable.AND, rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, keyRef, makeLiteral(rexBuilder, keyRef.getType(), minKey)),
+                rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN_OR_EQUAL, keyRef, makeLiteral(rexBuilder, keyRef.getType(), maxKey))));
+    }
+    
+    private RexNode makeLiteral(final RexBuilder rexBuilder, final RelDataType keyType, final Object key) {
+        RelDataType literalType = rexBuilder.getTypeFactory().createTypeWithNullability(keyType, false);
+        return SqlTypeUtil.isExactNumeric(keyType) ? rexBuilder.makeExactLiteral(new BigDecimal(key.toString()), literalType) : rexBuilder.makeLiteral(key.toString());
+    }
+    
+    private String createSQL(final RexNode condition) {
+        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
+        RelNode relNode = LogicalFilter.create(probeRelNode, condition);
+        return new RelToSqlConverter(sqlDialect).visitRoot(relNode).asStatement().toSqlString(sqlDialect).getSql().replace("u&'\\", "'\\u");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.SemiJoinReduction;
+
+import java.util.Arrays;
+
+/**
+ * Semi join reduction rel shuttle.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SemiJoinReductionRelShuttle extends RelShuttleImpl {
+    
+    private final String databaseType;
+    
+    private int reductionId;
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        RelNode result = super.visit(other);
+        return result instanceof EnumerableHashJoin ? reduce((EnumerableHashJoin) result) : result;
+    }
+    
+    /**
+     * Reduce semi join of hash joins.
+     *
+     * @param relNode rel node
+     * @param databaseType database type
+     * @return reduced rel node
+     */
+    public static RelNode reduce(final RelNode relNode, final String databaseType) {
+        return relNode.accept(new SemiJoinReductionRelShuttle(databaseType));
+    }
+    
+    private RelNode reduce(final EnumerableHashJoin join) {
+        if (JoinRelType.INNER != join.getJoinType() || !(join.getLeft() instanceof EnumerableScan) || !(join.getRight() instanceof EnumerableScan)) {
+            return join;
+        }
+        EnumerableScan probeScan = (EnumerableScan) join.getLeft();
+        EnumerableScan buildScan = (EnumerableScan) join.getRight();
+        if (null == probeScan.getPushDownRelNode() || null != probeScan.getSemiJoinReduction() || null != buildScan.getSemiJoinReduction() || !isBuildSideSmaller(probeScan, buildScan)) {
+            return join;
+        }
+        JoinInfo joinInfo = join.analyzeCondition();
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            int probeKeyIndex = joinInfo.leftKeys.get(i);
+            if (SemiJoinReduction.isSupportedKeyType(probeScan.getRowType().getFieldList().get(probeKeyIndex).getType())) {
+                int id = reductionId++;
+                EnumerableScan reducedProbeScan = probeScan.withSemiJoinReduction(SemiJoinReduction.probe(id, probeKeyIndex, probeScan.getPushDownRelNode(), databaseType));
+                EnumerableScan reducedBuildScan = buildScan.withSemiJoinReduction(SemiJoinReduction.build(id, joinInfo.rightKeys.get(i)));
+                return join.copy(join.getTraitSet(), Arrays.asList(reducedProbeScan, reducedBuildScan));
+            }
+        }
+        return join;
+    }
+    
+    private boolean isBuildSideSmaller(final EnumerableScan probeScan, final EnumerableScan buildScan) {
+        RelMetadataQuery metadataQuery = probeScan.getCluster().getMetadataQuery();
+        Double probeRowCount = metadataQuery.getRowCount(probeScan.getPushDownRelNode());
+        Double buildRowCount = null == buildScan.getPushDownRelNode() ? metadataQuery.getRowCount(buildScan) : metadataQuery.getRowCount(buildScan.getPushDownRelNode());
+        return null != probeRowCount && null != buildRowCount && buildRowCount <= probeRowCount;
+    }
+}
@@ -17,20 +17,91 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import com.cedarsoftware.util.CaseInsensitiveMap;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * SQL federation statistic.
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final List<ImmutableBitSet> keys;
+    
+    private final TableStatisticsRefresher refresher;
+    
+    public SQLFederationStatistic() {
+        keys = Collections.emptyList();
+        refresher = null;
+    }
+    
+    public SQLFederationStatistic(final ShardingSphereDatabase database, final ShardingSphereTable table, final TableStatisticsRefresher refresher) {
+        keys = createKeys(database, table);
+        this.refresher = refresher;
+    }
+    
+    private List<ImmutableBitSet> createKeys(final ShardingSphereDatabase database, final ShardingSphereTable table) {
+        Optional<DataNodeRuleAttribute> dataNodeRuleAttribute = database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class).stream()
+                .filter(each -> !each.getDataNodesByTableName(table.getName()).isEmpty()).findFirst();
+        if (!dataNodeRuleAttribute.isPresent()) {
+            return Collections.emptyList();
+        }
+        Map<String, Integer> columnIndexes = new CaseInsensitiveMap<>(table.getAllColumns().size(), 1F);
+        int columnIndex = 0;
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            columnIndexes.put(each.getName(), columnIndex++);
+        }
+        List<ImmutableBitSet> result = new ArrayList<>();
+        createGlobalKey(dataNodeRuleAttribute.get(), table, table.getPrimaryKeyColumns(), columnIndexes).ifPresent(result::add);
+        for (ShardingSphereIndex each : table.getAllIndexes()) {
+            if (each.isUnique()) {
+                createGlobalKey(dataNodeRuleAttribute.get(), table, each.getColumns(), columnIndexes).filter(optional -> !result.contains(optional)).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<ImmutableBitSet> createGlobalKey(final DataNodeRuleAttribute dataNodeRuleAttribute, final ShardingSphereTable table,
+                                                      final Collection<String> keyColumnNames, final Map<String, Integer> columnIndexes) {
+        if (keyColumnNames.isEmpty() || !keyColumnNames.stream().allMatch(columnIndexes::containsKey) || !dataNodeRuleAttribute.isGlobalUniqueKey(table.getName(), keyColumnNames)) {
+            return Optional.empty();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        keyColumnNames.forEach(each -> result.set(columnIndexes.get(each)));
+        return Optional.of(result.build());
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return null == refresher ? null : refresher.getStatistics().map(optional -> (double) optional.getRowCount()).orElse(null);
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        return keys.stream().anyMatch(columns::contains);
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect.DialectTableStatisticsLoader;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Table statistics collector.
+ */
+@Slf4j
+public final class TableStatisticsCollector {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final String schemaName;
+    
+    private final ShardingSphereTable table;
+    
+    public TableStatisticsCollector(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table) {
+        this.database = database;
+        this.schemaName = schemaName;
+        this.table = table;
+    }
+    
+    /**
+     * Collect table statistics.
+     *
+     * @return collected table statistics, empty if statistics of any data node of table are not available
+     */
+    public Optional<TableStatistics> collect() {
+        Optional<DataNodeRuleAttribute> dataNodeRuleAttribute = findDataNodeRuleAttribute();
+        if (!dataNodeRuleAttribute.isPresent()) {
+            return Optional.empty();
+        }
+        long rowCount = 0L;
+        for (DataNode each : getCollectedDataNodes(dataNodeRuleAttribute.get())) {
+            Optional<TableStatistics> statistics = collectDataNode(each);
+            if (!statistics.isPresent()) {
+                return Optional.empty();
+            }
+            rowCount += statistics.get().getRowCount();
+        }
+        return Optional.of(new TableStatistics(rowCount));
+    }
+    
+    private Optional<DataNodeRuleAttribute> findDataNodeRuleAttribute() {
+        return database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class).stream().filter(each -> !each.getDataNodesByTableName(table.getName()).isEmpty()).findFirst();
+    }
+    
+    private Collection<DataNode> getCollectedDataNodes(final DataNodeRuleAttribute dataNodeRuleAttribute) {
+        Collection<DataNode> result = dataNodeRuleAttribute.getDataNodesByTableName(table.getName());
+        return dataNodeRuleAttribute.isNeedAccumulate(Collections.singleton(table.getName())) ? result : Collections.singleton(result.iterator().next());
+    }
+    
+    private Optional<TableStatistics> collectDataNode(final DataNode dataNode) {
+        Optional<StorageUnit> storageUnit = findStorageUnit(dataNode.getDataSourceName());
+        if (!storageUnit.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<DialectTableStatisticsLoader> loader = DatabaseTypedSPILoader.findService(DialectTableStatisticsLoader.class, storageUnit.get().getStorageType());
+        if (!loader.isPresent()) {
+            return Optional.empty();
+        }
+        String actualSchemaName = null == dataNode.getSchemaName() || "*".equals(dataNode.getSchemaName()) ? schemaName : dataNode.getSchemaName();
+        try (Connection connection = storageUnit.get().getDataSource().getConnection()) {
+            return loader.get().load(connection, actualSchemaName, dataNode.getTableName());
+        } catch (final SQLException ex) {
+            log.warn("Collect statistics of data node `{}` failed, statistics of table `{}` is ignored.", dataNode.format(), table.getName(), ex);
+            return Optional.empty();
+        }
+    }
+    
+    private Optional<StorageUnit> findStorageUnit(final String dataSourceName) {
+        Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
+        if (storageUnits.containsKey(dataSourceName)) {
+            return Optional.of(storageUnits.get(dataSourceName));
+        }
+        for (DataSourceMapperRuleAttribute each : database.getRuleMetaData().getAttributes(DataSourceMapperRuleAttribute.class)) {
+            for (String actualDataSourceName : each.getDataSourceMapper().getOrDefault(dataSourceName, Collections.emptyList())) {
+                if (storageUnits.containsKey(actualDataSourceName)) {
+                    return Optional.of(storageUnits.get(actualDataSourceName));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
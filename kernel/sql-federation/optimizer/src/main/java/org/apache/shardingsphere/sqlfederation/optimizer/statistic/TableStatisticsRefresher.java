@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table statistics refresher.
+ */
+public final class TableStatisticsRefresher {
+    
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SQLFederationStatistics-%d").build());
+    
+    private static final Map<String, TableStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    private static final Map<String, Long> LAST_REFRESH_NANOS = new ConcurrentHashMap<>();
+    
+    private static final Collection<String> REFRESHING_KEYS = ConcurrentHashMap.newKeySet();
+    
+    private final String key;
+    
+    private final TableStatisticsCollector collector;
+    
+    private final long refreshIntervalNanos;
+    
+    public TableStatisticsRefresher(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table, final long refreshIntervalSeconds) {
+        this(getKey(database.getName(), schemaName, table.getName()), new TableStatisticsCollector(database, schemaName, table), refreshIntervalSeconds);
+    }
+    
+    TableStatisticsRefresher(final String key, final TableStatisticsCollector collector, final long refreshIntervalSeconds) {
+        this.key = key;
+        this.collector = collector;
+        refreshIntervalNanos = TimeUnit.SECONDS.toNanos(refreshIntervalSeconds);
+    }
+    
+    private static String getKey(final String databaseName, final String schemaName, final String tableName) {
+        return String.join(".", databaseName, schemaName, tableName).toLowerCase();
+    }
+    
+    /**
+     * Evict statistics of tables which are not in databases any more.
+     *
+     * @param databases databases
+     */
+    public static void evict(final Collection<ShardingSphereDatabase> databases) {
+        Collection<String> keys = new HashSet<>();
+        for (ShardingSphereDatabase each : databases) {
+            for (ShardingSphereSchema schema : each.getAllSchemas()) {
+                schema.getAllTables().forEach(table -> keys.add(getKey(each.getName(), schema.getName(), table.getName())));
+            }
+        }
+        STATISTICS.keySet().retainAll(keys);
+        LAST_REFRESH_NANOS.keySet().retainAll(keys);
+        REFRESHING_KEYS.retainAll(keys);
+    }
+    
+    /**
+     * Get table statistics.
+     *
+     * @return table statistics, empty if not collected yet
+     */
+    public Optional<TableStatistics> getStatistics() {
+        if (isRefreshRequired() && REFRESHING_KEYS.add(key)) {
+            submitRefresh();
+        }
+        return Optional.ofNullable(STATISTICS.get(key));
+    }
+    
+    private boolean isRefreshRequired() {
+        Long lastRefreshNanos = LAST_REFRESH_NANOS.get(key);
+        return null == lastRefreshNanos || System.nanoTime() - lastRefreshNanos >= refreshIntervalNanos;
+    }
+    
+    private void submitRefresh() {
+        try {
+            REFRESH_EXECUTOR.execute(this::refresh);
+        } catch (final RejectedExecutionException ex) {
+            REFRESHING_KEYS.remove(key);
+        }
+    }
+    
+    /**
+     * Refresh table statistics.
+     */
+    public void refresh() {
+        try {
+            collector.collect().ifPresent(optional -> STATISTICS.put(key, optional));
+        } finally {
+            LAST_REFRESH_NANOS.put(key, System.nanoTime());
+            REFRESHING_KEYS.remove(key);
+        }
+    }
+}
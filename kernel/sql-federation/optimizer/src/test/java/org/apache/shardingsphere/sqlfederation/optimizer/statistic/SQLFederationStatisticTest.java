@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationStatisticTest {
+    
+    @Test
+    void assertGetKeysWithGlobalUniqueKeys() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(mockDatabase(true), createTable(), null);
+        assertThat(actual.getKeys(), is(Arrays.asList(ImmutableBitSet.of(0), ImmutableBitSet.of(1, 2))));
+    }
+    
+    @Test
+    void assertGetKeysWithoutGlobalUniqueIndex() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(mockDatabase(false), createTable(), null);
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(0))));
+    }
+    
+    @Test
+    void assertGetKeysWithoutDataNodeRuleAttribute() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.emptyList());
+        assertTrue(new SQLFederationStatistic(database, createTable(), null).getKeys().isEmpty());
+    }
+    
+    @Test
+    void assertGetKeysWithoutDatabase() {
+        assertTrue(new SQLFederationStatistic().getKeys().isEmpty());
+    }
+    
+    @Test
+    void assertIsKey() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(mockDatabase(false), createTable(), null);
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 3)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(1, 2)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(3)));
+    }
+    
+    @Test
+    void assertGetRowCountWithoutStatistics() {
+        assertThat(new SQLFederationStatistic(mockDatabase(true), createTable(), null).getRowCount(), nullValue());
+    }
+    
+    @Test
+    void assertGetRowCountWithStatistics() {
+        TableStatisticsCollector collector = mock(TableStatisticsCollector.class);
+        when(collector.collect()).thenReturn(Optional.of(new TableStatistics(100L)));
+        TableStatisticsRefresher refresher = new TableStatisticsRefresher("foo_db.foo_schema.assert_get_row_count_with_statistics", collector, 300L);
+        refresher.refresh();
+        SQLFederationStatistic actual = new SQLFederationStatistic(mockDatabase(false), createTable(), refresher);
+        assertThat(actual.getRowCount(), is(100D));
+        assertFalse(actual.isKey(ImmutableBitSet.of(3)));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final boolean isUniqueIndexGlobal) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        DataNodeRuleAttribute dataNodeRuleAttribute = mock(DataNodeRuleAttribute.class);
+        when(dataNodeRuleAttribute.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_1.t_order_1")));
+        when(dataNodeRuleAttribute.isGlobalUniqueKey("t_order", Collections.singletonList("order_id"))).thenReturn(true);
+        when(dataNodeRuleAttribute.isGlobalUniqueKey("t_order", Arrays.asList("user_id", "item_id"))).thenReturn(isUniqueIndexGlobal);
+        when(result.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.singleton(dataNodeRuleAttribute));
+        return result;
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.BIGINT, false, false, false, true, false, false);
+        ShardingSphereColumn itemIdColumn = new ShardingSphereColumn("item_id", Types.BIGINT, false, false, false, true, false, false);
+        ShardingSphereColumn statusColumn = new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true);
+        return new ShardingSphereTable("t_order", Arrays.asList(orderIdColumn, userIdColumn, itemIdColumn, statusColumn),
+                Arrays.asList(new ShardingSphereIndex("user_item_idx", Arrays.asList("user_id", "item_id"), true), new ShardingSphereIndex("status_idx", Collections.singleton("status"), false)),
+                Collections.emptyList());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TableStatisticsCollectorTest {
+    
+    @Test
+    void assertCollectShardingTable() throws SQLException {
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit(10L));
+        storageUnits.put("ds_1", mockStorageUnit(20L));
+        Optional<TableStatistics> actual = new TableStatisticsCollector(mockDatabase(storageUnits, true), "foo_db", createTable()).collect();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(30L));
+        PreparedStatement preparedStatement = storageUnits.get("ds_1").getDataSource().getConnection().prepareStatement("SELECT TABLE_ROWS");
+        verify(preparedStatement).setString(1, "foo_catalog");
+        verify(preparedStatement).setString(2, "t_order_1");
+    }
+    
+    @Test
+    void assertCollectBroadcastTable() throws SQLException {
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit(10L));
+        storageUnits.put("ds_1", mockStorageUnit(10L));
+        Optional<TableStatistics> actual = new TableStatisticsCollector(mockDatabase(storageUnits, false), "foo_db", createTable()).collect();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(10L));
+        verify(storageUnits.get("ds_1").getDataSource().getConnection(), never()).getCatalog();
+    }
+    
+    @Test
+    void assertCollectWithoutDataNodes() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.emptyList());
+        assertFalse(new TableStatisticsCollector(database, "foo_db", createTable()).collect().isPresent());
+    }
+    
+    @Test
+    void assertCollectWithoutStorageUnit() {
+        assertFalse(new TableStatisticsCollector(mockDatabase(Collections.emptyMap(), true), "foo_db", createTable()).collect().isPresent());
+    }
+    
+    @Test
+    void assertCollectWithUnsupportedStorageType() throws SQLException {
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit(10L));
+        storageUnits.put("ds_1", mockStorageUnit(20L));
+        when(storageUnits.get("ds_1").getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        assertFalse(new TableStatisticsCollector(mockDatabase(storageUnits, true), "foo_db", createTable()).collect().isPresent());
+    }
+    
+    @Test
+    void assertCollectFailed() throws SQLException {
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit(10L));
+        storageUnits.put("ds_1", mock(StorageUnit.class, RETURNS_DEEP_STUBS));
+        when(storageUnits.get("ds_1").getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        when(storageUnits.get("ds_1").getDataSource().getConnection()).thenThrow(SQLException.class);
+        assertFalse(new TableStatisticsCollector(mockDatabase(storageUnits, true), "foo_db", createTable()).collect().isPresent());
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final Map<String, StorageUnit> storageUnits, final boolean isNeedAccumulate) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        DataNodeRuleAttribute dataNodeRuleAttribute = mock(DataNodeRuleAttribute.class);
+        when(dataNodeRuleAttribute.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_1.t_order_1")));
+        when(dataNodeRuleAttribute.isNeedAccumulate(Collections.singleton("t_order"))).thenReturn(isNeedAccumulate);
+        when(result.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.singleton(dataNodeRuleAttribute));
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(storageUnits);
+        return result;
+    }
+    
+    private StorageUnit mockStorageUnit(final long rowCount) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        Connection connection = result.getDataSource().getConnection();
+        when(connection.getCatalog()).thenReturn("foo_catalog");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(rowCount);
+        when(connection.prepareStatement(startsWith("SELECT TABLE_ROWS")).executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.BIGINT, false, false, false, true, false, false);
+        ShardingSphereColumn statusColumn = new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true);
+        return new ShardingSphereTable("t_order", Arrays.asList(orderIdColumn, userIdColumn, statusColumn),
+                Collections.singleton(new ShardingSphereIndex("user_id_idx", Collections.singleton("user_id"), false)), Collections.emptyList());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TableStatisticsRefresherTest {
+    
+    @Test
+    void assertEvictDroppedTable() {
+        TableStatisticsCollector existedCollector = mock(TableStatisticsCollector.class);
+        when(existedCollector.collect()).thenReturn(Optional.of(new TableStatistics(10L)));
+        TableStatisticsRefresher existedRefresher = new TableStatisticsRefresher("foo_db.foo_schema.t_existed", existedCollector, 300L);
+        existedRefresher.refresh();
+        TableStatisticsCollector droppedCollector = mock(TableStatisticsCollector.class);
+        when(droppedCollector.collect()).thenReturn(Optional.of(new TableStatistics(20L)), Optional.empty());
+        TableStatisticsRefresher droppedRefresher = new TableStatisticsRefresher("foo_db.foo_schema.t_dropped", droppedCollector, 300L);
+        droppedRefresher.refresh();
+        TableStatisticsRefresher.evict(Collections.singleton(mockDatabase()));
+        assertTrue(existedRefresher.getStatistics().isPresent());
+        assertFalse(droppedRefresher.getStatistics().isPresent());
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        when(schema.getName()).thenReturn("foo_schema");
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        when(table.getName()).thenReturn("T_EXISTED");
+        when(schema.getAllTables()).thenReturn(Collections.singleton(table));
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getAllSchemas()).thenReturn(Collections.singleton(schema));
+        return result;
+    }
+}
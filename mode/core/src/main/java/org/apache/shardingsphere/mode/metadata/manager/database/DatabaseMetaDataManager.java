@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
@@ -153,6 +154,7 @@ public final class DatabaseMetaDataManager {
         }
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
         alterAction.accept(database.getSchema(schemaName));
+        LocalMetaDataVersion.increase(databaseName);
         if (TableRefreshUtils.isSingleTable(tableOrViewName, database)) {
             database.reloadRules();
         }
@@ -191,6 +193,7 @@ public final class DatabaseMetaDataManager {
         } else {
             database.getSchema(schemaName).removeView(toBeDroppedTableOrViewName);
         }
+        LocalMetaDataVersion.increase(databaseName);
         database.getRuleMetaData().getAttributes(MutableDataNodeRuleAttribute.class).forEach(each -> each.remove(schemaName, toBeDroppedTableOrViewName));
         metaDataContexts.getMetaData().getGlobalRuleMetaData().getRules()
                 .forEach(each -> ((GlobalRule) each).refresh(metaDataContexts.getMetaData().getAllDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
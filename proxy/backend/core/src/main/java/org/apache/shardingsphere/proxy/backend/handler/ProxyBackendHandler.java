@@ -56,6 +56,16 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row values.
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    default Object[] getRowValues() throws SQLException {
+        return getRowData().getData().toArray();
+    }
+    
     /**
      * Close.
      *
@@ -83,4 +83,13 @@ public final class DatabaseAdminQueryBackendHandler implements ProxyBackendHandl
         }
         return new QueryResponseRow(result);
     }
+    
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        Object[] result = new Object[queryResultMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
 }
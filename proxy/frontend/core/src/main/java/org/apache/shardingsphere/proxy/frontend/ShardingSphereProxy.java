@@ -35,9 +35,11 @@ import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
@@ -59,6 +61,7 @@ public final class ShardingSphereProxy {
     public ShardingSphereProxy() {
         bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
         workerGroup = getWorkerGroup();
+        initUserExecutorGroup();
         Runtime.getRuntime().addShutdownHook(new Thread(this::close));
     }
     
@@ -67,6 +70,12 @@ public final class ShardingSphereProxy {
         return Epoll.isAvailable() ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads);
     }
     
+    private void initUserExecutorGroup() {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        UserExecutorGroup.getInstance().init(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMMAND_EXECUTOR_SIZE),
+                props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMMAND_EXECUTOR_VIRTUAL_THREAD_ENABLED));
+    }
+    
     /**
      * Start ShardingSphere-Proxy.
      *
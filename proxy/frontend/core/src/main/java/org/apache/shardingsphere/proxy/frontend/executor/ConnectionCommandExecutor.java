@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.util.TransactionUtils;
+import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Connection command executor.
+ *
+ * <p>
+ * Execute commands of one connection one by one in submitted order, and no thread is occupied while connection is idle.
+ * Commands run on user executor group which is shared by all connections.
+ * Commands of connection with distributed transaction type run on dedicated thread instead, and the thread keeps serving the commands of the session until the transaction ends,
+ * to ensure XA transaction framework processed by current thread id without occupying the shared executor.
+ * </p>
+ */
+public final class ConnectionCommandExecutor implements Executor {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final BlockingQueue<Runnable> commands = new LinkedBlockingQueue<>();
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    private volatile boolean shutdown;
+    
+    public ConnectionCommandExecutor(final ConnectionSession connectionSession) {
+        this.connectionSession = connectionSession;
+    }
+    
+    @Override
+    public void execute(final Runnable command) {
+        commands.offer(command);
+        scheduleNext();
+    }
+    
+    private void scheduleNext() {
+        if (commands.isEmpty() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        Runnable command = commands.poll();
+        if (null == command) {
+            running.set(false);
+            return;
+        }
+        boolean submitted = false;
+        try {
+            getExecutorService(command).execute(() -> runAndScheduleNext(command));
+            submitted = true;
+        } finally {
+            if (!submitted) {
+                running.set(false);
+            }
+        }
+    }
+    
+    private Executor getExecutorService(final Runnable command) {
+        return command instanceof CommandExecutorTask && isDistributedTransactionType()
+                ? UserExecutorGroup.getInstance().getDistributedTransactionExecutorService()
+                : UserExecutorGroup.getInstance().getExecutorService();
+    }
+    
+    private void runAndScheduleNext(final Runnable command) {
+        try {
+            command.run();
+            if (command instanceof CommandExecutorTask && isInDistributedTransaction()) {
+                runInDistributedTransaction();
+            }
+        } finally {
+            running.set(false);
+            scheduleNext();
+        }
+    }
+    
+    private void runInDistributedTransaction() {
+        try {
+            while (!shutdown && isInDistributedTransaction()) {
+                commands.take().run();
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private boolean isInDistributedTransaction() {
+        return connectionSession.getTransactionStatus().isInTransaction() && isDistributedTransactionType();
+    }
+    
+    private boolean isDistributedTransactionType() {
+        return TransactionType.isDistributedTransaction(TransactionUtils.getTransactionType(connectionSession.getConnectionContext().getTransactionContext()));
+    }
+    
+    /**
+     * Shutdown after submitted commands executed.
+     */
+    public void shutdown() {
+        execute(() -> shutdown = true);
+    }
+}
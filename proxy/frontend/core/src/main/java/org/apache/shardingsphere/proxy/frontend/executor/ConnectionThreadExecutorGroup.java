@@ -19,20 +19,17 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Connection thread executor group.
  *
  * <p>
- * Manage the thread for each connection session invoking.
- * This ensure XA transaction framework processed by current thread id.
+ * Manage the command executor for each connection session invoking.
+ * This ensure commands of connection executed in order, and XA transaction framework processed by current thread id.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,7 +37,7 @@ public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
-    private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private final Map<Integer, ConnectionCommandExecutor> executors = new ConcurrentHashMap<>();
     
     /**
      * Get connection thread executor group.
@@ -54,41 +51,31 @@ public final class ConnectionThreadExecutorGroup {
     /**
      * Register connection.
      *
-     * @param connectionId connection id
+     * @param connectionSession connection session
      */
-    public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
-    }
-    
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    public void register(final ConnectionSession connectionSession) {
+        executors.put(connectionSession.getConnectionId(), new ConnectionCommandExecutor(connectionSession));
     }
     
     /**
-     * Get executor service of connection.
+     * Get command executor of connection.
      *
      * @param connectionId connection id
-     * @return executor service of current connection
+     * @return command executor of current connection
      */
-    public ExecutorService get(final int connectionId) {
-        return executorServices.get(connectionId);
+    public ConnectionCommandExecutor get(final int connectionId) {
+        return executors.get(connectionId);
     }
     
     /**
-     * Unregister connection and await termination.
+     * Unregister connection and shutdown its command executor after submitted commands executed.
      *
      * @param connectionId connection id
      */
-    public void unregisterAndAwaitTermination(final int connectionId) {
-        ExecutorService executorService = executorServices.remove(connectionId);
-        if (null == executorService) {
-            return;
-        }
-        executorService.shutdown();
-        try {
-            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
-        } catch (final InterruptedException ignored) {
-            Thread.currentThread().interrupt();
+    public void unregister(final int connectionId) {
+        ConnectionCommandExecutor executor = executors.remove(connectionId);
+        if (null != executor) {
+            executor.shutdown();
         }
     }
 }
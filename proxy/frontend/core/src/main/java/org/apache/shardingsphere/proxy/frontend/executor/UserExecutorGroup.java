@@ -29,14 +29,19 @@ public final class UserExecutorGroup {
     
     private static final String NAME_FORMAT = "Command-%d";
     
+    private static final String DISTRIBUTED_TRANSACTION_NAME_FORMAT = "Command-XA-%d";
+    
     private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
     
     @Getter
-    private final ExecutorService executorService;
+    private volatile ExecutorService executorService;
+    
+    @Getter
+    private volatile ExecutorService distributedTransactionExecutorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
-        executorService = executorServiceManager.getExecutorService();
+        executorService = new ExecutorServiceManager(0, NAME_FORMAT).getExecutorService();
+        distributedTransactionExecutorService = new ExecutorServiceManager(0, DISTRIBUTED_TRANSACTION_NAME_FORMAT).getExecutorService();
     }
     
     /**
@@ -47,4 +52,21 @@ public final class UserExecutorGroup {
     public static UserExecutorGroup getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Initialize executor service.
+     *
+     * <p>Sessions of distributed transaction type run on unbounded executor service, because they hold thread until transaction end.</p>
+     *
+     * @param executorSize executor size, 0 means unbounded
+     * @param virtualThreadEnabled whether execute commands with virtual threads
+     */
+    public synchronized void init(final int executorSize, final boolean virtualThreadEnabled) {
+        ExecutorService previousExecutorService = executorService;
+        ExecutorService previousDistributedTransactionExecutorService = distributedTransactionExecutorService;
+        executorService = new ExecutorServiceManager(executorSize, NAME_FORMAT, virtualThreadEnabled).getExecutorService();
+        distributedTransactionExecutorService = new ExecutorServiceManager(0, DISTRIBUTED_TRANSACTION_NAME_FORMAT, virtualThreadEnabled).getExecutorService();
+        previousExecutorService.shutdown();
+        previousDistributedTransactionExecutorService.shutdown();
+    }
 }
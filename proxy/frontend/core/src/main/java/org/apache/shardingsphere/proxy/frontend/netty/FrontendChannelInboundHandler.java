@@ -34,6 +34,7 @@ import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngi
 import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -58,8 +59,8 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
         connectionSession.setConnectionId(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionSession);
     }
     
     @Override
@@ -100,11 +101,12 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
-        UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
+        Executor executor = ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
+        (null == executor ? UserExecutorGroup.getInstance().getExecutorService() : executor).execute(this::closeAllResources);
     }
     
     private void closeAllResources() {
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionSession.getConnectionId());
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionSession.getConnectionId());
         connectionSession.getDatabaseConnectionManager().closeAllResources();
         Optional.ofNullable(connectionSession.getProcessId()).ifPresent(processEngine::disconnect);
         databaseProtocolFrontendEngine.release(connectionSession);
@@ -19,15 +19,10 @@ package org.apache.shardingsphere.proxy.frontend.state.impl;
 
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
-import org.apache.shardingsphere.proxy.backend.util.TransactionUtils;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
-import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyState;
-import org.apache.shardingsphere.transaction.api.TransactionType;
-
-import java.util.concurrent.ExecutorService;
 
 /**
  * OK proxy state.
@@ -36,17 +31,7 @@ public final class OKProxyState implements ProxyState {
     
     @Override
     public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
-        ExecutorService executorService = determineSuitableExecutorService(connectionSession);
         context.channel().config().setAutoRead(false);
-        executorService.execute(new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message));
-    }
-    
-    private ExecutorService determineSuitableExecutorService(final ConnectionSession connectionSession) {
-        return requireOccupyThreadForConnection(connectionSession) ? ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId())
-                : UserExecutorGroup.getInstance().getExecutorService();
-    }
-    
-    private boolean requireOccupyThreadForConnection(final ConnectionSession connectionSession) {
-        return TransactionType.isDistributedTransaction(TransactionUtils.getTransactionType(connectionSession.getConnectionContext().getTransactionContext()));
+        ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId()).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message));
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionCommandExecutorTest {
+    
+    @Test
+    void assertExecuteInSubmittedOrder() throws InterruptedException {
+        ConnectionCommandExecutor executor = new ConnectionCommandExecutor(mock(ConnectionSession.class));
+        int commandCount = 200;
+        List<Integer> actual = new ArrayList<>(commandCount);
+        AtomicInteger runningCount = new AtomicInteger();
+        AtomicInteger maxRunningCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            int index = i;
+            executor.execute(() -> {
+                maxRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+                actual.add(index);
+                runningCount.decrementAndGet();
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        assertThat(actual, is(IntStream.range(0, commandCount).boxed().collect(Collectors.toList())));
+        assertThat(maxRunningCount.get(), is(1));
+    }
+    
+    @Test
+    void assertExecuteWithDistributedTransactionTypeOutOfTransaction() throws ExecutionException, InterruptedException, TimeoutException {
+        ConnectionCommandExecutor executor = new ConnectionCommandExecutor(mockConnectionSession("XA", new AtomicBoolean()));
+        assertThat(executeCommand(executor, () -> {
+        }).get(10L, TimeUnit.SECONDS), startsWith("ShardingSphere-Command-XA-"));
+        executor.shutdown();
+    }
+    
+    @Test
+    void assertExecuteInDistributedTransaction() throws ExecutionException, InterruptedException, TimeoutException {
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        ConnectionCommandExecutor executor = new ConnectionCommandExecutor(mockConnectionSession("XA", inTransaction));
+        String beginThreadName = executeCommand(executor, () -> inTransaction.set(true)).get(10L, TimeUnit.SECONDS);
+        assertThat(beginThreadName, startsWith("ShardingSphere-Command-XA-"));
+        assertThat(executeCommand(executor, () -> {
+        }).get(10L, TimeUnit.SECONDS), is(beginThreadName));
+        assertThat(executeCommand(executor, () -> inTransaction.set(false)).get(10L, TimeUnit.SECONDS), is(beginThreadName));
+        executor.shutdown();
+    }
+    
+    @Test
+    void assertExecuteWithMoreIdleDistributedTransactionsThanExecutorSize() throws ExecutionException, InterruptedException, TimeoutException {
+        UserExecutorGroup.getInstance().init(1, false);
+        try {
+            List<ConnectionCommandExecutor> executors = new ArrayList<>(3);
+            List<AtomicBoolean> inTransactions = new ArrayList<>(3);
+            List<String> beginThreadNames = new ArrayList<>(3);
+            for (int i = 0; i < 3; i++) {
+                AtomicBoolean inTransaction = new AtomicBoolean();
+                ConnectionCommandExecutor executor = new ConnectionCommandExecutor(mockConnectionSession("XA", inTransaction));
+                beginThreadNames.add(executeCommand(executor, () -> inTransaction.set(true)).get(10L, TimeUnit.SECONDS));
+                executors.add(executor);
+                inTransactions.add(inTransaction);
+            }
+            ConnectionCommandExecutor localExecutor = new ConnectionCommandExecutor(mockConnectionSession("LOCAL", new AtomicBoolean()));
+            assertThat(executeCommand(localExecutor, () -> {
+            }).get(10L, TimeUnit.SECONDS), is("ShardingSphere-Command-0"));
+            for (int i = 0; i < 3; i++) {
+                AtomicBoolean inTransaction = inTransactions.get(i);
+                assertThat(executeCommand(executors.get(i), () -> inTransaction.set(false)).get(10L, TimeUnit.SECONDS), is(beginThreadNames.get(i)));
+                executors.get(i).shutdown();
+            }
+            assertThat(beginThreadNames.stream().distinct().count(), is(3L));
+            localExecutor.shutdown();
+        } finally {
+            UserExecutorGroup.getInstance().init(0, false);
+        }
+    }
+    
+    @Test
+    void assertExecuteInLocalTransaction() throws ExecutionException, InterruptedException, TimeoutException {
+        ConnectionCommandExecutor executor = new ConnectionCommandExecutor(mockConnectionSession("LOCAL", new AtomicBoolean(true)));
+        assertThat(executeCommand(executor, () -> {
+        }).get(10L, TimeUnit.SECONDS), startsWith("ShardingSphere-Command-"));
+        executor.shutdown();
+    }
+    
+    private ConnectionSession mockConnectionSession(final String transactionType, final AtomicBoolean inTransaction) {
+        ConnectionSession result = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(result.getConnectionId()).thenReturn(1);
+        when(result.getConnectionContext().getTransactionContext().getTransactionType()).thenReturn(Optional.of(transactionType));
+        when(result.getTransactionStatus().isInTransaction()).thenAnswer(invocation -> inTransaction.get());
+        return result;
+    }
+    
+    private CompletableFuture<String> executeCommand(final ConnectionCommandExecutor executor, final Runnable action) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CommandExecutorTask command = mock(CommandExecutorTask.class);
+        doAnswer(invocation -> {
+            action.run();
+            return result.complete(Thread.currentThread().getName());
+        }).when(command).run();
+        executor.execute(command);
+        return result;
+    }
+}
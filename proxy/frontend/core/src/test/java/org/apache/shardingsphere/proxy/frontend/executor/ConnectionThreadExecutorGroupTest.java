@@ -17,26 +17,35 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ConnectionThreadExecutorGroupTest {
     
     @Test
     void assertRegister() {
         int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(mockConnectionSession(connectionId));
         assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionId);
     }
     
     @Test
     void assertUnregister() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(mockConnectionSession(connectionId));
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    private ConnectionSession mockConnectionSession(final int connectionId) {
+        ConnectionSession result = mock(ConnectionSession.class);
+        when(result.getConnectionId()).thenReturn(connectionId);
+        return result;
+    }
 }
@@ -41,8 +41,8 @@ class PostgreSQLFrontendEngineTest {
         when(connectionSession.getConnectionId()).thenReturn(connectionId);
         PostgreSQLPortalContextRegistry.getInstance().get(connectionId);
         PostgreSQLFrontendEngine frontendEngine = new PostgreSQLFrontendEngine();
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionSession);
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionId);
         frontendEngine.release(connectionSession);
         assertTrue(getPortalContexts().isEmpty());
     }
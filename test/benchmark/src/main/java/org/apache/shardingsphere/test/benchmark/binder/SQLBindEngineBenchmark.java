@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.binder;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.metadata.version.LocalMetaDataVersion;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for full bind path of {@link SQLBindEngine} including SQL statement context creation, with meta data of current or other database changed or not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SQLBindEngineBenchmark {
+    
+    @Param({"select", "join", "insert", "update"})
+    private String sqlType;
+    
+    @Param({"none", "current_database", "other_database"})
+    private String metaDataChanged;
+    
+    private BenchmarkEnvironment environment;
+    
+    private SQLStatement sqlStatement;
+    
+    private List<Object> params;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        environment = new BenchmarkEnvironment();
+        switch (sqlType) {
+            case "join":
+                sqlStatement = environment.parse("SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id = ?", true);
+                params = Arrays.asList(1, 10L);
+                break;
+            case "insert":
+                sqlStatement = environment.parse("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)", true);
+                params = Arrays.asList(10L, 1, "OK");
+                break;
+            case "update":
+                sqlStatement = environment.parse("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", true);
+                params = Arrays.asList("OK", 1, 10L);
+                break;
+            default:
+                sqlStatement = environment.parse("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", true);
+                params = Arrays.asList(1, 10L);
+                break;
+        }
+    }
+    
+    /**
+     * Benchmark bind.
+     *
+     * @return SQL statement context
+     */
+    @Benchmark
+    public SQLStatementContext bind() {
+        if ("current_database".equals(metaDataChanged)) {
+            LocalMetaDataVersion.increase(BenchmarkEnvironment.DATABASE_NAME);
+        } else if ("other_database".equals(metaDataChanged)) {
+            LocalMetaDataVersion.increase("other_db");
+        }
+        return environment.bind(sqlStatement, params);
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        environment.close();
+    }
+}
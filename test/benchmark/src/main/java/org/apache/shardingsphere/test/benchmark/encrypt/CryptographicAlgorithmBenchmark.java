@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.encrypt;
+
+import org.apache.shardingsphere.infra.algorithm.cryptographic.core.CryptographicAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for AES {@link CryptographicAlgorithm}, which measures decrypted cells per second with pooled ciphers,
+ * compared with looking up and initializing cipher for each cell.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CryptographicAlgorithmBenchmark {
+    
+    private static final int CELL_COUNT = 1000;
+    
+    private static final String AES_KEY = "123456abc";
+    
+    private CryptographicAlgorithm cryptographicAlgorithm;
+    
+    private SecretKeySpec secretKey;
+    
+    private List<Object> cipherValues;
+    
+    /**
+     * Set up.
+     *
+     * @throws GeneralSecurityException general security exception
+     */
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", AES_KEY);
+        props.setProperty("digest-algorithm-name", "SHA-1");
+        cryptographicAlgorithm = TypedSPILoader.getService(CryptographicAlgorithm.class, "AES", props);
+        secretKey = new SecretKeySpec(Arrays.copyOf(MessageDigest.getInstance("SHA-1").digest(AES_KEY.getBytes(StandardCharsets.UTF_8)), 16), "AES");
+        cipherValues = new ArrayList<>(CELL_COUNT);
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cipherValues.add(cryptographicAlgorithm.encrypt("user_" + i + "@example.com"));
+        }
+    }
+    
+    /**
+     * Benchmark decrypting cells one by one.
+     *
+     * @return decrypted character count
+     */
+    @Benchmark
+    @OperationsPerInvocation(CELL_COUNT)
+    public long decrypt() {
+        long result = 0L;
+        for (Object each : cipherValues) {
+            result += cryptographicAlgorithm.decrypt(each).toString().length();
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark decrypting cells with cipher looked up and initialized for each cell.
+     *
+     * @return decrypted character count
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(CELL_COUNT)
+    public long decryptWithUncachedCipher() throws GeneralSecurityException {
+        long result = 0L;
+        for (Object each : cipherValues) {
+            Cipher cipher = Cipher.getInstance("AES");
+            cipher.init(Cipher.DECRYPT_MODE, secretKey);
+            result += new String(cipher.doFinal(Base64.getDecoder().decode(each.toString())), StandardCharsets.UTF_8).length();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import com.google.common.io.ByteStreams;
+import lombok.Getter;
+import org.apache.shardingsphere.driver.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Benchmark environment.
+ *
+ * <p>Builds a sharding database on top of two in-memory H2 data sources, so that every stage of the kernel can be measured offline against real rules and meta data.
+ * Sharding cache, which includes route cache and SQL rewrite plan cache, can be enabled to compare with the uncached path.
+ * Extra props are appended to the props of configuration file.</p>
+ */
+@Getter
+public final class BenchmarkEnvironment implements AutoCloseable {
+    
+    public static final String DATABASE_NAME = "benchmark_db";
+    
+    private static final String CONFIG_FILE = "env/sharding.yaml";
+    
+    private static final String CONFIG_FILE_WITH_CACHE = "env/sharding-with-cache.yaml";
+    
+    private static final String[] ACTUAL_TABLE_DDL = {
+            "CREATE TABLE IF NOT EXISTS t_order_%d (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(50))",
+            "CREATE TABLE IF NOT EXISTS t_order_item_%d (item_id BIGINT PRIMARY KEY, order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(50))"};
+    
+    private final ShardingSphereDataSource dataSource;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    public BenchmarkEnvironment() throws SQLException, IOException {
+        this(false);
+    }
+    
+    public BenchmarkEnvironment(final boolean shardingCacheEnabled) throws SQLException, IOException {
+        this(shardingCacheEnabled, new Properties());
+    }
+    
+    public BenchmarkEnvironment(final boolean shardingCacheEnabled, final Properties props) throws SQLException, IOException {
+        for (int i = 0; i < 2; i++) {
+            createActualTables(String.format("jdbc:h2:mem:benchmark_ds_%d;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", i));
+        }
+        dataSource = (ShardingSphereDataSource) YamlShardingSphereDataSourceFactory.createDataSource(readConfig(shardingCacheEnabled ? CONFIG_FILE_WITH_CACHE : CONFIG_FILE, props));
+        try (Connection connection = dataSource.getConnection()) {
+            metaData = connection.unwrap(ShardingSphereConnection.class).getContextManager().getMetaDataContexts().getMetaData();
+        }
+        database = metaData.getDatabase(DATABASE_NAME);
+    }
+    
+    private void createActualTables(final String url) throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(url, "sa", "");
+                Statement statement = connection.createStatement()) {
+            for (String each : ACTUAL_TABLE_DDL) {
+                for (int i = 0; i < 2; i++) {
+                    statement.execute(String.format(each, i));
+                }
+            }
+            statement.execute("CREATE TABLE IF NOT EXISTS t_user (user_id INT PRIMARY KEY, user_name VARCHAR(50))");
+            statement.execute("CREATE TABLE IF NOT EXISTS t_config (config_id INT PRIMARY KEY, config_value VARCHAR(50))");
+        }
+    }
+    
+    private byte[] readConfig(final String configFile, final Properties props) throws IOException {
+        try (InputStream inputStream = Objects.requireNonNull(BenchmarkEnvironment.class.getClassLoader().getResourceAsStream(configFile))) {
+            StringBuilder result = new StringBuilder(new String(ByteStreams.toByteArray(inputStream), StandardCharsets.UTF_8));
+            for (String each : props.stringPropertyNames()) {
+                result.append("  ").append(each).append(": ").append(props.getProperty(each)).append(System.lineSeparator());
+            }
+            return result.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+    
+    /**
+     * Parse SQL with protocol type of benchmark database.
+     *
+     * @param sql SQL to be parsed
+     * @param useCache whether to use SQL statement cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql, final boolean useCache) {
+        return metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType()).parse(sql, useCache);
+    }
+    
+    /**
+     * Bind SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @param params parameters
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params) {
+        return new SQLBindEngine(metaData, DATABASE_NAME, new HintValueContext()).bind(sqlStatement, params);
+    }
+    
+    /**
+     * Create query context.
+     *
+     * @param sql SQL
+     * @param params parameters
+     * @return query context
+     */
+    public QueryContext createQueryContext(final String sql, final List<Object> params) {
+        return createQueryContext(bind(parse(sql, false), params), sql, params);
+    }
+    
+    /**
+     * Create query context.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param sql SQL
+     * @param params parameters
+     * @return query context
+     */
+    public QueryContext createQueryContext(final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params) {
+        return new QueryContext(sqlStatementContext, sql, params, new HintValueContext(), createConnectionContext(), metaData);
+    }
+    
+    /**
+     * Create connection context.
+     *
+     * @return connection context
+     */
+    public ConnectionContext createConnectionContext() {
+        ConnectionContext result = new ConnectionContext(Collections::emptyList);
+        result.setCurrentDatabaseName(DATABASE_NAME);
+        return result;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        dataSource.close();
+    }
+}
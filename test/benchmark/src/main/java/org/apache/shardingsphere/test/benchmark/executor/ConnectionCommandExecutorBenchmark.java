@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.executor;
+
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionCommandExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for {@link ConnectionCommandExecutor}, which compares serial command queue on shared executor with dedicated thread executor per connection.
+ *
+ * <p>Most connections are idle, and a small part of random connections execute a command which parks for a while to simulate round trip of storage unit.
+ * Run with {@code -prof gc} and watch live thread count of process to compare memory and context switch.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConnectionCommandExecutorBenchmark {
+    
+    private static final int ACTIVE_CONNECTION_COUNT = 256;
+    
+    private static final long COMMAND_BLOCKING_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    @Param({"10000", "50000"})
+    private int connectionCount;
+    
+    private ConnectionCommandExecutor[] serialExecutors;
+    
+    private ExecutorService[] dedicatedExecutors;
+    
+    private final Random random = new Random(0L);
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        serialExecutors = new ConnectionCommandExecutor[connectionCount];
+        dedicatedExecutors = new ExecutorService[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            // connection session is only read by client command task, which is not used by this benchmark
+            serialExecutors[i] = new ConnectionCommandExecutor(null);
+            int connectionId = i;
+            dedicatedExecutors[i] = new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(),
+                    runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        for (ConnectionCommandExecutor each : serialExecutors) {
+            each.shutdown();
+        }
+        for (ExecutorService each : dedicatedExecutors) {
+            each.shutdownNow();
+        }
+    }
+    
+    /**
+     * Benchmark commands executed by serial command queue on shared executor.
+     *
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    public void serialCommandQueue() throws InterruptedException {
+        execute(serialExecutors);
+    }
+    
+    /**
+     * Benchmark commands executed by dedicated thread executor per connection.
+     *
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    public void dedicatedThreadPerConnection() throws InterruptedException {
+        execute(dedicatedExecutors);
+    }
+    
+    private void execute(final Executor[] executors) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(ACTIVE_CONNECTION_COUNT);
+        for (int i = 0; i < ACTIVE_CONNECTION_COUNT; i++) {
+            executors[random.nextInt(connectionCount)].execute(() -> {
+                LockSupport.parkNanos(COMMAND_BLOCKING_NANOS);
+                latch.countDown();
+            });
+        }
+        latch.await();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.jdbc;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for JDBC prepared statement batch, with 1k and 10k rows spread over all shards.
+ * Batch execution plan can be disabled to compare with running the whole kernel for each added row.
+ *
+ * <p>Insert only measures adding rows to batch, because inserted rows would conflict with rows of previous invocations.
+ * Update adds rows and executes the batch against the in-memory H2 backends, where no row is matched.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreparedStatementBatchBenchmark {
+    
+    @Param({"1000", "10000"})
+    private int batchSize;
+    
+    @Param({"false", "true"})
+    private boolean shardingCacheEnabled;
+    
+    @Param({"false", "true"})
+    private boolean batchExecutionPlanEnabled;
+    
+    private BenchmarkEnvironment environment;
+    
+    private Connection connection;
+    
+    private PreparedStatement insertStatement;
+    
+    private PreparedStatement updateStatement;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.BATCH_EXECUTION_PLAN_ENABLED.getKey(), String.valueOf(batchExecutionPlanEnabled));
+        environment = new BenchmarkEnvironment(shardingCacheEnabled, props);
+        connection = environment.getDataSource().getConnection();
+        insertStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)");
+        updateStatement = connection.prepareStatement("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?");
+    }
+    
+    /**
+     * Benchmark adding insert rows to batch.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void addInsertBatch() throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            insertStatement.setLong(1, i);
+            insertStatement.setInt(2, i);
+            insertStatement.setString(3, "INIT");
+            insertStatement.addBatch();
+        }
+        insertStatement.clearBatch();
+    }
+    
+    /**
+     * Benchmark adding and executing update batch.
+     *
+     * @return update counts
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int[] executeUpdateBatch() throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            updateStatement.setString(1, "PAID");
+            updateStatement.setInt(2, i);
+            updateStatement.setLong(3, i);
+            updateStatement.addBatch();
+        }
+        return updateStatement.executeBatch();
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        updateStatement.close();
+        insertStatement.close();
+        connection.close();
+        environment.close();
+    }
+}
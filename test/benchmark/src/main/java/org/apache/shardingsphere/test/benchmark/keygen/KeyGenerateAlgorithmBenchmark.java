@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.keygen;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link KeyGenerateAlgorithm}, with single thread and contended generation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyGenerateAlgorithmBenchmark {
+    
+    private static final AlgorithmSQLContext ALGORITHM_SQL_CONTEXT = new AlgorithmSQLContext("benchmark_db", "benchmark_db", "t_order", "order_id");
+    
+    @Param({"SNOWFLAKE", "BATCH_SNOWFLAKE", "UUID"})
+    private String keyGenerateType;
+    
+    @Param({"1", "100", "5000"})
+    private int keyGenerateCount;
+    
+    private KeyGenerateAlgorithm keyGenerateAlgorithm;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        keyGenerateAlgorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, keyGenerateType);
+    }
+    
+    /**
+     * Benchmark generate keys with single thread.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    @Threads(1)
+    public Collection<? extends Comparable<?>> generateKeys() {
+        return keyGenerateAlgorithm.generateKeys(ALGORITHM_SQL_CONTEXT, keyGenerateCount);
+    }
+    
+    /**
+     * Benchmark generate keys with 64 contended threads.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    @Threads(64)
+    public Collection<? extends Comparable<?>> generateKeysContended() {
+        return keyGenerateAlgorithm.generateKeys(ALGORITHM_SQL_CONTEXT, keyGenerateCount);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.loadbalancer;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.ewma.EWMASQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for {@link LoadBalanceAlgorithm}, with one of three simulated read data sources much slower than others.
+ *
+ * <p>Use sample time mode to compare percentiles of response time, such as p99.</p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoadBalanceAlgorithmBenchmark {
+    
+    private static final List<String> READ_DATA_SOURCE_NAMES = Arrays.asList("benchmark_slow_read_ds", "benchmark_read_ds_1", "benchmark_read_ds_2");
+    
+    private static final long FAST_RESPONSE_NANOS = TimeUnit.MICROSECONDS.toNanos(200L);
+    
+    @Param({"ROUND_ROBIN", "EWMA"})
+    private String loadBalancerType;
+    
+    @Param("10")
+    private int slowFactor;
+    
+    private LoadBalanceAlgorithm loadBalanceAlgorithm;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, loadBalancerType);
+    }
+    
+    /**
+     * Benchmark read through load balancer with 16 concurrent threads.
+     *
+     * @return routed read data source name
+     */
+    @Benchmark
+    @Threads(16)
+    public String read() {
+        String result = loadBalanceAlgorithm.getTargetName("benchmark_db", "benchmark_readwrite_ds", READ_DATA_SOURCE_NAMES);
+        SQLExecutionHook sqlExecutionHook = new EWMASQLExecutionHook();
+        sqlExecutionHook.start("benchmark_db", result, "SELECT 1", Collections.emptyList(), null, true);
+        LockSupport.parkNanos(READ_DATA_SOURCE_NAMES.get(0).equals(result) ? FAST_RESPONSE_NANOS * slowFactor : FAST_RESPONSE_NANOS);
+        sqlExecutionHook.finishSuccess();
+        return result;
+    }
+}
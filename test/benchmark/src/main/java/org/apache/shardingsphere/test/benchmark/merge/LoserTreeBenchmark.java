@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.LoserTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for k-way merge of sorted inputs, which compares {@link LoserTree} used by order by stream merged result with {@link PriorityQueue}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoserTreeBenchmark {
+    
+    @Param({"8", "64", "512"})
+    private int inputCount;
+    
+    @Param("256")
+    private int rowCountPerInput;
+    
+    private long[][] inputs;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(inputCount);
+        inputs = new long[inputCount][];
+        for (int i = 0; i < inputCount; i++) {
+            inputs[i] = random.longs(rowCountPerInput).toArray();
+            Arrays.sort(inputs[i]);
+        }
+    }
+    
+    /**
+     * Benchmark merge with loser tree.
+     *
+     * @return checksum of merged values
+     */
+    @Benchmark
+    public long loserTree() {
+        LoserTree<SortedInput> loserTree = new LoserTree<>(createSortedInputs(), Comparator.naturalOrder());
+        long result = 0L;
+        while (!loserTree.isEmpty()) {
+            SortedInput winner = loserTree.peek();
+            result = result * 31L + winner.getCurrentValue();
+            loserTree.replaceWinner(winner.next() ? winner : null);
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark merge with priority queue.
+     *
+     * @return checksum of merged values
+     */
+    @Benchmark
+    public long priorityQueue() {
+        PriorityQueue<SortedInput> priorityQueue = new PriorityQueue<>(createSortedInputs());
+        long result = 0L;
+        while (!priorityQueue.isEmpty()) {
+            SortedInput winner = priorityQueue.poll();
+            result = result * 31L + winner.getCurrentValue();
+            if (winner.next()) {
+                priorityQueue.offer(winner);
+            }
+        }
+        return result;
+    }
+    
+    private List<SortedInput> createSortedInputs() {
+        List<SortedInput> result = new ArrayList<>(inputCount);
+        for (long[] each : inputs) {
+            result.add(new SortedInput(each));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedInput implements Comparable<SortedInput> {
+        
+        private final long[] values;
+        
+        private int position;
+        
+        long getCurrentValue() {
+            return values[position];
+        }
+        
+        boolean next() {
+            return ++position < values.length;
+        }
+        
+        @Override
+        public int compareTo(final SortedInput other) {
+            return Long.compare(values[position], other.values[other.position]);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ShardingDQLResultMerger}, with iterator, order by and group by stream merges of in-memory query results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShardingDQLResultMergerBenchmark {
+    
+    @Param({"iterator", "orderBy", "groupBy"})
+    private String mergeType;
+    
+    @Param({"2", "16", "64"})
+    private int shardCount;
+    
+    @Param("1000")
+    private int rowCountPerShard;
+    
+    private BenchmarkEnvironment environment;
+    
+    private ShardingDQLResultMerger resultMerger;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private ConnectionContext connectionContext;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        environment = new BenchmarkEnvironment();
+        resultMerger = new ShardingDQLResultMerger(environment.getDatabase().getProtocolType(), environment.getMetaData().getProps());
+        boolean groupBy = "groupBy".equals(mergeType);
+        sqlStatementContext = environment.createQueryContext(getSQL(), Collections.emptyList()).getSqlStatementContext();
+        connectionContext = environment.createConnectionContext();
+        queryResultMetaData = groupBy
+                ? new RawQueryResultMetaData(Arrays.asList(createColumnMetaData("user_id", Types.INTEGER), createColumnMetaData("order_count", Types.BIGINT)))
+                : new RawQueryResultMetaData(Arrays.asList(
+                        createColumnMetaData("order_id", Types.BIGINT), createColumnMetaData("user_id", Types.INTEGER), createColumnMetaData("status", Types.VARCHAR)));
+        shardRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardRows.add(groupBy ? createGroupByRows() : createRows(i));
+        }
+    }
+    
+    private String getSQL() {
+        switch (mergeType) {
+            case "orderBy":
+                return "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+            case "groupBy":
+                return "SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id";
+            default:
+                return "SELECT order_id, user_id, status FROM t_order";
+        }
+    }
+    
+    private RawQueryResultColumnMetaData createColumnMetaData(final String columnName, final int type) {
+        return new RawQueryResultColumnMetaData("t_order", columnName, columnName, type, "", 20, 0);
+    }
+    
+    private List<MemoryQueryResultDataRow> createRows(final int shardIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowCountPerShard);
+        for (int i = 0; i < rowCountPerShard; i++) {
+            result.add(new MemoryQueryResultDataRow(Arrays.asList((long) i * shardCount + shardIndex, i % 100, "OK")));
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultDataRow> createGroupByRows() {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowCountPerShard);
+        for (int i = 0; i < rowCountPerShard; i++) {
+            result.add(new MemoryQueryResultDataRow(Arrays.asList(i, 10L)));
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        MergedResult mergedResult = resultMerger.merge(queryResults, sqlStatementContext, environment.getDatabase(), connectionContext);
+        int columnCount = queryResultMetaData.getColumnCount();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        environment.close();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.PipelineDataSourceSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for applying incremental UPDATE records with {@link PipelineDataSourceSink}, measured in records per second against an in-memory H2 backend.
+ *
+ * <p>Batched write passes all records in one call, so records of the same shape are applied with one JDBC batch.
+ * Record by record write passes one record per call as baseline, so each record is applied with its own UPDATE statement.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineDataSourceSinkBenchmark {
+    
+    private static final int RECORD_COUNT = 1000;
+    
+    private static final String TABLE_NAME = "t_order";
+    
+    private PipelineDataSourceManager dataSourceManager;
+    
+    private PipelineDataSourceSink sink;
+    
+    private List<Record> records;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        Map<String, Object> poolProps = new HashMap<>(3, 1F);
+        poolProps.put("url", "jdbc:h2:mem:benchmark_pipeline_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        poolProps.put("username", "sa");
+        poolProps.put("password", "");
+        StandardPipelineDataSourceConfiguration dataSourceConfig = new StandardPipelineDataSourceConfiguration(poolProps);
+        dataSourceManager = new PipelineDataSourceManager();
+        createTable(dataSourceManager.getDataSource(dataSourceConfig));
+        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.singletonMap(new ShardingSphereIdentifier(TABLE_NAME), Collections.singleton("user_id")),
+                new TableAndSchemaNameMapper(Collections.emptyMap()), RECORD_COUNT, null, 0, 1);
+        sink = new PipelineDataSourceSink(importerConfig, dataSourceManager);
+        records = createUpdateRecords();
+    }
+    
+    private void createTable(final DataSource dataSource) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)")) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(50))");
+            statement.execute("TRUNCATE TABLE t_order");
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                preparedStatement.setLong(1, i);
+                preparedStatement.setInt(2, i % 10);
+                preparedStatement.setString(3, "INIT");
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    private List<Record> createUpdateRecords() {
+        List<Record> result = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+            dataRecord.addColumn(new NormalColumn("order_id", (long) i, (long) i, false, true));
+            dataRecord.addColumn(new NormalColumn("user_id", i % 10, i % 10, false, false));
+            dataRecord.addColumn(new NormalColumn("status", "INIT", "PAID", true, false));
+            result.add(dataRecord);
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark writing all update records in one call.
+     *
+     * @return update progress
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public PipelineJobUpdateProgress writeBatched() {
+        return sink.write("", records);
+    }
+    
+    /**
+     * Benchmark writing update records one by one.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public void writeRecordByRecord(final Blackhole blackhole) {
+        for (Record each : records) {
+            blackhole.consume(sink.write("", Collections.singletonList(each)));
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        sink.close();
+        dataSourceManager.close();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for encoding result set rows of bulk select into pooled byte buffer, which measures rows per second of MySQL text, MySQL binary and PostgreSQL data row packets.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultSetRowEncodeBenchmark {
+    
+    private static final int ROW_COUNT = 10000;
+    
+    private static final BinaryColumnType[] COLUMN_TYPES = {
+            MySQLBinaryColumnType.LONGLONG, MySQLBinaryColumnType.LONG, MySQLBinaryColumnType.VAR_STRING, MySQLBinaryColumnType.NEWDECIMAL, MySQLBinaryColumnType.TIMESTAMP};
+    
+    private Object[][] rows;
+    
+    private ByteBuf byteBuf;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        rows = new Object[ROW_COUNT][];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows[i] = new Object[]{(long) i, i % 1000, "user_name_" + i, BigDecimal.valueOf(i, 2), new Timestamp(now + i)};
+        }
+        byteBuf = PooledByteBufAllocator.DEFAULT.buffer(1024);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        byteBuf.release();
+    }
+    
+    /**
+     * Benchmark encoding MySQL text result set rows.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public long mysqlTextRow() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        long result = 0L;
+        for (Object[] each : rows) {
+            result += encode(new MySQLTextResultSetRowPacket(Arrays.asList(each)), payload);
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark encoding MySQL binary result set rows.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public long mysqlBinaryRow() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        long result = 0L;
+        for (Object[] each : rows) {
+            result += encode(new MySQLBinaryResultSetRowPacket(COLUMN_TYPES, each), payload);
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark encoding PostgreSQL data rows.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public long postgresqlDataRow() {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        long result = 0L;
+        for (Object[] each : rows) {
+            result += encode(new PostgreSQLDataRowPacket(Arrays.asList(each)), payload);
+        }
+        return result;
+    }
+    
+    private int encode(final DatabasePacket packet, final PacketPayload payload) {
+        byteBuf.clear();
+        packet.write(payload);
+        return byteBuf.readableBytes();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.rewrite;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link SQLRewriteEntry} with route SQL rewrite engine.
+ *
+ * <p>Single route DML is served by SQL rewrite plan cache if sharding cache is enabled, and multiple routes query always goes through all rewrite decorators and token generators.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SQLRewriteEngineBenchmark {
+    
+    @Param({"singleRoute", "multipleRoutes"})
+    private String routeType;
+    
+    @Param({"false", "true"})
+    private boolean shardingCacheEnabled;
+    
+    private BenchmarkEnvironment environment;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        environment = new BenchmarkEnvironment(shardingCacheEnabled);
+        queryContext = "multipleRoutes".equals(routeType)
+                ? environment.createQueryContext("SELECT order_id, user_id, status FROM t_order WHERE order_id IN (?, ?, ?, ?) ORDER BY order_id", Arrays.asList(10L, 11L, 12L, 13L))
+                : environment.createQueryContext("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.asList(1, 10L));
+        ShardingSphereDatabase database = environment.getDatabase();
+        routeContext = new SQLRouteEngine(database.getRuleMetaData().getRules(), environment.getMetaData().getProps())
+                .route(queryContext, environment.getMetaData().getGlobalRuleMetaData(), database);
+    }
+    
+    /**
+     * Benchmark rewrite.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return new SQLRewriteEntry(environment.getDatabase(), environment.getMetaData().getGlobalRuleMetaData(), environment.getMetaData().getProps()).rewrite(queryContext, routeContext);
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        environment.close();
+    }
+}
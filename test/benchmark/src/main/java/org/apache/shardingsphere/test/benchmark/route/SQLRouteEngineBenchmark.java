@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.route;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link SQLRouteEngine}, with standard, complex and broadcast routes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SQLRouteEngineBenchmark {
+    
+    @Param({"standard", "complex", "broadcast"})
+    private String routeType;
+    
+    @Param({"false", "true"})
+    private boolean shardingCacheEnabled;
+    
+    private BenchmarkEnvironment environment;
+    
+    private SQLRouteEngine sqlRouteEngine;
+    
+    private QueryContext queryContext;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        environment = new BenchmarkEnvironment(shardingCacheEnabled);
+        ShardingSphereDatabase database = environment.getDatabase();
+        sqlRouteEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), environment.getMetaData().getProps());
+        switch (routeType) {
+            case "complex":
+                queryContext = environment.createQueryContext(
+                        "SELECT o.order_id, u.user_name FROM t_order o JOIN t_user u ON o.user_id = u.user_id WHERE o.user_id = ? AND o.order_id = ?", Arrays.asList(1, 10L));
+                break;
+            case "broadcast":
+                queryContext = environment.createQueryContext("SELECT config_id, config_value FROM t_config WHERE config_id = ?", Collections.singletonList(1));
+                break;
+            default:
+                queryContext = environment.createQueryContext("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.asList(1, 10L));
+                break;
+        }
+    }
+    
+    /**
+     * Benchmark route.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return sqlRouteEngine.route(queryContext, environment.getMetaData().getGlobalRuleMetaData(), environment.getDatabase());
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        environment.close();
+    }
+}
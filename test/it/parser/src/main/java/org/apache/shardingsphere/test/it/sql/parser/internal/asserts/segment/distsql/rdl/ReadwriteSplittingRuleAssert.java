@@ -56,6 +56,7 @@ public final class ReadwriteSplittingRuleAssert {
             assertThat(assertContext.getText(String.format("`%s`'s readwrite-splitting rule segment assertion error: ",
                     actual.getClass().getSimpleName())), actual.getReadDataSources(), is(expected.getReadDataSources()));
             assertTransactionalReadQueryStrategy(assertContext, actual, expected);
+            assertThat(assertContext.getText("Max replication delay milliseconds assertion error"), actual.getMaxReplicationDelayMilliseconds(), is(expected.getMaxReplicationDelayMilliseconds()));
             assertLoadBalancer(assertContext, actual.getLoadBalancer(), expected.getLoadBalancer());
         }
     }
@@ -42,6 +42,9 @@ public final class ExceptedReadwriteSplittingRule extends AbstractExpectedIdenti
     @XmlAttribute(name = "transactional-read-query-strategy")
     private String transactionalReadQueryStrategy;
     
+    @XmlAttribute(name = "max-replication-delay-milliseconds")
+    private Long maxReplicationDelayMilliseconds;
+    
     @XmlElement(name = "load-balancer")
     private ExpectedAlgorithm loadBalancer;
 }
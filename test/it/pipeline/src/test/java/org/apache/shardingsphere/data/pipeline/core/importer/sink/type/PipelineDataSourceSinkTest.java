@@ -41,9 +41,11 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -57,6 +59,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -152,6 +156,43 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertBatchUpdateDataRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(Arrays.asList(getUpdateDataRecord(1, 20), getUpdateDataRecord(2, 30), new FinishedRecord(new IngestFinishedPosition())));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        importer.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement).setObject(1, 20);
+        verify(preparedStatement).setObject(1, 30);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    @Test
+    void assertBatchUpdateDataRecordsFallbackToUpdateOneByOne() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(Arrays.asList(getUpdateDataRecord(1, 20), getUpdateDataRecord(2, 30), new FinishedRecord(new IngestFinishedPosition())));
+        when(preparedStatement.executeBatch()).thenThrow(BatchUpdateException.class);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+        importer.run();
+        InOrder inOrder = inOrder(connection, preparedStatement);
+        inOrder.verify(preparedStatement).executeBatch();
+        inOrder.verify(connection).rollback();
+        inOrder.verify(preparedStatement, times(2)).executeUpdate();
+        inOrder.verify(connection).commit();
+    }
+    
+    private DataRecord getUpdateDataRecord(final int id, final int user) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        result.addColumn(new NormalColumn("id", id, id, false, true));
+        result.addColumn(new NormalColumn("user", 10, user, true, false));
+        result.addColumn(new NormalColumn("status", null, PipelineSQLOperationType.UPDATE, true, false));
+        return result;
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
         result.addColumn(new NormalColumn("id", 1, 2, true, true));